@@ -0,0 +1,30 @@
+package com.project.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * runs benchmarks with gc profiler, so every result has throughput together with allocation rate
+ * ("gc.alloc.rate.norm" is bytes allocated per operation). Results are also written to benchmarks.json.
+ * <p>
+ * usage: {@code mvn -pl benchmarks -am package -DskipTests && java -jar benchmarks/target/benchmarks.jar [jmh options]},
+ * e.g. {@code TaskMapping} to run only task benchmarks
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("benchmarks.json")
+                .build())
+                .run();
+    }
+
+}
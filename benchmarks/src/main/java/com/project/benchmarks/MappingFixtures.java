@@ -0,0 +1,205 @@
+package com.project.benchmarks;
+
+import com.project.projectservice.project.data.dto.ProjectRequestDto;
+import com.project.projectservice.tags.data.Tag;
+import com.project.projectservice.tags.data.dto.TagRequest;
+import com.project.taskservice.columns.data.Column;
+import com.project.taskservice.columns.data.dto.ColumnRequest;
+import com.project.taskservice.columns.data.dto.ColumnsTasksResponse;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.TaskCardResponse;
+import com.project.taskservice.tasks.data.dto.TaskRequest;
+import com.project.taskservice.tasks.data.enums.SecurityLevel;
+import com.project.taskservice.tasks.data.enums.Status;
+import com.project.userservice.user.data.User;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.modelmapper.ModelMapper;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * objects used by benchmarks. Sizes of task lists follow what busy boards have: few tags, long comment threads and
+ * some attachments
+ */
+public final class MappingFixtures {
+
+    private MappingFixtures() {
+    }
+
+    /**
+     * converter configured the same way spring boot configures it for repositories of services
+     */
+    public static MappingMongoConverter mappingMongoConverter() {
+        MongoCustomConversions customConversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(customConversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        MappingMongoConverter mappingMongoConverter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        mappingMongoConverter.setCustomConversions(customConversions);
+        mappingMongoConverter.afterPropertiesSet();
+
+        return mappingMongoConverter;
+    }
+
+    /**
+     * ModelMapper configured the same way task-service configured it before generated mappers replaced it
+     */
+    public static ModelMapper taskModelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setAmbiguityIgnored(true);
+        modelMapper.getConfiguration().setSkipNullEnabled(true);
+        modelMapper.typeMap(ColumnRequest.class, Column.class).addMappings(mapper -> {
+            mapper.skip(Column::setId);
+            mapper.skip(Column::setPosition);
+        });
+        modelMapper.typeMap(TaskRequest.class, Task.class).addMappings(mapper -> mapper.skip(Task::setPosition));
+        return modelMapper;
+    }
+
+    /**
+     * ModelMapper configured the same way project-service configured it before generated mappers replaced it
+     */
+    public static ModelMapper projectModelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setAmbiguityIgnored(true);
+        modelMapper.getConfiguration().setSkipNullEnabled(true);
+        modelMapper.typeMap(TagRequest.class, Tag.class).addMappings(mapper -> mapper.skip(Tag::setId));
+        return modelMapper;
+    }
+
+    public static TaskRequest taskRequest(int tags, int attachments) {
+        return TaskRequest.builder()
+                .title("Prepare release notes")
+                .description("Collect merged changes of the sprint and describe them for users")
+                .status(Status.STARTED)
+                .priority(3)
+                .position(4)
+                .assigneeId("6650f0c2a4b1d3e5f7a9c1e3")
+                .dueDate(LocalDateTime.now().plusDays(3))
+                .tags(strings("tag-", tags).stream().collect(Collectors.toCollection(HashSet::new)))
+                .attachments(strings("6650f0c2a4b1d3e5f7a9c1", attachments))
+                .timeEstimated(8)
+                .securityLevel(SecurityLevel.PROTECTED)
+                .columnId("6650f0c2a4b1d3e5f7a9c1e4")
+                .projectId("6650f0c2a4b1d3e5f7a9c1e5")
+                .build();
+    }
+
+    public static Task task(int tags, int attachments) {
+        TaskRequest taskRequest = taskRequest(tags, attachments);
+
+        return Task.builder()
+                .id("6650f0c2a4b1d3e5f7a9c1e6")
+                .title(taskRequest.getTitle())
+                .description(taskRequest.getDescription())
+                .status(taskRequest.getStatus())
+                .priority(taskRequest.getPriority())
+                .position("V")
+                .assigneeId(taskRequest.getAssigneeId())
+                .createdById("6650f0c2a4b1d3e5f7a9c1e7")
+                .dueDate(taskRequest.getDueDate())
+                .tags(taskRequest.getTags())
+                .commentCount(12)
+                .attachments(taskRequest.getAttachments())
+                .timeEstimated(taskRequest.getTimeEstimated())
+                .securityLevel(taskRequest.getSecurityLevel())
+                .columnId(taskRequest.getColumnId())
+                .projectId(taskRequest.getProjectId())
+                .build();
+    }
+
+    /**
+     * @return board as {@code GET /columns/project/{projectId}} returns it, every column with next cursor
+     */
+    public static List<ColumnsTasksResponse> board(int columns, int tasksPerColumn) {
+        TaskRequest taskRequest = taskRequest(3, 0);
+
+        return IntStream.range(0, columns)
+                .mapToObj(column -> ColumnsTasksResponse.builder()
+                        .id("6650f0c2a4b1d3e5f7a9c3%02d".formatted(column))
+                        .columnName("Column " + column)
+                        .position(String.valueOf((char) ('B' + column)))
+                        .projectId(taskRequest.getProjectId())
+                        .createdById("6650f0c2a4b1d3e5f7a9c1e7")
+                        .tasks(IntStream.range(0, tasksPerColumn)
+                                .mapToObj(task -> TaskCardResponse.builder()
+                                        .id("6650f0c2a4b1d3e5f7a9%02d%02d".formatted(column, task))
+                                        .title(taskRequest.getTitle() + " " + task)
+                                        .status(Status.values()[task % Status.values().length])
+                                        .priority(task % 5)
+                                        .assigneeId(taskRequest.getAssigneeId())
+                                        .dueDate(taskRequest.getDueDate().plusHours(task))
+                                        .position("V%03d".formatted(task))
+                                        .tags(taskRequest.getTags())
+                                        .version((long) task)
+                                        .build())
+                                .collect(Collectors.toCollection(ArrayList::new)))
+                        .nextTasksCursor("eyJrIjoicG9zaXRpb24iLCJkIjoxLCJ2IjoiVjAxOSIsImlkIjoiNjY1MGYwYzIifQ")
+                        .build())
+                .toList();
+    }
+
+    public static ProjectRequestDto projectRequest() {
+        return ProjectRequestDto.builder()
+                .name("Website redesign")
+                .description("New landing page, pricing page and documentation portal")
+                .memberIds(new HashSet<>(strings("6650f0c2a4b1d3e5f7a9c2", 8)))
+                .endDate(LocalDateTime.now().plusMonths(2))
+                .status("Started")
+                .build();
+    }
+
+    public static User user() {
+        return User.builder()
+                .id("6650f0c2a4b1d3e5f7a9c1e7")
+                .username("jane.doe")
+                .password("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z3Vv3bP5o6Z4dC1vZ2m6S1Ny")
+                .email("jane.doe@example.com")
+                .emailVerified(true)
+                .firstName("Jane")
+                .lastName("Doe")
+                .birthDate(LocalDate.of(1990, 5, 17))
+                .achievements(strings("achievement-", 12))
+                .points(1250)
+                .level(7)
+                .roles(List.of("ROLE_USER"))
+                .build();
+    }
+
+    /**
+     * @return document as it is stored in collection, written by the same converter repositories use
+     */
+    public static Document toDocument(MappingMongoConverter mappingMongoConverter, Object entity) {
+        Document document = new Document();
+        mappingMongoConverter.write(entity, document);
+
+        return document;
+    }
+
+    /**
+     * @return bytes of document as driver receives them from server
+     */
+    public static RawBsonDocument toRawBson(Document document) {
+        return new RawBsonDocument(document, new DocumentCodec());
+    }
+
+    private static List<String> strings(String prefix, int count) {
+        return IntStream.range(0, count)
+                .mapToObj(index -> prefix + index)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.project.benchmarks;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.project.taskservice.columns.data.dto.ColumnsTasksResponse;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * board response encoded in every format served by task-service. Mappers are built the way spring boot builds them
+ * (dates as iso strings), so output matches what clients receive. Payload size of each format and board is reported
+ * by {@link PayloadSize} counter next to the scores
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadFormatBenchmark {
+
+    private static final TypeReference<List<ColumnsTasksResponse>> BOARD_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    /**
+     * columns and tasks per column: default board page and busy board loaded with larger limit
+     */
+    @Param({"5:20", "10:100"})
+    private String boardSize;
+
+    private ObjectMapper objectMapper;
+    private List<ColumnsTasksResponse> board;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] sizes = boardSize.split(":");
+
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .factory(factory(format))
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        board = MappingFixtures.board(Integer.parseInt(sizes[0]), Integer.parseInt(sizes[1]));
+        payload = objectMapper.writeValueAsBytes(board);
+    }
+
+    @Benchmark
+    public byte[] serialize(PayloadSize payloadSize) throws IOException {
+        byte[] serialized = objectMapper.writeValueAsBytes(board);
+        payloadSize.payloadBytes = serialized.length;
+        return serialized;
+    }
+
+    @Benchmark
+    public List<ColumnsTasksResponse> deserialize(PayloadSize payloadSize) throws IOException {
+        payloadSize.payloadBytes = payload.length;
+        return objectMapper.readValue(payload, BOARD_TYPE);
+    }
+
+    private static JsonFactory factory(String format) {
+        return switch (format) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        };
+    }
+
+    /**
+     * bytes written or read by one operation. Counted as events, so the value is reported as it is instead of being
+     * divided by time, and ends up in results of every benchmark as "payloadBytes"
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long payloadBytes;
+
+    }
+
+}
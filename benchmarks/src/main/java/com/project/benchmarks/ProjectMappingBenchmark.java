@@ -0,0 +1,67 @@
+package com.project.benchmarks;
+
+import com.project.projectservice.project.data.Project;
+import com.project.projectservice.project.data.dto.ProjectRequestDto;
+import com.project.projectservice.project.mappers.ProjectMapper;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private ProjectMapper projectMapper;
+    private MappingMongoConverter mappingMongoConverter;
+    private DocumentCodec documentCodec;
+    private ProjectRequestDto projectRequestDto;
+    private RawBsonDocument storedProject;
+
+    @Setup
+    public void setUp() {
+        modelMapper = MappingFixtures.projectModelMapper();
+        projectMapper = Mappers.getMapper(ProjectMapper.class);
+        mappingMongoConverter = MappingFixtures.mappingMongoConverter();
+        documentCodec = new DocumentCodec();
+        projectRequestDto = MappingFixtures.projectRequest();
+        storedProject = MappingFixtures.toRawBson(MappingFixtures.toDocument(mappingMongoConverter,
+                projectMapper.toProject(projectRequestDto)));
+    }
+
+    @Benchmark
+    public Project requestWithModelMapper() {
+        return modelMapper.map(projectRequestDto, Project.class);
+    }
+
+    @Benchmark
+    public Project requestWithGeneratedMapper() {
+        return projectMapper.toProject(projectRequestDto);
+    }
+
+    @Benchmark
+    public Project documentWithMongoConverter() {
+        return mappingMongoConverter.read(Project.class,
+                documentCodec.decode(storedProject.asBsonReader(), DecoderContext.builder().build()));
+    }
+
+}
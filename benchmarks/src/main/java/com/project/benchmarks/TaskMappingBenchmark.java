@@ -0,0 +1,104 @@
+package com.project.benchmarks;
+
+import com.project.taskservice.tasks.codecs.TaskCodec;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.TaskRequest;
+import com.project.taskservice.tasks.mappers.TaskMapper;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * mapping paths of task: request to entity on writes and stored document to entity on reads. Document paths start
+ * from raw bson, so decoding done by driver is part of measured work, {@link TaskCodec} reads entity from raw bson
+ * directly without intermediate document
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskMappingBenchmark {
+
+    /**
+     * tags and attachments of task: typical card and heavily used one
+     */
+    @Param({"3:1", "10:10"})
+    private String listSizes;
+
+    private ModelMapper modelMapper;
+    private TaskMapper taskMapper;
+    private MappingMongoConverter mappingMongoConverter;
+    private DocumentCodec documentCodec;
+    private TaskCodec taskCodec;
+    private TaskRequest taskRequest;
+    private RawBsonDocument storedTask;
+
+    @Setup
+    public void setUp() {
+        String[] sizes = listSizes.split(":");
+        int tags = Integer.parseInt(sizes[0]), attachments = Integer.parseInt(sizes[1]);
+
+        modelMapper = MappingFixtures.taskModelMapper();
+        taskMapper = Mappers.getMapper(TaskMapper.class);
+        mappingMongoConverter = MappingFixtures.mappingMongoConverter();
+        documentCodec = new DocumentCodec();
+        taskCodec = new TaskCodec();
+        taskRequest = MappingFixtures.taskRequest(tags, attachments);
+        storedTask = MappingFixtures.toRawBson(MappingFixtures.toDocument(mappingMongoConverter,
+                MappingFixtures.task(tags, attachments)));
+    }
+
+    @Benchmark
+    public Task requestWithModelMapper() {
+        return modelMapper.map(taskRequest, Task.class);
+    }
+
+    @Benchmark
+    public Task requestWithGeneratedMapper() {
+        return taskMapper.toTask(taskRequest);
+    }
+
+    @Benchmark
+    public Document bsonDecoding() {
+        return decode();
+    }
+
+    @Benchmark
+    public Task documentWithModelMapper() {
+        return modelMapper.map(decode(), Task.class);
+    }
+
+    @Benchmark
+    public Task documentWithMongoConverter() {
+        return mappingMongoConverter.read(Task.class, decode());
+    }
+
+    @Benchmark
+    public Task documentWithTaskCodec() {
+        return taskCodec.decode(storedTask.asBsonReader(), DecoderContext.builder().build());
+    }
+
+    private Document decode() {
+        return documentCodec.decode(storedTask.asBsonReader(), DecoderContext.builder().build());
+    }
+
+}
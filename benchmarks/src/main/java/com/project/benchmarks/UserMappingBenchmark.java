@@ -0,0 +1,66 @@
+package com.project.benchmarks;
+
+import com.project.userservice.user.data.User;
+import com.project.userservice.user.data.dto.response.UserResponse;
+import com.project.userservice.user.mappers.UserMapper;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UserMappingBenchmark {
+
+    private ModelMapper modelMapper;
+    private UserMapper userMapper;
+    private MappingMongoConverter mappingMongoConverter;
+    private DocumentCodec documentCodec;
+    private User user;
+    private RawBsonDocument storedUser;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapper();
+        userMapper = Mappers.getMapper(UserMapper.class);
+        mappingMongoConverter = MappingFixtures.mappingMongoConverter();
+        documentCodec = new DocumentCodec();
+        user = MappingFixtures.user();
+        storedUser = MappingFixtures.toRawBson(MappingFixtures.toDocument(mappingMongoConverter, user));
+    }
+
+    @Benchmark
+    public UserResponse responseWithModelMapper() {
+        return modelMapper.map(user, UserResponse.class);
+    }
+
+    @Benchmark
+    public UserResponse responseWithGeneratedMapper() {
+        return userMapper.toUserResponse(user);
+    }
+
+    @Benchmark
+    public User documentWithMongoConverter() {
+        return mappingMongoConverter.read(User.class,
+                documentCodec.decode(storedUser.asBsonReader(), DecoderContext.builder().build()));
+    }
+
+}
@@ -0,0 +1,18 @@
+package com.project.projectservice.config;
+
+import org.mapstruct.Builder;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.NullValueCheckStrategy;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * shared settings of generated mappers. Target is created by no-args constructor and only non-null source properties
+ * are copied, the same way ModelMapper with skipped nulls used before did it, so defaults of target stay when source
+ * property is null
+ */
+@MapperConfig(componentModel = "spring",
+        builder = @Builder(disableBuilder = true),
+        nullValueCheckStrategy = NullValueCheckStrategy.ALWAYS,
+        unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface MapStructConfig {
+}
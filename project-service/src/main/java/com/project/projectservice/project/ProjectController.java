@@ -1,6 +1,8 @@
 package com.project.projectservice.project;
 
 import com.project.projectservice.project.data.Project;
+import com.project.projectservice.project.data.dto.ProjectAccessCheckRequest;
+import com.project.projectservice.project.data.dto.ProjectAccessCheckResponse;
 import com.project.projectservice.project.data.dto.ProjectAccessDto;
 import com.project.projectservice.project.data.dto.ProjectQueryResponseDto;
 import com.project.projectservice.project.data.dto.ProjectRequestDto;
@@ -86,4 +88,9 @@ public class ProjectController {
         return projectService.getProjectAccessFeign(projectId, userId);
     }
 
+    @PostMapping("/feign/access:batch")
+    public List<ProjectAccessCheckResponse> getProjectAccessBatchFeign(@RequestBody List<ProjectAccessCheckRequest> accessCheckRequests) {
+        return projectService.getProjectAccessBatchFeign(accessCheckRequests);
+    }
+
 }
@@ -4,6 +4,8 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -11,6 +13,10 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Document(collection = "projects")
+@CompoundIndexes({
+        @CompoundIndex(name = "owner_position", def = "{'ownerId': 1, 'position': 1}"),
+        @CompoundIndex(name = "members", def = "{'memberIds': 1}")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
@@ -0,0 +1,18 @@
+package com.project.projectservice.project.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ProjectAccessCheckRequest {
+
+    private String projectId;
+
+    private String userId;
+
+}
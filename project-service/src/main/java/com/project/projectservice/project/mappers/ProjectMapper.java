@@ -0,0 +1,13 @@
+package com.project.projectservice.project.mappers;
+
+import com.project.projectservice.config.MapStructConfig;
+import com.project.projectservice.project.data.Project;
+import com.project.projectservice.project.data.dto.ProjectRequestDto;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MapStructConfig.class)
+public interface ProjectMapper {
+
+    Project toProject(ProjectRequestDto projectRequestDto);
+
+}
@@ -0,0 +1,20 @@
+package com.project.projectservice.project.service;
+
+import com.mongodb.WriteConcern;
+import com.project.projectservice.utils.FieldUpdate;
+import com.project.projectservice.utils.MongoBulkWriter.BulkUpdateResult;
+
+import java.util.List;
+
+public interface ProjectBulkRepository {
+
+    /**
+     * used for changing few fields of many projects in one round trip
+     *
+     * @param fieldUpdates represents updates of projects
+     * @param writeConcern represents write concern of the write, null to use the default one
+     * @return matched and modified projects
+     */
+    BulkUpdateResult bulkUpdate(List<FieldUpdate> fieldUpdates, WriteConcern writeConcern);
+
+}
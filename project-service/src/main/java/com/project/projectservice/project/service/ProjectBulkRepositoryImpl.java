@@ -0,0 +1,22 @@
+package com.project.projectservice.project.service;
+
+import com.mongodb.WriteConcern;
+import com.project.projectservice.project.data.Project;
+import com.project.projectservice.utils.FieldUpdate;
+import com.project.projectservice.utils.MongoBulkWriter;
+import com.project.projectservice.utils.MongoBulkWriter.BulkUpdateResult;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ProjectBulkRepositoryImpl implements ProjectBulkRepository {
+
+    private final MongoBulkWriter mongoBulkWriter;
+
+    @Override
+    public BulkUpdateResult bulkUpdate(List<FieldUpdate> fieldUpdates, WriteConcern writeConcern) {
+        return mongoBulkWriter.write(Project.class, fieldUpdates, writeConcern);
+    }
+
+}
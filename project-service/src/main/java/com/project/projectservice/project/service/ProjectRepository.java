@@ -4,9 +4,10 @@ import com.project.projectservice.project.data.Project;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
-public interface ProjectRepository extends MongoRepository<Project, String> {
+public interface ProjectRepository extends MongoRepository<Project, String>, ProjectBulkRepository {
 
     @Query(value = "{ $or: [ {ownerId: ?0}, {memberIds:  ?0} ] }")
     List<Project> findUserProjects(String userId);
@@ -17,4 +18,7 @@ public interface ProjectRepository extends MongoRepository<Project, String> {
 
     void deleteByIdAndOwnerId(String id, String ownerId);
 
+    @Query(value = "{ _id: { $in: ?0 } }", fields = "{ ownerId: 1, memberIds: 1 }")
+    List<Project> findProjectAccessByIdIn(Collection<String> projectIds);
+
 }
@@ -1,26 +1,35 @@
 package com.project.projectservice.project.service;
 
+import com.mongodb.WriteConcern;
 import com.project.projectservice.exceptions.DefaultException;
 import com.project.projectservice.exceptions.EntityNotFoundException;
 import com.project.projectservice.exceptions.ForbiddenException;
 import com.project.projectservice.feings.UserFeign;
 import com.project.projectservice.project.data.Project;
+import com.project.projectservice.project.data.dto.ProjectAccessCheckRequest;
+import com.project.projectservice.project.data.dto.ProjectAccessCheckResponse;
 import com.project.projectservice.project.data.dto.ProjectAccessDto;
 import com.project.projectservice.project.data.dto.ProjectQueryResponseDto;
 import com.project.projectservice.project.data.dto.ProjectRequestDto;
+import com.project.projectservice.project.mappers.ProjectMapper;
 import com.project.projectservice.tags.services.TagService;
+import com.project.projectservice.utils.FieldUpdate;
 import com.project.projectservice.utils.JwtUtils;
+import com.project.projectservice.utils.KafkaProducerService;
 import com.project.projectservice.utils.MongoQueryUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -30,9 +39,10 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final UserFeign userFeign;
     private final JwtUtils jwtUtils;
-    private final ModelMapper modelMapper;
+    private final ProjectMapper projectMapper;
     private final TagService tagService;
     private final MongoQueryUtils mongoQueryUtils;
+    private final KafkaProducerService kafkaProducerService;
 
     public List<ProjectQueryResponseDto> getUserProjects(String authorizationHeader) {
         String userId = getUserId(authorizationHeader);
@@ -45,7 +55,7 @@ public class ProjectService {
 
         int countUserProjects = projectRepository.countByOwnerId(userId);
 
-        Project mappedProject = modelMapper.map(projectRequestDto, Project.class);
+        Project mappedProject = projectMapper.toProject(projectRequestDto);
         mappedProject.setOwnerId(userId);
         mappedProject.setPosition(countUserProjects + 1);
 
@@ -59,8 +69,10 @@ public class ProjectService {
 
         Project project = getProjectByIdAndOwnerId(projectIdToUpdate, userId);
         Project projectToSave = updateProjectFromProjectRequestDto(project, projectRequestDto);
+        Project savedProject = projectRepository.save(projectToSave);
+        kafkaProducerService.sendProjectAccessChanged(projectIdToUpdate);
 
-        return projectRepository.save(projectToSave);
+        return savedProject;
     }
 
     public void deleteProjectById(String projectId, String authorizationHeader) {
@@ -69,17 +81,28 @@ public class ProjectService {
 
         List<Project> userProjects = projectRepository.findByOwnerId(userId);
 
-        List<Project> projectsToChangePosition = userProjects
+        List<FieldUpdate> positionUpdates = userProjects
                 .stream()
                 .filter(project -> project.getPosition() > obtainedProject.getPosition())
                 .peek(project -> project.setPosition(project.getPosition() - 1))
+                .map(project -> FieldUpdate.byId(project.getId()).inc("position", -1))
                 .toList();
 
-        projectRepository.saveAll(projectsToChangePosition);
+        projectRepository.bulkUpdate(positionUpdates, WriteConcern.ACKNOWLEDGED);
         tagService.deleteTagsByProjectId(obtainedProject.getId());
         projectRepository.deleteByIdAndOwnerId(obtainedProject.getId(), obtainedProject.getOwnerId());
+        kafkaProducerService.sendProjectAccessChanged(obtainedProject.getId());
     }
 
+    /**
+     * used for moving project of user to new position. Only positions are sent to database: projects between old and
+     * new position are shifted by one with $inc and moved project gets new position with $set, all in one bulk write
+     *
+     * @param projectId           represents project to move
+     * @param newPosition         represents new position of project
+     * @param authorizationHeader represents token of user
+     * @return projects which position was changed
+     */
     public List<Project> updateProjectPosition(String projectId, int newPosition, String authorizationHeader) {
         String userId = getUserId(authorizationHeader);
         Project obtainedProject = getProjectByIdAndOwnerId(projectId, userId);
@@ -87,12 +110,14 @@ public class ProjectService {
 
         List<Project> userProjects = projectRepository.findByOwnerId(userId);
         List<Project> projectsToChangePosition = new ArrayList<>();
+        List<FieldUpdate> positionUpdates = new ArrayList<>();
 
         if (newPosition > oldPosition) {
             for (Project project : userProjects) {
                 if (project.getPosition() > oldPosition && project.getPosition() <= newPosition) {
                     project.setPosition(project.getPosition() - 1);
                     projectsToChangePosition.add(project);
+                    positionUpdates.add(FieldUpdate.byId(project.getId()).inc("position", -1));
                 }
             }
         } else {
@@ -100,14 +125,17 @@ public class ProjectService {
                 if (project.getPosition() < oldPosition && project.getPosition() >= newPosition) {
                     project.setPosition(project.getPosition() + 1);
                     projectsToChangePosition.add(project);
+                    positionUpdates.add(FieldUpdate.byId(project.getId()).inc("position", 1));
                 }
             }
         }
 
         obtainedProject.setPosition(newPosition);
         projectsToChangePosition.add(obtainedProject);
+        positionUpdates.add(FieldUpdate.byId(obtainedProject.getId()).set("position", newPosition));
 
-        return projectRepository.saveAll(projectsToChangePosition);
+        projectRepository.bulkUpdate(positionUpdates, WriteConcern.ACKNOWLEDGED);
+        return projectsToChangePosition;
     }
 
     public Project addMembersToProject(String projectId, List<String> memberIds, String authorizationHeader) {
@@ -116,8 +144,10 @@ public class ProjectService {
 
         checkOwnerPermissionToProject(obtainedProject, userId);
         addMembersToProject(memberIds, obtainedProject);
+        Project savedProject = projectRepository.save(obtainedProject);
+        kafkaProducerService.sendProjectAccessChanged(projectId);
 
-        return projectRepository.save(obtainedProject);
+        return savedProject;
     }
 
     public Project deleteMembersFromProject(String projectId, List<String> memberIds, String authorizationHeader) {
@@ -126,8 +156,10 @@ public class ProjectService {
 
         checkOwnerPermissionToProject(obtainedProject, userId);
         deleteMembersFromProject(memberIds, obtainedProject);
+        Project savedProject = projectRepository.save(obtainedProject);
+        kafkaProducerService.sendProjectAccessChanged(projectId);
 
-        return projectRepository.save(obtainedProject);
+        return savedProject;
     }
 
     public Project changeProjectStatus(String projectId, String newStatus, String authorizationHeader) {
@@ -183,6 +215,47 @@ public class ProjectService {
         return new ProjectAccessDto(obtainedProject.getOwnerId(), obtainedProject.getMemberIds());
     }
 
+    /**
+     * resolves many (projectId, userId) pairs using single query that reads only owner and members of projects
+     *
+     * @param accessCheckRequests represents pairs to check
+     * @return access of every pair in the order of request
+     */
+    public List<ProjectAccessCheckResponse> getProjectAccessBatchFeign(List<ProjectAccessCheckRequest> accessCheckRequests) {
+        Set<String> projectIds = accessCheckRequests.stream()
+                .map(ProjectAccessCheckRequest::getProjectId)
+                .collect(Collectors.toSet());
+
+        Map<String, Project> projectsById = projectRepository.findProjectAccessByIdIn(projectIds)
+                .stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+
+        return accessCheckRequests.stream()
+                .map(accessCheckRequest -> buildProjectAccessCheckResponse(accessCheckRequest,
+                        projectsById.get(accessCheckRequest.getProjectId())))
+                .toList();
+    }
+
+    private ProjectAccessCheckResponse buildProjectAccessCheckResponse(ProjectAccessCheckRequest accessCheckRequest, Project project) {
+        ProjectAccessCheckResponse accessCheckResponse = ProjectAccessCheckResponse.builder()
+                .projectId(accessCheckRequest.getProjectId())
+                .userId(accessCheckRequest.getUserId())
+                .build();
+
+        if (project != null && hasAccessToProject(project, accessCheckRequest.getUserId())) {
+            accessCheckResponse.setAccessGranted(true);
+            accessCheckResponse.setOwnerId(project.getOwnerId());
+            accessCheckResponse.setMemberIds(project.getMemberIds());
+        }
+
+        return accessCheckResponse;
+    }
+
+    private boolean hasAccessToProject(Project project, String userId) {
+        return userId != null && (userId.equals(project.getOwnerId()) ||
+                (project.getMemberIds() != null && project.getMemberIds().contains(userId)));
+    }
+
     private void checkOwnerPermissionToProject(Project projectToCheck, String userId) {
         if (!projectToCheck.getOwnerId().equals(userId)) {
             throw new ForbiddenException("You do not have permission to change members to this project");
@@ -4,9 +4,14 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "tags")
+@CompoundIndexes({
+        @CompoundIndex(name = "project_name", def = "{'projectId': 1, 'name': 1}")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
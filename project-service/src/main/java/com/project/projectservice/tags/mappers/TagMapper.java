@@ -0,0 +1,15 @@
+package com.project.projectservice.tags.mappers;
+
+import com.project.projectservice.config.MapStructConfig;
+import com.project.projectservice.tags.data.Tag;
+import com.project.projectservice.tags.data.dto.TagRequest;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapStructConfig.class)
+public interface TagMapper {
+
+    @Mapping(target = "id", ignore = true)
+    Tag toTag(TagRequest tagRequest);
+
+}
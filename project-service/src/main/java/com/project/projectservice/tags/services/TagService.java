@@ -7,10 +7,10 @@ import com.project.projectservice.project.data.Project;
 import com.project.projectservice.project.service.ProjectRepository;
 import com.project.projectservice.tags.data.Tag;
 import com.project.projectservice.tags.data.dto.TagRequest;
+import com.project.projectservice.tags.mappers.TagMapper;
 import com.project.projectservice.utils.JwtUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -21,7 +21,7 @@ import java.util.List;
 public class TagService {
 
     private final TagRepository tagRepository;
-    private final ModelMapper modelMapper;
+    private final TagMapper tagMapper;
     private final JwtUtils jwtUtils;
     private final UserFeign userFeign;
     private final ProjectRepository projectRepository;
@@ -30,7 +30,7 @@ public class TagService {
         String userId = getUserIdByTokenUsingFeign(authorizationHeader);
         checkAccessToProject(tagRequest.getProjectId(), userId);
 
-        Tag mappedTag = modelMapper.map(tagRequest, Tag.class);
+        Tag mappedTag = tagMapper.toTag(tagRequest);
 
         log.info(mappedTag.toString());
         return tagRepository.save(mappedTag);
@@ -0,0 +1,202 @@
+package com.project.projectservice.utils;
+
+import com.project.projectservice.exceptions.TokenNotValidException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.keycloak.OAuth2Constants;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.KeycloakBuilder;
+import org.keycloak.representations.AccessTokenResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * keeps one client-credentials token per service and refreshes it in background before it expires.
+ * Callers that meet an empty or expired cache share the same in-flight request to keycloak
+ */
+@Component
+@Slf4j
+public class ClientCredentialsTokenManager {
+
+    private static final Duration EXPIRY_MARGIN = Duration.ofSeconds(5);
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final Keycloak keycloak;
+    private final Clock clock;
+    private final Duration refreshSkew;
+    private final ScheduledExecutorService refreshScheduler;
+    private final AtomicReference<CompletableFuture<CachedToken>> inFlightRefresh = new AtomicReference<>();
+    private final Timer refreshTimer;
+    private final Counter cacheHits;
+    private final Counter cacheMisses;
+
+    private volatile CachedToken cachedToken;
+    private volatile ScheduledFuture<?> scheduledRefresh;
+
+    @Autowired
+    public ClientCredentialsTokenManager(@Value("${keycloak.server-url}") String serverUrl,
+                                         @Value("${keycloak.realm}") String realm,
+                                         @Value("${keycloak.client-id}") String clientId,
+                                         @Value("${keycloak.client-secret}") String clientSecret,
+                                         @Value("${keycloak.scope:view_users}") String scope,
+                                         @Value("${keycloak.token-refresh-skew:30s}") Duration refreshSkew,
+                                         MeterRegistry meterRegistry) {
+        this(KeycloakBuilder.builder()
+                .realm(realm)
+                .serverUrl(serverUrl)
+                .clientId(clientId)
+                .clientSecret(clientSecret)
+                .scope(scope)
+                .grantType(OAuth2Constants.CLIENT_CREDENTIALS)
+                .build(), Clock.systemUTC(), refreshSkew, meterRegistry);
+    }
+
+    /**
+     * used by tests to replace keycloak and time
+     */
+    ClientCredentialsTokenManager(Keycloak keycloak, Clock clock, Duration refreshSkew, MeterRegistry meterRegistry) {
+        this.keycloak = keycloak;
+        this.clock = clock;
+        this.refreshSkew = refreshSkew;
+        this.refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "client-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.refreshTimer = Timer.builder("feign.client-token.refresh")
+                .description("time spent obtaining client-credentials token from keycloak")
+                .register(meterRegistry);
+        this.cacheHits = Counter.builder("feign.client-token.requests")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.cacheMisses = Counter.builder("feign.client-token.requests")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        Gauge.builder("feign.client-token.hit-ratio", this, ClientCredentialsTokenManager::getHitRatio)
+                .description("share of outgoing requests served with cached client token")
+                .register(meterRegistry);
+    }
+
+    /**
+     * used by feign interceptors to authorize outgoing requests
+     *
+     * @return valid access token of this service
+     */
+    public String getAccessToken() {
+        CachedToken token = cachedToken;
+
+        if (token != null && token.isUsableAt(clock.instant())) {
+            cacheHits.increment();
+            return token.value();
+        }
+
+        cacheMisses.increment();
+        try {
+            return refresh(false).join().value();
+        } catch (CompletionException exception) {
+            throw new TokenNotValidException("unable to obtain client token: %s".formatted(exception.getCause().getMessage()));
+        }
+    }
+
+    /**
+     * used for requesting new token, shared with callers that arrive while request is in flight. Caller that missed
+     * cache may start its refresh right after another one finished, so cached token is checked again before request
+     *
+     * @param force represents whether token is requested even when cached one is still usable
+     * @return future completed with token that is usable now
+     */
+    private CompletableFuture<CachedToken> refresh(boolean force) {
+        CompletableFuture<CachedToken> refresh = new CompletableFuture<>();
+        CompletableFuture<CachedToken> existingRefresh = inFlightRefresh.compareAndExchange(null, refresh);
+
+        if (existingRefresh != null) {
+            return existingRefresh;
+        }
+
+        try {
+            CachedToken token = cachedToken;
+            if (force || token == null || !token.isUsableAt(clock.instant())) {
+                token = refreshTimer.record(this::requestToken);
+                cachedToken = token;
+                scheduleRefresh(token);
+            }
+            refresh.complete(token);
+        } catch (RuntimeException exception) {
+            refresh.completeExceptionally(exception);
+        } finally {
+            inFlightRefresh.set(null);
+        }
+
+        return refresh;
+    }
+
+    private CachedToken requestToken() {
+        AccessTokenResponse accessToken = keycloak.tokenManager().grantToken();
+
+        if (accessToken == null || accessToken.getToken() == null) {
+            throw new TokenNotValidException("Invalid token");
+        }
+
+        return new CachedToken(accessToken.getToken(), clock.instant().plusSeconds(accessToken.getExpiresIn()));
+    }
+
+    private void scheduleRefresh(CachedToken token) {
+        long delay = Math.max(Duration.between(clock.instant(), token.expiresAt()).minus(refreshSkew).toMillis(), 1000L);
+
+        reschedule(delay);
+    }
+
+    private void refreshInBackground() {
+        try {
+            refresh(true).join();
+        } catch (CompletionException exception) {
+            log.warn("background refresh of client token failed, retrying in {}", RETRY_DELAY, exception.getCause());
+            reschedule(RETRY_DELAY.toMillis());
+        }
+    }
+
+    private synchronized void reschedule(long delayMillis) {
+        if (scheduledRefresh != null) {
+            scheduledRefresh.cancel(false);
+        }
+
+        scheduledRefresh = refreshScheduler.schedule(this::refreshInBackground, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private double getHitRatio() {
+        double hits = cacheHits.count(), total = hits + cacheMisses.count();
+
+        return total == 0 ? 0 : hits / total;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshScheduler.shutdownNow();
+        keycloak.close();
+    }
+
+    private record CachedToken(String value, Instant expiresAt) {
+
+        boolean isUsableAt(Instant moment) {
+            return moment.plus(EXPIRY_MARGIN).isBefore(expiresAt);
+        }
+
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.project.projectservice.utils;
+
+import lombok.Getter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * single field-level update of one document used by {@link MongoBulkWriter}. Only fields passed to
+ * {@link #set(String, Object)} and {@link #inc(String, Number)} are sent, the rest of document is left as is
+ */
+@Getter
+public class FieldUpdate {
+
+    private final Criteria criteria;
+    private final Update update = new Update();
+
+    private FieldUpdate(Criteria criteria) {
+        this.criteria = criteria;
+    }
+
+    /**
+     * @param id represents id of document to update
+     * @return update of document with given id
+     */
+    public static FieldUpdate byId(String id) {
+        return new FieldUpdate(Criteria.where("id").is(id));
+    }
+
+    /**
+     * used for applying update only when document still has expected value, e.g. the one it was read with
+     *
+     * @param field         represents field to check
+     * @param expectedValue represents value field should have
+     * @return this update
+     */
+    public FieldUpdate where(String field, Object expectedValue) {
+        criteria.and(field).is(expectedValue);
+        return this;
+    }
+
+    public FieldUpdate set(String field, Object value) {
+        update.set(field, value);
+        return this;
+    }
+
+    public FieldUpdate inc(String field, Number value) {
+        update.inc(field, value);
+        return this;
+    }
+
+}
@@ -0,0 +1,29 @@
+package com.project.projectservice.utils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaProducerService {
+
+    private final KafkaTemplate<String, String> producer;
+
+    @Value("${kafka.project-access-topic}")
+    private String topicProjectAccess;
+
+    /**
+     * used for notifying other services that project's owner or members were changed
+     *
+     * @param projectId represents changed project
+     */
+    public void sendProjectAccessChanged(String projectId) {
+        producer.send(topicProjectAccess, projectId, projectId);
+        log.info("access change of project '%s' was published".formatted(projectId));
+    }
+
+}
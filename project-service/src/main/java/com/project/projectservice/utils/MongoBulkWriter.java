@@ -0,0 +1,111 @@
+package com.project.projectservice.utils;
+
+import com.mongodb.WriteConcern;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.UpdateOneModel;
+import com.mongodb.client.model.WriteModel;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.convert.UpdateMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * sends field-level updates of many documents as unordered bulkWrite batches, so changing one field of N documents
+ * costs one round trip per batch instead of one replace of whole document per entity
+ */
+@Component
+public class MongoBulkWriter {
+
+    private final MongoTemplate mongoTemplate;
+    private final QueryMapper queryMapper;
+    private final UpdateMapper updateMapper;
+    private final MeterRegistry meterRegistry;
+    private final int maxBatchSize;
+
+    public MongoBulkWriter(MongoTemplate mongoTemplate, MeterRegistry meterRegistry,
+                           @Value("${mongo-bulk.max-batch-size:1000}") int maxBatchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.queryMapper = new QueryMapper(mongoTemplate.getConverter());
+        this.updateMapper = new UpdateMapper(mongoTemplate.getConverter());
+        this.meterRegistry = meterRegistry;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * used for applying field updates to documents of one collection
+     *
+     * @param entityClass  represents mapped class of updated documents
+     * @param fieldUpdates represents updates, each of them touches at most one document
+     * @param writeConcern represents write concern of the batches, null to use the one of collection
+     * @return matched and modified documents, both are 0 when write concern is unacknowledged
+     */
+    public BulkUpdateResult write(Class<?> entityClass, List<FieldUpdate> fieldUpdates, WriteConcern writeConcern) {
+        if (fieldUpdates.isEmpty()) {
+            return new BulkUpdateResult(true, 0, 0);
+        }
+
+        MongoPersistentEntity<?> persistentEntity = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(entityClass);
+        MongoCollection<Document> collection = mongoTemplate.getCollection(persistentEntity.getCollection());
+        if (writeConcern != null) {
+            collection = collection.withWriteConcern(writeConcern);
+        }
+
+        List<WriteModel<Document>> writeModels = fieldUpdates.stream()
+                .<WriteModel<Document>>map(fieldUpdate -> new UpdateOneModel<>(
+                        queryMapper.getMappedObject(fieldUpdate.getCriteria().getCriteriaObject(), persistentEntity),
+                        updateMapper.getMappedObject(fieldUpdate.getUpdate().getUpdateObject(), persistentEntity)))
+                .toList();
+
+        boolean acknowledged = true;
+        int matchedCount = 0, modifiedCount = 0;
+        for (int from = 0; from < writeModels.size(); from += maxBatchSize) {
+            List<WriteModel<Document>> batch = writeModels.subList(from, Math.min(from + maxBatchSize, writeModels.size()));
+            BulkWriteResult batchResult = writeBatch(collection, new ArrayList<>(batch));
+
+            if (batchResult.wasAcknowledged()) {
+                matchedCount += batchResult.getMatchedCount();
+                modifiedCount += batchResult.getModifiedCount();
+            } else {
+                acknowledged = false;
+            }
+        }
+
+        return new BulkUpdateResult(acknowledged, matchedCount, modifiedCount);
+    }
+
+    private BulkWriteResult writeBatch(MongoCollection<Document> collection, List<WriteModel<Document>> batch) {
+        String collectionName = collection.getNamespace().getCollectionName();
+        DistributionSummary.builder("mongo.bulk.operations")
+                .description("field updates sent in one bulkWrite batch")
+                .tag("collection", collectionName)
+                .register(meterRegistry)
+                .record(batch.size());
+
+        return Timer.builder("mongo.bulk.write")
+                .description("time spent writing one bulkWrite batch")
+                .tag("collection", collectionName)
+                .register(meterRegistry)
+                .record(() -> collection.bulkWrite(batch, new BulkWriteOptions().ordered(false)));
+    }
+
+    /**
+     * @param acknowledged  represents whether every batch was acknowledged by server
+     * @param matchedCount  represents documents matched by updates
+     * @param modifiedCount represents documents that were actually changed
+     */
+    public record BulkUpdateResult(boolean acknowledged, int matchedCount, int modifiedCount) {
+    }
+
+}
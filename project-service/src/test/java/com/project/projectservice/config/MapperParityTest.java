@@ -0,0 +1,85 @@
+package com.project.projectservice.config;
+
+import com.project.projectservice.project.data.Project;
+import com.project.projectservice.project.data.dto.ProjectRequestDto;
+import com.project.projectservice.project.mappers.ProjectMapper;
+import com.project.projectservice.tags.data.Tag;
+import com.project.projectservice.tags.data.dto.TagRequest;
+import com.project.projectservice.tags.mappers.TagMapper;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * generated mappers replaced ModelMapper, they should produce the same objects. ModelMapper is configured here the
+ * same way it was configured in {@link BeanConfig} before
+ */
+public class MapperParityTest {
+
+    /**
+     * defaults like createdAt are taken at the moment object is created, so they differ by few millis
+     */
+    private static final Comparator<LocalDateTime> SAME_MOMENT = Comparator.nullsFirst((first, second) ->
+            Duration.between(first, second).abs().compareTo(Duration.ofMinutes(1)) < 0 ? 0 : first.compareTo(second));
+
+    private final ModelMapper modelMapper = buildModelMapper();
+    private final ProjectMapper projectMapper = Mappers.getMapper(ProjectMapper.class);
+    private final TagMapper tagMapper = Mappers.getMapper(TagMapper.class);
+
+    @Test
+    void givenFullProjectRequest_whenMapped_thenResultIsSameAsModelMapper() {
+        ProjectRequestDto projectRequestDto = ProjectRequestDto.builder()
+                .name("project")
+                .description("description")
+                .memberIds(Set.of("member-id"))
+                .startDate(LocalDateTime.now().minusDays(1))
+                .endDate(LocalDateTime.now().plusDays(1))
+                .status("Started")
+                .build();
+
+        assertSameProject(projectRequestDto);
+    }
+
+    @Test
+    void givenProjectRequestWithNulls_whenMapped_thenDefaultsOfProjectAreKeptAsWithModelMapper() {
+        ProjectRequestDto projectRequestDto = new ProjectRequestDto();
+        projectRequestDto.setStartDate(null);
+
+        assertSameProject(projectRequestDto);
+    }
+
+    @Test
+    void givenTagRequest_whenMapped_thenIdIsNotTakenFromProjectIdAsWithModelMapper() {
+        TagRequest tagRequest = new TagRequest("tag", "project-id");
+
+        Tag mappedTag = tagMapper.toTag(tagRequest);
+
+        assertThat(mappedTag.getId()).isNull();
+        assertThat(mappedTag)
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(tagRequest, Tag.class));
+    }
+
+    private void assertSameProject(ProjectRequestDto projectRequestDto) {
+        assertThat(projectMapper.toProject(projectRequestDto))
+                .usingRecursiveComparison()
+                .withComparatorForType(SAME_MOMENT, LocalDateTime.class)
+                .isEqualTo(modelMapper.map(projectRequestDto, Project.class));
+    }
+
+    private static ModelMapper buildModelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setAmbiguityIgnored(true);
+        modelMapper.getConfiguration().setSkipNullEnabled(true);
+        modelMapper.typeMap(TagRequest.class, Tag.class).addMappings(mapper -> mapper.skip(Tag::setId));
+        return modelMapper;
+    }
+
+}
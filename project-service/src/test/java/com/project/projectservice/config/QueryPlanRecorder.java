@@ -0,0 +1,88 @@
+package com.project.projectservice.config;
+
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.Document;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * records read, update and delete commands sent by the driver, so their plans can be checked with explain
+ */
+public class QueryPlanRecorder implements CommandListener {
+
+    private static final Set<String> RECORDED_COMMANDS = Set.of("find", "aggregate", "count", "distinct", "delete",
+            "update", "findAndModify");
+    private static final Set<String> DRIVER_FIELDS = Set.of("$db", "lsid", "$clusterTime", "txnNumber",
+            "$readPreference", "apiVersion", "cursor");
+
+    private final List<Document> recordedCommands = new CopyOnWriteArrayList<>();
+    private volatile boolean recording;
+
+    /**
+     * used for capturing every command sent while queries are running
+     *
+     * @param queries represents repository calls to record
+     * @return commands in the order they were sent
+     */
+    public List<Document> record(Runnable queries) {
+        recordedCommands.clear();
+        recording = true;
+        try {
+            queries.run();
+        } finally {
+            recording = false;
+        }
+
+        return new ArrayList<>(recordedCommands);
+    }
+
+    /**
+     * used for obtaining winning plan of recorded command
+     *
+     * @param mongoTemplate represents template connected to the tested database
+     * @param command       represents recorded command
+     * @return output of explain in queryPlanner verbosity
+     */
+    public Document explain(MongoTemplate mongoTemplate, Document command) {
+        Document explainedCommand = new Document(command);
+        if (explainedCommand.containsKey("aggregate")) {
+            explainedCommand.put("cursor", new Document());
+        }
+
+        return mongoTemplate.getDb().runCommand(new Document("explain", explainedCommand)
+                .append("verbosity", "queryPlanner"));
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (recording && RECORDED_COMMANDS.contains(event.getCommandName())) {
+            Document command = Document.parse(event.getCommand().toJson());
+            DRIVER_FIELDS.forEach(command::remove);
+            recordedCommands.add(command);
+        }
+    }
+
+    @TestConfiguration
+    public static class QueryPlanRecorderConfiguration {
+
+        @Bean
+        public QueryPlanRecorder queryPlanRecorder() {
+            return new QueryPlanRecorder();
+        }
+
+        @Bean
+        public MongoClientSettingsBuilderCustomizer queryPlanRecorderCustomizer(QueryPlanRecorder queryPlanRecorder) {
+            return builder -> builder.addCommandListener(queryPlanRecorder);
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.project.projectservice.config;
+
+import com.project.projectservice.project.data.Project;
+import com.project.projectservice.project.service.ProjectRepository;
+import com.project.projectservice.tags.data.Tag;
+import com.project.projectservice.tags.services.TagRepository;
+import com.project.projectservice.utils.MongoQueryUtils;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(QueryPlanRecorder.QueryPlanRecorderConfiguration.class)
+public class QueryPlanTest extends MongoDBBaseIntegrationConnection {
+
+    private static final String USER_ID = UUID.randomUUID().toString();
+
+    @Autowired
+    private QueryPlanRecorder queryPlanRecorder;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoIndexInitializer mongoIndexInitializer;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private MongoQueryUtils mongoQueryUtils;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        mongoIndexInitializer.initializeIndexes();
+
+        project = projectRepository.save(Project.builder()
+                .name("test")
+                .ownerId(USER_ID)
+                .memberIds(Set.of(UUID.randomUUID().toString()))
+                .build());
+        projectRepository.save(Project.builder()
+                .name("test")
+                .ownerId(UUID.randomUUID().toString())
+                .memberIds(Set.of(USER_ID))
+                .build());
+        tagRepository.save(Tag.builder()
+                .name("test")
+                .projectId(project.getId())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        projectRepository.deleteAll();
+        tagRepository.deleteAll();
+    }
+
+    @Test
+    void givenProjectQueries_whenExplained_thenNoCollectionScanIsUsed() {
+        List<Document> commands = queryPlanRecorder.record(() -> {
+            projectRepository.findUserProjects(USER_ID);
+            projectRepository.countByOwnerId(USER_ID);
+            projectRepository.findByOwnerId(USER_ID);
+            projectRepository.findProjectAccessByIdIn(List.of(project.getId()));
+            projectRepository.deleteByIdAndOwnerId(project.getId(), USER_ID);
+            mongoQueryUtils.createQueryToGetAllUserProjects(USER_ID);
+        });
+
+        assertNoCollectionScan(commands, 6);
+    }
+
+    @Test
+    void givenTagQueries_whenExplained_thenNoCollectionScanIsUsed() {
+        List<Document> commands = queryPlanRecorder.record(() -> {
+            tagRepository.findByProjectId(project.getId());
+            tagRepository.deleteByProjectId(project.getId());
+        });
+
+        assertNoCollectionScan(commands, 2);
+    }
+
+    private void assertNoCollectionScan(List<Document> commands, int expectedCommands) {
+        assertThat(commands).hasSize(expectedCommands);
+
+        commands.forEach(command -> assertThat(queryPlanRecorder.explain(mongoTemplate, command).toJson())
+                .as("plan of %s", command.toJson())
+                .doesNotContain("COLLSCAN"));
+    }
+
+}
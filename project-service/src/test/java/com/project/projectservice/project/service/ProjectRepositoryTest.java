@@ -1,7 +1,10 @@
 package com.project.projectservice.project.service;
 
+import com.mongodb.WriteConcern;
 import com.project.projectservice.config.MongoDBBaseIntegrationConnection;
 import com.project.projectservice.project.data.Project;
+import com.project.projectservice.utils.FieldUpdate;
+import com.project.projectservice.utils.MongoBulkWriter;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -63,6 +66,26 @@ public class ProjectRepositoryTest extends MongoDBBaseIntegrationConnection {
         assertThat(obtainedProjects).containsAll(obtainedProjects);
     }
 
+    @Test
+    void givenFieldUpdates_whenBulkUpdate_thenOnlyGivenFieldsAreChanged() {
+        Project first = projectRepository.save(buildProject());
+        Project second = projectRepository.save(buildProject());
+        Project third = projectRepository.save(buildProject());
+
+        MongoBulkWriter.BulkUpdateResult result = projectRepository.bulkUpdate(List.of(
+                FieldUpdate.byId(first.getId()).inc("position", 2),
+                FieldUpdate.byId(second.getId()).set("position", 5).set("status", "Done"),
+                FieldUpdate.byId(third.getId()).where("position", 7).set("position", 9)), WriteConcern.ACKNOWLEDGED);
+
+        assertThat(result.matchedCount()).isEqualTo(2);
+        assertThat(result.modifiedCount()).isEqualTo(2);
+        assertThat(projectRepository.findById(first.getId()).orElseThrow().getPosition()).isEqualTo(2);
+        assertThat(projectRepository.findById(second.getId()).orElseThrow())
+                .extracting(Project::getPosition, Project::getStatus, Project::getName)
+                .containsExactly(5, "Done", "test");
+        assertThat(projectRepository.findById(third.getId()).orElseThrow().getPosition()).isZero();
+    }
+
     private void assertProjectsAreEqual(Project expected, Project actual) {
         assertThat(actual.getCreatedAt()).isEqualToIgnoringNanos(expected.getCreatedAt());
         assertThat(actual.getUpdatedAt()).isEqualToIgnoringNanos(expected.getUpdatedAt());
@@ -1,5 +1,6 @@
 package com.project.projectservice.project.service;
 
+import com.mongodb.WriteConcern;
 import com.project.projectservice.ProjectServiceApplication;
 import com.project.projectservice.config.TestBeanConfiguration;
 import com.project.projectservice.exceptions.DefaultException;
@@ -7,15 +8,18 @@ import com.project.projectservice.exceptions.EntityNotFoundException;
 import com.project.projectservice.exceptions.ForbiddenException;
 import com.project.projectservice.feings.UserFeign;
 import com.project.projectservice.project.data.Project;
+import com.project.projectservice.project.data.dto.ProjectAccessCheckRequest;
+import com.project.projectservice.project.data.dto.ProjectAccessCheckResponse;
 import com.project.projectservice.project.data.dto.ProjectQueryResponseDto;
 import com.project.projectservice.project.data.dto.ProjectRequestDto;
+import com.project.projectservice.project.mappers.ProjectMapper;
 import com.project.projectservice.tags.services.TagService;
 import com.project.projectservice.utils.JwtUtils;
+import com.project.projectservice.utils.KafkaProducerService;
 import com.project.projectservice.utils.MongoQueryUtils;
 import com.project.projectservice.utils.ProjectUtils;
 import com.project.projectservice.utils.SecurityUtils;
 import org.junit.jupiter.api.Test;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -25,6 +29,10 @@ import java.util.*;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -42,7 +50,7 @@ public class ProjectServiceTest {
     private JwtUtils jwtUtils;
 
     @MockBean
-    private ModelMapper modelMapper;
+    private ProjectMapper projectMapper;
 
     @MockBean
     private TagService tagService;
@@ -50,6 +58,9 @@ public class ProjectServiceTest {
     @MockBean
     private MongoQueryUtils mongoQueryUtils;
 
+    @MockBean
+    private KafkaProducerService kafkaProducerService;
+
     @Autowired
     private ProjectService projectService;
 
@@ -91,7 +102,7 @@ public class ProjectServiceTest {
 
         checkUserIdAccessibility(userId);
         when(projectRepository.countByOwnerId(userId)).thenReturn(0);
-        when(modelMapper.map(projectRequestDto, Project.class)).thenReturn(mappedProject);
+        when(projectMapper.toProject(projectRequestDto)).thenReturn(mappedProject);
         when(projectRepository.save(mappedProject)).thenReturn(createdProject);
 
         Project project = projectService.createProject(projectRequestDto, SecurityUtils.mockedAuthorizationHeaderWithUserRole);
@@ -253,6 +264,8 @@ public class ProjectServiceTest {
         assertThat(project2.getPosition()).isEqualTo(1);
         assertThat(project3.getPosition()).isEqualTo(3);
         assertThat(project4.getPosition()).isEqualTo(4);
+        verify(projectRepository).bulkUpdate(argThat(fieldUpdates -> fieldUpdates.size() == 2), eq(WriteConcern.ACKNOWLEDGED));
+        verify(projectRepository, never()).saveAll(any());
     }
 
     @Test
@@ -356,6 +369,33 @@ public class ProjectServiceTest {
         assertThat(project.getStatus()).isEqualTo(newStatus);
     }
 
+    @Test
+    void givenProjectAccessCheckRequests_whenGetProjectAccessBatch_thenEveryPairIsResolved() {
+        final String userId = generateRandomId();
+        final String accessibleProjectId = generateRandomId();
+        final String foreignProjectId = generateRandomId();
+        final String missingProjectId = generateRandomId();
+        Project accessibleProject = ProjectUtils.buildPersistedProject(accessibleProjectId, userId);
+        Project foreignProject = ProjectUtils.buildPersistedProject(foreignProjectId, generateRandomId());
+
+        when(projectRepository.findProjectAccessByIdIn(Set.of(accessibleProjectId, foreignProjectId, missingProjectId)))
+                .thenReturn(List.of(accessibleProject, foreignProject));
+
+        List<ProjectAccessCheckResponse> result = projectService.getProjectAccessBatchFeign(List.of(
+                new ProjectAccessCheckRequest(accessibleProjectId, userId),
+                new ProjectAccessCheckRequest(foreignProjectId, userId),
+                new ProjectAccessCheckRequest(missingProjectId, userId)));
+
+        assertThat(result).hasSize(3);
+        assertThat(result.get(0).isAccessGranted()).isTrue();
+        assertThat(result.get(0).getOwnerId()).isEqualTo(userId);
+        assertThat(result.get(0).getMemberIds()).isEqualTo(accessibleProject.getMemberIds());
+        assertThat(result.get(1).isAccessGranted()).isFalse();
+        assertThat(result.get(1).getMemberIds()).isNull();
+        assertThat(result.get(2).isAccessGranted()).isFalse();
+        assertThat(result.get(2).getProjectId()).isEqualTo(missingProjectId);
+    }
+
     private void assertProjectsAreEqual(Project expected, Project actual) {
         assertThat(actual.getCreatedAt()).isEqualToIgnoringNanos(expected.getCreatedAt());
         assertThat(actual.getUpdatedAt()).isEqualToIgnoringNanos(expected.getUpdatedAt());
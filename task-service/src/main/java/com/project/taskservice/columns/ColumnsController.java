@@ -1,15 +1,22 @@
 package com.project.taskservice.columns;
 
 import com.project.taskservice.columns.data.Column;
+import com.project.taskservice.columns.data.dto.BoardChangesResponse;
 import com.project.taskservice.columns.data.dto.ColumnRequest;
 import com.project.taskservice.columns.data.dto.ColumnsTasksResponse;
+import com.project.taskservice.columns.events.BoardEventService;
+import com.project.taskservice.columns.services.BoardChangeLog;
 import com.project.taskservice.columns.services.ColumnService;
+import com.project.taskservice.utils.ResponseFormat;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -20,6 +27,8 @@ import java.util.List;
 public class ColumnsController {
 
     private final ColumnService columnsService;
+    private final BoardEventService boardEventService;
+    private final BoardChangeLog boardChangeLog;
 
     @GetMapping("/{projectId}")
     public ResponseEntity<List<Column>> getAllProjectColumns(@PathVariable("projectId") String projectId,
@@ -46,8 +55,30 @@ public class ColumnsController {
     }
 
     @GetMapping("/project/{projectId}")
-    public ResponseEntity<List<ColumnsTasksResponse>> getColumnsAndTasksByProjectId(@PathVariable String projectId) {
-        return ResponseEntity.ok(columnsService.getColumnsAndTasksByProjectId(projectId));
+    public ResponseEntity<List<ColumnsTasksResponse>> getColumnsAndTasksByProjectId(@PathVariable String projectId,
+                                                                                  @RequestParam(value = "tasksPerColumn", required = false) Integer tasksPerColumn,
+                                                                                  @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String acceptHeader,
+                                                                                  WebRequest webRequest) {
+        if (webRequest.checkNotModified(columnsService.getBoardETag(projectId, tasksPerColumn,
+                ResponseFormat.negotiate(acceptHeader)))) {
+            return null;
+        }
+
+        return ResponseEntity.ok(columnsService.getColumnsAndTasksByProjectId(projectId, tasksPerColumn));
+    }
+
+    @GetMapping("/project/{projectId}/changes")
+    public ResponseEntity<BoardChangesResponse> getBoardChanges(@PathVariable String projectId,
+                                                                @RequestParam(value = "since", required = false) String since,
+                                                                @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        return ResponseEntity.ok(boardChangeLog.getChanges(projectId, since, authorizationHeader));
+    }
+
+    @GetMapping(value = "/project/{projectId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeToBoardEvents(@PathVariable String projectId,
+                                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                                             @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        return boardEventService.subscribeToBoardEvents(projectId, lastEventId, authorizationHeader);
     }
 
 }
@@ -0,0 +1,140 @@
+package com.project.taskservice.columns.codecs;
+
+import com.project.taskservice.columns.data.dto.ColumnsTasksResponse;
+import com.project.taskservice.tasks.data.dto.TaskCardResponse;
+import com.project.taskservice.tasks.data.enums.Status;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static com.project.taskservice.utils.BsonFields.readDateTime;
+import static com.project.taskservice.utils.BsonFields.readEnum;
+import static com.project.taskservice.utils.BsonFields.readInteger;
+import static com.project.taskservice.utils.BsonFields.readLong;
+import static com.project.taskservice.utils.BsonFields.readString;
+import static com.project.taskservice.utils.BsonFields.readStrings;
+import static com.project.taskservice.utils.BsonFields.writeDateTime;
+import static com.project.taskservice.utils.BsonFields.writeEnum;
+import static com.project.taskservice.utils.BsonFields.writeId;
+import static com.project.taskservice.utils.BsonFields.writeLong;
+import static com.project.taskservice.utils.BsonFields.writeString;
+import static com.project.taskservice.utils.BsonFields.writeStrings;
+
+/**
+ * decodes column of board aggregation together with its looked up task cards straight from bson stream of the
+ * driver. Cards keep the same defaults as before: priority 0 and empty tags when field is missing
+ */
+public class ColumnsTasksResponseCodec implements Codec<ColumnsTasksResponse> {
+
+    @Override
+    public ColumnsTasksResponse decode(BsonReader reader, DecoderContext decoderContext) {
+        ColumnsTasksResponse column = new ColumnsTasksResponse();
+        column.setTasks(new ArrayList<>());
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> column.setId(readString(reader));
+                case "columnName" -> column.setColumnName(readString(reader));
+                case "position" -> column.setPosition(readString(reader));
+                case "projectId" -> column.setProjectId(readString(reader));
+                case "createdById" -> column.setCreatedById(readString(reader));
+                case "tasks" -> column.setTasks(readTaskCards(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return column;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, ColumnsTasksResponse column, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeId(writer, column.getId());
+        writeString(writer, "columnName", column.getColumnName());
+        writeString(writer, "position", column.getPosition());
+        writeString(writer, "projectId", column.getProjectId());
+        writeString(writer, "createdById", column.getCreatedById());
+        if (column.getTasks() != null) {
+            writer.writeStartArray("tasks");
+            column.getTasks().forEach(card -> writeTaskCard(writer, card));
+            writer.writeEndArray();
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<ColumnsTasksResponse> getEncoderClass() {
+        return ColumnsTasksResponse.class;
+    }
+
+    private List<TaskCardResponse> readTaskCards(BsonReader reader) {
+        List<TaskCardResponse> cards = new ArrayList<>();
+
+        if (reader.getCurrentBsonType() != BsonType.ARRAY) {
+            reader.skipValue();
+            return cards;
+        }
+
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            cards.add(readTaskCard(reader));
+        }
+        reader.readEndArray();
+
+        return cards;
+    }
+
+    private TaskCardResponse readTaskCard(BsonReader reader) {
+        TaskCardResponse card = new TaskCardResponse();
+        card.setTags(new HashSet<>());
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> card.setId(readString(reader));
+                case "title" -> card.setTitle(readString(reader));
+                case "status" -> card.setStatus(readEnum(reader, Status.class));
+                case "priority" -> {
+                    Integer priority = readInteger(reader);
+                    card.setPriority(priority == null ? 0 : priority);
+                }
+                case "assigneeId" -> card.setAssigneeId(readString(reader));
+                case "dueDate" -> card.setDueDate(readDateTime(reader));
+                case "position" -> card.setPosition(readString(reader));
+                case "tags" -> {
+                    HashSet<String> tags = readStrings(reader, HashSet::new);
+                    card.setTags(tags == null ? new HashSet<>() : tags);
+                }
+                case "version" -> card.setVersion(readLong(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return card;
+    }
+
+    private void writeTaskCard(BsonWriter writer, TaskCardResponse card) {
+        writer.writeStartDocument();
+        writeId(writer, card.getId());
+        writeString(writer, "title", card.getTitle());
+        writeEnum(writer, "status", card.getStatus());
+        writer.writeInt32("priority", card.getPriority());
+        writeString(writer, "assigneeId", card.getAssigneeId());
+        writeDateTime(writer, "dueDate", card.getDueDate());
+        writeString(writer, "position", card.getPosition());
+        writeStrings(writer, "tags", card.getTags());
+        writeLong(writer, "version", card.getVersion());
+        writer.writeEndDocument();
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.project.taskservice.columns.data;
+
+import com.project.taskservice.columns.data.enums.BoardEntityType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * entry of append-only change log of the board. Entry only tells which task or column of project was created,
+ * updated or deleted, current state is read when changes are requested. Entries are numbered per project without
+ * gaps and are removed by TTL index once retention is over
+ */
+@Document(collection = "board_changes")
+@CompoundIndex(name = "project_seq", def = "{'projectId': 1, 'seq': 1}", unique = true)
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class BoardChange {
+
+    private String id;
+
+    private String projectId;
+
+    private long seq;
+
+    private BoardEntityType entityType;
+
+    private String entityId;
+
+    private LocalDateTime changedAt;
+
+    @Indexed(name = "expires_at_ttl", expireAfter = "0s")
+    private LocalDateTime expiresAt;
+
+}
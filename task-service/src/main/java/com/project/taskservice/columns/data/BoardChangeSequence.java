@@ -0,0 +1,27 @@
+package com.project.taskservice.columns.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * last sequence number reserved for change log entries of project, id of the document is id of the project
+ */
+@Document(collection = "board_change_sequences")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class BoardChangeSequence {
+
+    private String id;
+
+    private long seq;
+
+    private LocalDateTime updatedAt;
+
+}
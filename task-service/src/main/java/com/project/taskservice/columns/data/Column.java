@@ -4,9 +4,15 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 @Document(collection = "columns")
+@CompoundIndexes({
+        @CompoundIndex(name = "project_position", def = "{'projectId': 1, 'position': 1}"),
+        @CompoundIndex(name = "project_creator_position", def = "{'projectId': 1, 'createdById': 1, 'position': 1}")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
@@ -17,7 +23,7 @@ public class Column {
 
     private String columnName;
 
-    private int position;
+    private String position;
 
     private String projectId;
 
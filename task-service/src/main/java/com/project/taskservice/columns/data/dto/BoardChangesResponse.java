@@ -0,0 +1,33 @@
+package com.project.taskservice.columns.data.dto;
+
+import com.project.taskservice.columns.data.Column;
+import com.project.taskservice.tasks.data.dto.TaskCardResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class BoardChangesResponse {
+
+    private String token;
+
+    private boolean reset;
+
+    private boolean hasMore;
+
+    private List<Column> columns;
+
+    private Map<String, List<TaskCardResponse>> tasksByColumn;
+
+    private List<String> deletedColumnIds;
+
+    private List<String> deletedTaskIds;
+
+}
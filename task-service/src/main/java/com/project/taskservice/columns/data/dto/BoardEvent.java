@@ -0,0 +1,24 @@
+package com.project.taskservice.columns.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class BoardEvent {
+
+    private String id;
+
+    private String type;
+
+    private String projectId;
+
+    private String documentId;
+
+    private String columnId;
+
+}
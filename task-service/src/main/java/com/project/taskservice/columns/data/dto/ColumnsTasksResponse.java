@@ -1,6 +1,6 @@
 package com.project.taskservice.columns.data.dto;
 
-import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.TaskCardResponse;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,12 +18,14 @@ public class ColumnsTasksResponse {
 
     private String columnName;
 
-    private int position;
+    private String position;
 
     private String projectId;
 
     private String createdById;
 
-    private List<Task> tasks;
+    private List<TaskCardResponse> tasks;
+
+    private String nextTasksCursor;
 
 }
@@ -0,0 +1,11 @@
+package com.project.taskservice.columns.data.enums;
+
+/**
+ * kinds of board entities whose changes are written to the board change log
+ */
+public enum BoardEntityType {
+
+    TASK,
+    COLUMN
+
+}
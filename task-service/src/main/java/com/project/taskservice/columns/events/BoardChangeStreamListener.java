@@ -0,0 +1,210 @@
+package com.project.taskservice.columns.events;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.ChangeStreamIterable;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.model.Aggregates;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import com.mongodb.client.model.changestream.FullDocumentBeforeChange;
+import com.mongodb.client.model.changestream.OperationType;
+import com.project.taskservice.columns.services.BoardCache;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * watches tasks and columns with one change stream and turns every change into board event of its project. Pre-images
+ * are enabled on both collections, so deleted documents still tell which project they belonged to. Change stream is
+ * resumed from the last seen token after errors, including failures of handling a change, so the thread keeps
+ * running; when the token is too old to resume, subscribers are reset
+ */
+@Component
+@Slf4j
+public class BoardChangeStreamListener {
+
+    private static final Map<String, String> WATCHED_COLLECTIONS = Map.of("tasks", "task", "columns", "column");
+    private static final int CHANGE_STREAM_HISTORY_LOST = 286;
+    private static final int CHANGE_STREAM_FATAL_ERROR = 280;
+
+    private final MongoTemplate mongoTemplate;
+    private final BoardEventBroadcaster boardEventBroadcaster;
+    private final BoardCache boardCache;
+    private final boolean enabled;
+    private final Duration retryDelay;
+
+    private volatile boolean running;
+    private volatile boolean watching;
+    private volatile Thread watcherThread;
+    private BsonDocument resumeToken;
+
+    public BoardChangeStreamListener(MongoTemplate mongoTemplate, BoardEventBroadcaster boardEventBroadcaster,
+                                     BoardCache boardCache,
+                                     @Value("${board-events.enabled:true}") boolean enabled,
+                                     @Value("${board-events.retry-delay:5s}") Duration retryDelay) {
+        this.mongoTemplate = mongoTemplate;
+        this.boardEventBroadcaster = boardEventBroadcaster;
+        this.boardCache = boardCache;
+        this.enabled = enabled;
+        this.retryDelay = retryDelay;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        running = true;
+        watcherThread = new Thread(this::watchChanges, "board-change-stream");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    /**
+     * @return true when change stream is opened and changes are being delivered
+     */
+    public boolean isWatching() {
+        return watching;
+    }
+
+    private void watchChanges() {
+        boolean preImagesEnabled = false;
+
+        while (running) {
+            try {
+                if (!preImagesEnabled) {
+                    enablePreImages();
+                    preImagesEnabled = true;
+                }
+
+                try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = openChangeStream().cursor()) {
+                    watching = true;
+                    while (running) {
+                        ChangeStreamDocument<Document> change = cursor.tryNext();
+                        if (change != null) {
+                            handleChange(change);
+                        }
+                        if (cursor.getResumeToken() != null) {
+                            resumeToken = cursor.getResumeToken();
+                        }
+                        if (change != null && change.getOperationType() == OperationType.INVALIDATE) {
+                            resumeToken = null;
+                            break;
+                        }
+                    }
+                }
+            } catch (MongoException exception) {
+                watching = false;
+                if (!running) {
+                    return;
+                }
+
+                if (exception.getCode() == CHANGE_STREAM_HISTORY_LOST || exception.getCode() == CHANGE_STREAM_FATAL_ERROR) {
+                    log.warn("board change stream can't be resumed, subscribers are reset", exception);
+                    resumeToken = null;
+                    boardEventBroadcaster.resetAll();
+                } else {
+                    log.warn("board change stream failed, reopening it in {}", retryDelay, exception);
+                    if (!sleep(retryDelay)) {
+                        return;
+                    }
+                }
+            } catch (RuntimeException exception) {
+                watching = false;
+                if (!running) {
+                    return;
+                }
+
+                log.warn("board change couldn't be handled, resuming change stream from the last token in {}",
+                        retryDelay, exception);
+                if (!sleep(retryDelay)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private ChangeStreamIterable<Document> openChangeStream() {
+        ChangeStreamIterable<Document> changeStream = mongoTemplate.getDb()
+                .watch(List.of(Aggregates.match(Filters.in("ns.coll", WATCHED_COLLECTIONS.keySet()))))
+                .fullDocument(FullDocument.UPDATE_LOOKUP)
+                .fullDocumentBeforeChange(FullDocumentBeforeChange.WHEN_AVAILABLE)
+                .maxAwaitTime(1, TimeUnit.SECONDS);
+
+        return resumeToken == null ? changeStream : changeStream.resumeAfter(resumeToken);
+    }
+
+    private void enablePreImages() {
+        for (String collection : WATCHED_COLLECTIONS.keySet()) {
+            if (!mongoTemplate.collectionExists(collection)) {
+                mongoTemplate.createCollection(collection);
+            }
+
+            mongoTemplate.getDb().runCommand(new Document("collMod", collection)
+                    .append("changeStreamPreAndPostImages", new Document("enabled", true)));
+        }
+    }
+
+    private void handleChange(ChangeStreamDocument<Document> change) {
+        Document changedDocument = change.getFullDocument() != null ? change.getFullDocument() :
+                change.getFullDocumentBeforeChange();
+
+        if (changedDocument == null || changedDocument.getString("projectId") == null || change.getNamespace() == null) {
+            return;
+        }
+
+        String projectId = changedDocument.getString("projectId");
+        String type = WATCHED_COLLECTIONS.get(change.getNamespace().getCollectionName()) + "." +
+                change.getOperationType().getValue();
+
+        boardCache.bumpVersion(projectId);
+        boardEventBroadcaster.publish(projectId, type, getDocumentId(change.getDocumentKey()),
+                changedDocument.getString("columnId"));
+    }
+
+    private String getDocumentId(BsonDocument documentKey) {
+        if (documentKey == null || documentKey.get("_id") == null) {
+            return null;
+        }
+
+        BsonValue id = documentKey.get("_id");
+        if (id.isObjectId()) {
+            return id.asObjectId().getValue().toHexString();
+        }
+
+        return id.isString() ? id.asString().getValue() : id.toString();
+    }
+
+    private boolean sleep(Duration delay) {
+        try {
+            Thread.sleep(delay.toMillis());
+            return true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+        }
+    }
+
+}
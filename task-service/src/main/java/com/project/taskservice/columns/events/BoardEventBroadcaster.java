@@ -0,0 +1,332 @@
+package com.project.taskservice.columns.events;
+
+import com.project.taskservice.columns.data.dto.BoardEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * fans board events out to subscribers of project. Every subscriber has its own bounded queue drained by shared
+ * dispatch threads, so slow client never blocks publishing; subscriber whose queue is full is disconnected and
+ * catches up by reconnecting. Recent events of project are kept for replay after reconnect with Last-Event-ID,
+ * client that missed more than that gets "reset" event and reloads the board
+ */
+@Component
+@Slf4j
+public class BoardEventBroadcaster {
+
+    public static final String RESET_EVENT_TYPE = "reset";
+
+    private final long startupEpoch = System.currentTimeMillis();
+    private final AtomicLong sequence = new AtomicLong();
+    private final Map<String, ProjectChannel> channels = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final int subscriberQueueCapacity;
+    private final int replayCapacity;
+    private final Duration replayRetention;
+    private final ExecutorService dispatchExecutor;
+    private final ScheduledExecutorService cleanupScheduler;
+    private final Counter publishedEvents;
+    private final Counter droppedSubscribers;
+
+    public BoardEventBroadcaster(MeterRegistry meterRegistry,
+                                 @Value("${board-events.subscriber-queue-capacity:256}") int subscriberQueueCapacity,
+                                 @Value("${board-events.replay-capacity:512}") int replayCapacity,
+                                 @Value("${board-events.replay-retention:2m}") Duration replayRetention,
+                                 @Value("${board-events.dispatch-threads:4}") int dispatchThreads) {
+        this.meterRegistry = meterRegistry;
+        this.subscriberQueueCapacity = subscriberQueueCapacity;
+        this.replayCapacity = replayCapacity;
+        this.replayRetention = replayRetention;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatchExecutor = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "board-events-dispatch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.cleanupScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "board-events-cleanup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.publishedEvents = Counter.builder("board.events.published")
+                .description("board events published to subscribers")
+                .register(meterRegistry);
+        this.droppedSubscribers = Counter.builder("board.events.dropped-subscribers")
+                .description("subscribers disconnected because they didn't keep up with events")
+                .register(meterRegistry);
+    }
+
+    /**
+     * used for subscribing to events of project
+     *
+     * @param projectId   represents project of the board
+     * @param lastEventId represents id of the last event client received before reconnect, null for new clients
+     * @param sink        represents receiver of events
+     * @return subscription that should be cancelled when client disconnects
+     */
+    public BoardEventSubscription subscribe(String projectId, String lastEventId, BoardEventSink sink) {
+        Subscriber subscriber = new Subscriber(sink);
+
+        while (true) {
+            ProjectChannel channel = channels.computeIfAbsent(projectId, this::createChannel);
+            synchronized (channel) {
+                if (channel.removed) {
+                    continue;
+                }
+
+                channel.subscribers.add(subscriber);
+                if (lastEventId != null) {
+                    List<BoardEvent> missedEvents = channel.getEventsAfter(lastEventId);
+                    if (missedEvents == null) {
+                        subscriber.offer(buildEvent(RESET_EVENT_TYPE, projectId, null, null));
+                    } else {
+                        missedEvents.forEach(subscriber::offer);
+                    }
+                }
+            }
+
+            return () -> unsubscribe(projectId, subscriber);
+        }
+    }
+
+    /**
+     * used for notifying subscribers of project about changed document
+     *
+     * @param projectId  represents changed project
+     * @param type       represents kind of change, e.g. "task.update"
+     * @param documentId represents changed task or column
+     * @param columnId   represents column of changed task, null for columns
+     */
+    public void publish(String projectId, String type, String documentId, String columnId) {
+        ProjectChannel channel = channels.get(projectId);
+
+        if (channel == null) {
+            return;
+        }
+
+        synchronized (channel) {
+            BoardEvent boardEvent = buildEvent(type, projectId, documentId, columnId);
+            channel.remember(boardEvent);
+            channel.subscribers.forEach(subscriber -> {
+                if (!subscriber.offer(boardEvent)) {
+                    log.warn("subscriber of project '{}' doesn't keep up with events, disconnecting it", projectId);
+                    droppedSubscribers.increment();
+                    subscriber.close();
+                    removeSubscriber(projectId, channel, subscriber);
+                }
+            });
+        }
+        publishedEvents.increment();
+    }
+
+    /**
+     * used when events could have been lost, e.g. after change stream history was lost. Every subscriber is told
+     * to reload its board and nothing recorded before is replayed anymore
+     */
+    public void resetAll() {
+        channels.forEach((projectId, channel) -> {
+            synchronized (channel) {
+                BoardEvent resetEvent = buildEvent(RESET_EVENT_TYPE, projectId, null, null);
+                channel.forget(sequence.get());
+                channel.subscribers.forEach(subscriber -> subscriber.offer(resetEvent));
+            }
+        });
+    }
+
+    private BoardEvent buildEvent(String type, String projectId, String documentId, String columnId) {
+        return BoardEvent.builder()
+                .id(startupEpoch + "-" + sequence.incrementAndGet())
+                .type(type)
+                .projectId(projectId)
+                .documentId(documentId)
+                .columnId(columnId)
+                .build();
+    }
+
+    private ProjectChannel createChannel(String projectId) {
+        ProjectChannel channel = new ProjectChannel(sequence.get());
+        channel.subscribersGauge = Gauge.builder("board.events.subscribers", channel.subscribers, Set::size)
+                .description("subscribers of board events of project")
+                .tag("project", projectId)
+                .register(meterRegistry);
+
+        return channel;
+    }
+
+    private void unsubscribe(String projectId, Subscriber subscriber) {
+        subscriber.close();
+        ProjectChannel channel = channels.get(projectId);
+
+        if (channel != null) {
+            removeSubscriber(projectId, channel, subscriber);
+        }
+    }
+
+    private void removeSubscriber(String projectId, ProjectChannel channel, Subscriber subscriber) {
+        if (channel.subscribers.remove(subscriber) && channel.subscribers.isEmpty()) {
+            cleanupScheduler.schedule(() -> removeIfUnused(projectId), replayRetention.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * channel without subscribers is kept for replay retention, so client that was the only subscriber can still
+     * resume after reconnect
+     */
+    private void removeIfUnused(String projectId) {
+        channels.computeIfPresent(projectId, (key, channel) -> {
+            synchronized (channel) {
+                if (!channel.subscribers.isEmpty()) {
+                    return channel;
+                }
+
+                channel.removed = true;
+                meterRegistry.remove(channel.subscribersGauge);
+                return null;
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        cleanupScheduler.shutdownNow();
+        channels.values().forEach(channel -> channel.subscribers.forEach(Subscriber::close));
+        dispatchExecutor.shutdownNow();
+    }
+
+    private class ProjectChannel {
+
+        private final Set<Subscriber> subscribers = new CopyOnWriteArraySet<>();
+        private final Deque<BoardEvent> recentEvents = new ArrayDeque<>();
+        private long forgottenUpTo;
+        private boolean removed;
+        private Gauge subscribersGauge;
+
+        private ProjectChannel(long forgottenUpTo) {
+            this.forgottenUpTo = forgottenUpTo;
+        }
+
+        private void remember(BoardEvent boardEvent) {
+            if (recentEvents.size() == replayCapacity) {
+                forgottenUpTo = getSequence(recentEvents.removeFirst().getId());
+            }
+            recentEvents.addLast(boardEvent);
+        }
+
+        private void forget(long upTo) {
+            recentEvents.clear();
+            forgottenUpTo = upTo;
+        }
+
+        /**
+         * @return events published after given one or null if some of them are not kept anymore
+         */
+        private List<BoardEvent> getEventsAfter(String lastEventId) {
+            String[] idParts = lastEventId.split("-", 2);
+            long lastSequence;
+            try {
+                if (idParts.length != 2 || Long.parseLong(idParts[0]) != startupEpoch) {
+                    return null;
+                }
+                lastSequence = Long.parseLong(idParts[1]);
+            } catch (NumberFormatException exception) {
+                return null;
+            }
+
+            if (lastSequence < forgottenUpTo) {
+                return null;
+            }
+
+            List<BoardEvent> missedEvents = new ArrayList<>();
+            recentEvents.stream()
+                    .filter(boardEvent -> getSequence(boardEvent.getId()) > lastSequence)
+                    .forEach(missedEvents::add);
+
+            return missedEvents;
+        }
+
+        private long getSequence(String eventId) {
+            return Long.parseLong(eventId.substring(eventId.indexOf('-') + 1));
+        }
+
+    }
+
+    private class Subscriber {
+
+        private final BoardEventSink sink;
+        private final BlockingQueue<BoardEvent> queue = new ArrayBlockingQueue<>(subscriberQueueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscriber(BoardEventSink sink) {
+            this.sink = sink;
+        }
+
+        private boolean offer(BoardEvent boardEvent) {
+            if (closed || !queue.offer(boardEvent)) {
+                return false;
+            }
+
+            scheduleDrain();
+            return true;
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                dispatchExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                BoardEvent boardEvent;
+                while (!closed && (boardEvent = queue.poll()) != null) {
+                    sink.send(boardEvent);
+                }
+            } catch (IOException | RuntimeException exception) {
+                log.debug("unable to send board event, closing subscriber", exception);
+                close();
+            } finally {
+                draining.set(false);
+            }
+
+            if (!closed && !queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close() {
+            if (!closed) {
+                closed = true;
+                queue.clear();
+                sink.close();
+            }
+        }
+
+    }
+
+}
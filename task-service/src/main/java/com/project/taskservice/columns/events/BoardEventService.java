@@ -0,0 +1,72 @@
+package com.project.taskservice.columns.events;
+
+import com.project.taskservice.columns.data.dto.BoardEvent;
+import com.project.taskservice.projects.services.ProjectAccessService;
+import com.project.taskservice.utils.UserIdResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+@Service
+@Slf4j
+public class BoardEventService {
+
+    private final BoardEventBroadcaster boardEventBroadcaster;
+    private final ProjectAccessService projectAccessService;
+    private final UserIdResolver userIdResolver;
+    private final Duration emitterTimeout;
+
+    public BoardEventService(BoardEventBroadcaster boardEventBroadcaster, ProjectAccessService projectAccessService,
+                             UserIdResolver userIdResolver,
+                             @Value("${board-events.emitter-timeout:30m}") Duration emitterTimeout) {
+        this.boardEventBroadcaster = boardEventBroadcaster;
+        this.projectAccessService = projectAccessService;
+        this.userIdResolver = userIdResolver;
+        this.emitterTimeout = emitterTimeout;
+    }
+
+    /**
+     * used for streaming changes of board to client. Client that reconnects with Last-Event-ID gets events it missed
+     * or "reset" event if they are not available anymore. Only owner and members of project can subscribe
+     *
+     * @param projectId           represents project of the board
+     * @param lastEventId         represents value of Last-Event-ID header
+     * @param authorizationHeader represents token of subscribing user
+     * @return emitter of server-sent events
+     */
+    public SseEmitter subscribeToBoardEvents(String projectId, String lastEventId, String authorizationHeader) {
+        projectAccessService.checkAccessToProject(projectId, userIdResolver.resolveUserId(authorizationHeader));
+
+        SseEmitter sseEmitter = new SseEmitter(emitterTimeout.toMillis());
+        BoardEventSubscription subscription = boardEventBroadcaster.subscribe(projectId, lastEventId,
+                new SseEmitterSink(sseEmitter));
+
+        sseEmitter.onCompletion(subscription::cancel);
+        sseEmitter.onTimeout(subscription::cancel);
+        sseEmitter.onError(exception -> subscription.cancel());
+
+        return sseEmitter;
+    }
+
+    private record SseEmitterSink(SseEmitter sseEmitter) implements BoardEventSink {
+
+        @Override
+        public void send(BoardEvent boardEvent) throws IOException {
+            sseEmitter.send(SseEmitter.event()
+                    .id(boardEvent.getId())
+                    .name(boardEvent.getType())
+                    .data(boardEvent));
+        }
+
+        @Override
+        public void close() {
+            sseEmitter.complete();
+        }
+
+    }
+
+}
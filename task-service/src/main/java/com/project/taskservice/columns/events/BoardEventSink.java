@@ -0,0 +1,16 @@
+package com.project.taskservice.columns.events;
+
+import com.project.taskservice.columns.data.dto.BoardEvent;
+
+import java.io.IOException;
+
+/**
+ * receiver of board events of one subscriber
+ */
+public interface BoardEventSink {
+
+    void send(BoardEvent boardEvent) throws IOException;
+
+    void close();
+
+}
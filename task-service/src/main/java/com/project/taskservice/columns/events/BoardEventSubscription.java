@@ -0,0 +1,11 @@
+package com.project.taskservice.columns.events;
+
+/**
+ * handle of subscription to board events
+ */
+@FunctionalInterface
+public interface BoardEventSubscription {
+
+    void cancel();
+
+}
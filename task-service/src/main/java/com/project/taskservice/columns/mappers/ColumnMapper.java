@@ -0,0 +1,19 @@
+package com.project.taskservice.columns.mappers;
+
+import com.project.taskservice.columns.data.Column;
+import com.project.taskservice.columns.data.dto.ColumnRequest;
+import com.project.taskservice.config.MapStructConfig;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapStructConfig.class)
+public interface ColumnMapper {
+
+    /**
+     * position of request is index among columns of project, rank key is assigned by service
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "position", ignore = true)
+    Column toColumn(ColumnRequest columnRequest);
+
+}
@@ -0,0 +1,118 @@
+package com.project.taskservice.columns.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.taskservice.columns.data.dto.ColumnsTasksResponse;
+import com.project.taskservice.utils.ResponseFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * keeps recently built boards in memory together with version of the board they were built at. Every write to
+ * columns or tasks of project bumps its version, so snapshot and etag of older version are not served anymore.
+ * Versions live in memory of this instance, that's why both versions and snapshots expire after a short time:
+ * writes handled by other instances are visible at latest after that time
+ */
+@Component
+public class BoardCache {
+
+    private final long startupEpoch = System.currentTimeMillis();
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final Cache<String, Long> boardVersions;
+    private final Cache<String, BoardSnapshot> boardSnapshots;
+
+    public BoardCache(MeterRegistry meterRegistry,
+                      @Value("${board-cache.maximum-size:1000}") long maximumSize,
+                      @Value("${board-cache.expire-after-write:30s}") Duration expireAfterWrite) {
+        this.boardVersions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .build();
+        this.boardSnapshots = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, boardSnapshots, "board");
+    }
+
+    /**
+     * used for answering conditional requests without reading the board. Boards built with different limits or
+     * encoded in different formats are different representations, so both the limit and the format are part of etag
+     *
+     * @param projectId      represents project of the board
+     * @param tasksPerColumn represents limit the board is built with
+     * @param format         represents format the board is encoded in
+     * @return etag of current version of the board
+     */
+    public String getETag(String projectId, int tasksPerColumn, ResponseFormat format) {
+        return "\"%d-%d-%d-%s\"".formatted(startupEpoch, getVersion(projectId), tasksPerColumn, format.getEtagSuffix());
+    }
+
+    /**
+     * used for telling client which version of the board its write produced
+     *
+     * @param projectId represents project of the board
+     * @return current version of the board
+     */
+    public String getBoardVersion(String projectId) {
+        return "%d-%d".formatted(startupEpoch, getVersion(projectId));
+    }
+
+    /**
+     * used for reading the board. Snapshot is rebuilt when board was changed since it was stored
+     *
+     * @param projectId      represents project of the board
+     * @param tasksPerColumn represents limit the board is built with, boards with different limits are kept apart
+     * @param boardLoader    represents reading of the board from database
+     * @return columns of the board
+     */
+    public List<ColumnsTasksResponse> getBoard(String projectId, int tasksPerColumn,
+                                               Supplier<List<ColumnsTasksResponse>> boardLoader) {
+        String snapshotKey = projectId + ":" + tasksPerColumn;
+        long version = getVersion(projectId);
+        BoardSnapshot cachedSnapshot = boardSnapshots.getIfPresent(snapshotKey);
+
+        if (cachedSnapshot != null && cachedSnapshot.version() == version) {
+            return cachedSnapshot.columns();
+        }
+
+        BoardSnapshot loadedSnapshot = new BoardSnapshot(version, List.copyOf(boardLoader.get()));
+        boardSnapshots.asMap().merge(snapshotKey, loadedSnapshot,
+                (existingSnapshot, newSnapshot) -> existingSnapshot.version() >= newSnapshot.version() ? existingSnapshot : newSnapshot);
+
+        return loadedSnapshot.columns();
+    }
+
+    /**
+     * called after every change of project's columns or tasks
+     *
+     * @param projectId represents changed project
+     * @return new version of the board
+     */
+    public long bumpVersion(String projectId) {
+        long version = versionSequence.incrementAndGet();
+        boardVersions.put(projectId, version);
+
+        return version;
+    }
+
+    /**
+     * project without known version gets a new one from the same sequence, so version of evicted or expired board
+     * never repeats and its old etag can't match again
+     */
+    private long getVersion(String projectId) {
+        return boardVersions.get(projectId, key -> versionSequence.incrementAndGet());
+    }
+
+    private record BoardSnapshot(long version, List<ColumnsTasksResponse> columns) {
+    }
+
+}
@@ -0,0 +1,287 @@
+package com.project.taskservice.columns.services;
+
+import com.project.taskservice.columns.data.BoardChange;
+import com.project.taskservice.columns.data.BoardChangeSequence;
+import com.project.taskservice.columns.data.Column;
+import com.project.taskservice.columns.data.dto.BoardChangesResponse;
+import com.project.taskservice.columns.data.enums.BoardEntityType;
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.projects.services.ProjectAccessService;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.TaskCardResponse;
+import com.project.taskservice.utils.PositionsReassignedEvent;
+import com.project.taskservice.utils.UserIdResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.BasicQuery;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * keeps change log of boards, so clients can fetch only what changed since their last sync instead of the whole
+ * board. Every place that writes tasks or columns records ids of written documents right after the write, the same
+ * way it bumps version of the board. Recording is best effort: the write is already committed, so failure is only
+ * logged and never fails the request. Sequence numbers are reserved per project before entries are inserted, so
+ * entries of concurrent writes may become visible out of order: changes are served only up to the first missing
+ * number, and number that is still missing after grace period (also the one whose entries failed to be inserted)
+ * means history is lost and client has to reload the board
+ */
+@Component
+@Slf4j
+public class BoardChangeLog {
+
+    private static final String TASKS_COLLECTION = "tasks";
+    private static final String COLUMNS_COLLECTION = "columns";
+    private static final Document TASK_CARD_FIELDS = new Document("title", 1L)
+            .append("status", 1L)
+            .append("priority", 1L)
+            .append("assigneeId", 1L)
+            .append("dueDate", 1L)
+            .append("position", 1L)
+            .append("tags", 1L)
+            .append("version", 1L)
+            .append("columnId", 1L);
+    private static final Comparator<TaskCardResponse> CARD_ORDER = Comparator
+            .comparing(TaskCardResponse::getPosition, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(TaskCardResponse::getId);
+
+    private final MongoTemplate mongoTemplate;
+    private final ProjectAccessService projectAccessService;
+    private final UserIdResolver userIdResolver;
+    private final Duration retention;
+    private final Duration gapGracePeriod;
+    private final int maxChanges;
+
+    public BoardChangeLog(MongoTemplate mongoTemplate, ProjectAccessService projectAccessService,
+                          UserIdResolver userIdResolver,
+                          @Value("${board-changes.retention:7d}") Duration retention,
+                          @Value("${board-changes.gap-grace-period:30s}") Duration gapGracePeriod,
+                          @Value("${board-changes.max-changes:1000}") int maxChanges) {
+        this.mongoTemplate = mongoTemplate;
+        this.projectAccessService = projectAccessService;
+        this.userIdResolver = userIdResolver;
+        this.retention = retention;
+        this.gapGracePeriod = gapGracePeriod;
+        this.maxChanges = maxChanges;
+    }
+
+    public void recordTasks(String projectId, Collection<String> taskIds) {
+        record(projectId, BoardEntityType.TASK, taskIds);
+    }
+
+    public void recordColumns(String projectId, Collection<String> columnIds) {
+        record(projectId, BoardEntityType.COLUMN, columnIds);
+    }
+
+    /**
+     * rank keys reassigned at once by rebalancing or migration change positions of all siblings
+     */
+    @EventListener
+    public void onPositionsReassigned(PositionsReassignedEvent event) {
+        if (!TASKS_COLLECTION.equals(event.collection()) && !COLUMNS_COLLECTION.equals(event.collection())) {
+            return;
+        }
+
+        Query query = new Query(event.siblings());
+        query.fields().include("projectId");
+        BoardEntityType entityType = TASKS_COLLECTION.equals(event.collection()) ? BoardEntityType.TASK :
+                BoardEntityType.COLUMN;
+
+        List<Document> siblings;
+        try {
+            siblings = mongoTemplate.find(query, Document.class, event.collection());
+        } catch (RuntimeException exception) {
+            log.warn("reassigned positions in {} weren't recorded", event.collection(), exception);
+            return;
+        }
+
+        siblings.stream()
+                .filter(document -> document.getString("projectId") != null)
+                .collect(Collectors.groupingBy(document -> document.getString("projectId"), LinkedHashMap::new,
+                        Collectors.mapping(document -> document.get("_id").toString(), Collectors.toList())))
+                .forEach((projectId, ids) -> record(projectId, entityType, ids));
+    }
+
+    /**
+     * used for syncing the board with changes made since {@code since}. Request without token or with token whose
+     * history is no longer available is answered with reset and current token: client reloads the board and syncs
+     * from that token, so token has to be taken before the board is loaded. Changes that happen in between are
+     * delivered again with the next sync. Only owner and members of project can sync its board
+     *
+     * @param projectId           represents project of the board
+     * @param since               represents token returned by previous sync
+     * @param authorizationHeader represents token of user syncing the board
+     * @return current state of tasks and columns changed since the token, ids of deleted ones and the next token
+     */
+    public BoardChangesResponse getChanges(String projectId, String since, String authorizationHeader) {
+        projectAccessService.checkAccessToProject(projectId, userIdResolver.resolveUserId(authorizationHeader));
+
+        BoardChangeSequence sequence = mongoTemplate.findById(projectId, BoardChangeSequence.class);
+        long lastSeq = sequence == null ? 0 : sequence.getSeq();
+        Long sinceSeq = parseToken(since);
+
+        if (sinceSeq == null || sinceSeq > lastSeq) {
+            return reset(lastSeq);
+        }
+
+        List<BoardChange> changes = mongoTemplate.find(Query.query(Criteria.where("projectId").is(projectId)
+                        .and("seq").gt(sinceSeq))
+                .with(Sort.by("seq"))
+                .limit(maxChanges), BoardChange.class);
+
+        long token = sinceSeq;
+        int contiguousChanges = 0;
+        while (contiguousChanges < changes.size() && changes.get(contiguousChanges).getSeq() == token + 1) {
+            token++;
+            contiguousChanges++;
+        }
+
+        boolean hasMore = token < lastSeq;
+        if (hasMore && contiguousChanges < maxChanges) {
+            LocalDateTime gapReservedBefore = contiguousChanges < changes.size() ?
+                    changes.get(contiguousChanges).getChangedAt() : sequence.getUpdatedAt();
+
+            if (gapReservedBefore.isBefore(LocalDateTime.now().minus(gapGracePeriod))) {
+                return reset(lastSeq);
+            }
+        }
+
+        return buildResponse(projectId, changes.subList(0, contiguousChanges), token, hasMore);
+    }
+
+    private void record(String projectId, BoardEntityType entityType, Collection<String> entityIds) {
+        if (projectId == null || entityIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            insertChanges(projectId, entityType, entityIds);
+        } catch (RuntimeException exception) {
+            log.warn("changes of {} {} in project {} weren't recorded, clients syncing the board are going to be reset",
+                    entityIds.size(), entityType, projectId, exception);
+        }
+    }
+
+    private void insertChanges(String projectId, BoardEntityType entityType, Collection<String> entityIds) {
+        LocalDateTime now = LocalDateTime.now();
+        BoardChangeSequence sequence = mongoTemplate.findAndModify(Query.query(Criteria.where("id").is(projectId)),
+                new Update().inc("seq", entityIds.size()).set("updatedAt", now),
+                FindAndModifyOptions.options().upsert(true).returnNew(true), BoardChangeSequence.class);
+
+        long seq = sequence.getSeq() - entityIds.size();
+        List<BoardChange> changes = new ArrayList<>(entityIds.size());
+        for (String entityId : entityIds) {
+            changes.add(BoardChange.builder()
+                    .projectId(projectId)
+                    .seq(++seq)
+                    .entityType(entityType)
+                    .entityId(entityId)
+                    .changedAt(now)
+                    .expiresAt(now.plus(retention))
+                    .build());
+        }
+
+        mongoTemplate.insert(changes, BoardChange.class);
+    }
+
+    private BoardChangesResponse buildResponse(String projectId, List<BoardChange> changes, long token, boolean hasMore) {
+        Set<String> columnIds = getEntityIds(changes, BoardEntityType.COLUMN);
+        Set<String> taskIds = getEntityIds(changes, BoardEntityType.TASK);
+
+        List<Column> columns = columnIds.isEmpty() ? List.of() :
+                mongoTemplate.find(Query.query(Criteria.where("id").in(columnIds).and("projectId").is(projectId))
+                        .with(Sort.by("position", "id")), Column.class);
+        List<Task> tasks = taskIds.isEmpty() ? List.of() : findTasks(projectId, taskIds);
+
+        columns.forEach(column -> columnIds.remove(column.getId()));
+        tasks.forEach(task -> taskIds.remove(task.getId()));
+
+        return BoardChangesResponse.builder()
+                .token(String.valueOf(token))
+                .hasMore(hasMore)
+                .columns(columns)
+                .tasksByColumn(tasks.stream()
+                        .collect(Collectors.groupingBy(Task::getColumnId, LinkedHashMap::new,
+                                Collectors.mapping(this::toTaskCard, Collectors.collectingAndThen(Collectors.toList(),
+                                        cards -> cards.stream().sorted(CARD_ORDER).toList())))))
+                .deletedColumnIds(new ArrayList<>(columnIds))
+                .deletedTaskIds(new ArrayList<>(taskIds))
+                .build();
+    }
+
+    private List<Task> findTasks(String projectId, Set<String> taskIds) {
+        Query query = new BasicQuery(new Document(), TASK_CARD_FIELDS);
+        query.addCriteria(Criteria.where("id").in(taskIds).and("projectId").is(projectId).and("columnId").ne(null));
+
+        return mongoTemplate.find(query, Task.class);
+    }
+
+    private TaskCardResponse toTaskCard(Task task) {
+        return TaskCardResponse.builder()
+                .id(task.getId())
+                .title(task.getTitle())
+                .status(task.getStatus())
+                .priority(task.getPriority())
+                .assigneeId(task.getAssigneeId())
+                .dueDate(task.getDueDate())
+                .position(task.getPosition())
+                .tags(task.getTags())
+                .version(task.getVersion())
+                .build();
+    }
+
+    private Set<String> getEntityIds(List<BoardChange> changes, BoardEntityType entityType) {
+        return changes.stream()
+                .filter(change -> change.getEntityType() == entityType)
+                .map(BoardChange::getEntityId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private BoardChangesResponse reset(long lastSeq) {
+        return BoardChangesResponse.builder()
+                .token(String.valueOf(lastSeq))
+                .reset(true)
+                .columns(List.of())
+                .tasksByColumn(Map.of())
+                .deletedColumnIds(List.of())
+                .deletedTaskIds(List.of())
+                .build();
+    }
+
+    private Long parseToken(String since) {
+        if (since == null || since.isBlank()) {
+            return null;
+        }
+
+        try {
+            long sinceSeq = Long.parseLong(since);
+            if (sinceSeq < 0) {
+                throw new BadRequestException("since should be token returned by previous sync");
+            }
+
+            return sinceSeq;
+        } catch (NumberFormatException exception) {
+            throw new BadRequestException("since should be token returned by previous sync");
+        }
+    }
+
+}
@@ -3,16 +3,26 @@ package com.project.taskservice.columns.services;
 import com.project.taskservice.columns.data.Column;
 import com.project.taskservice.columns.data.dto.ColumnRequest;
 import com.project.taskservice.columns.data.dto.ColumnsTasksResponse;
-import com.project.taskservice.feigns.UserFeign;
-import com.project.taskservice.tasks.data.Task;
-import com.project.taskservice.utils.JwtUtils;
+import com.project.taskservice.columns.mappers.ColumnMapper;
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.tasks.data.dto.TaskCardResponse;
+import com.project.taskservice.tasks.data.enums.TaskSortKey;
+import com.project.taskservice.tasks.services.TaskQueryBuilder;
+import com.project.taskservice.utils.RankKeyService;
+import com.project.taskservice.utils.ResponseFormat;
+import com.project.taskservice.utils.TaskCursorCodec;
+import com.project.taskservice.utils.TaskCursorCodec.TaskCursor;
+import com.project.taskservice.utils.UserIdResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
-import org.modelmapper.ModelMapper;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
 import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
@@ -23,73 +33,95 @@ import java.util.List;
 @Slf4j
 public class ColumnService {
 
+    private static final String COLUMNS_COLLECTION = "columns";
+    private static final int DEFAULT_TASKS_PER_COLUMN = 20;
+    private static final Document TASK_CARD_FIELDS = new Document("title", 1L)
+            .append("status", 1L)
+            .append("priority", 1L)
+            .append("assigneeId", 1L)
+            .append("dueDate", 1L)
+            .append("position", 1L)
+            .append("tags", 1L)
+            .append("version", 1L);
+
     private final ColumnRepository columnRepository;
-    private final ModelMapper modelMapper;
-    private final UserFeign userFeign;
-    private final JwtUtils jwtUtils;
+    private final ColumnMapper columnMapper;
+    private final UserIdResolver userIdResolver;
     private final MongoTemplate mongoTemplate;
+    private final TaskCursorCodec taskCursorCodec;
+    private final BoardCache boardCache;
+    private final BoardChangeLog boardChangeLog;
+    private final RankKeyService rankKeyService;
 
     public List<Column> getAllProjectColumns(String projectId, String authorizationHeader) {
-        String userId = userFeign.getUserIdByToken(jwtUtils.getTokenFromAuthorizationHeader(authorizationHeader));
+        String userId = userIdResolver.resolveUserId(authorizationHeader);
         //todo: project members also should be able to see columns
         return columnRepository.findByProjectIdAndCreatedByIdOrderByPosition(projectId, userId);
     }
 
+    /**
+     * used for creating column at requested index among columns of project. Only the new column is written, its
+     * rank key is placed between keys of its neighbours
+     *
+     * @param columnRequest       represents name, project and index of column, column without index is added last
+     * @param authorizationHeader represents token of user creating column
+     */
     public void createColumn(ColumnRequest columnRequest, String authorizationHeader) {
-        Column mappedColumn = modelMapper.map(columnRequest, Column.class);
-        String userId = userFeign.getUserIdByToken(jwtUtils.getTokenFromAuthorizationHeader(authorizationHeader));
-
-        List<Column> columnsToUpdatePosition = new ArrayList<>(columnRepository.findByProjectIdAndCreatedByIdOrderByPosition(mappedColumn.getProjectId(), userId)
-                .stream()
-                .filter(column -> column.getPosition() >= mappedColumn.getPosition())
-                .peek(column -> column.setPosition(column.getPosition() + 1))
-                .toList());
+        Column mappedColumn = columnMapper.toColumn(columnRequest);
+        String userId = userIdResolver.resolveUserId(authorizationHeader);
 
         mappedColumn.setCreatedById(userId);
-        columnsToUpdatePosition.add(mappedColumn);
-        columnRepository.saveAll(columnsToUpdatePosition);
+        mappedColumn.setPosition(rankKeyService.rankForIndex(COLUMNS_COLLECTION, projectColumns(mappedColumn.getProjectId()),
+                null, columnRequest.getPosition()));
+        columnRepository.save(mappedColumn);
+        boardCache.bumpVersion(mappedColumn.getProjectId());
+        boardChangeLog.recordColumns(mappedColumn.getProjectId(), List.of(mappedColumn.getId()));
     }
 
+    /**
+     * used for renaming column and moving it to another index. Other columns of project keep their rank keys
+     *
+     * @param columnId            represents column to update
+     * @param columnRequest       represents new name and index of column, null fields are left unchanged
+     * @param authorizationHeader represents token of user updating column
+     * @return updated column
+     */
     public Column updateColumn(String columnId, ColumnRequest columnRequest, String authorizationHeader) {
         Column columnToUpdate = getColumnById(columnId);
-        String userId = userFeign.getUserIdByToken(jwtUtils.getTokenFromAuthorizationHeader(authorizationHeader));
+        Update update = new Update();
 
         if (columnRequest.getColumnName() != null && !columnRequest.getColumnName().equals(columnToUpdate.getColumnName())) {
             columnToUpdate.setColumnName(columnRequest.getColumnName());
+            update.set("columnName", columnToUpdate.getColumnName());
         }
 
-        List<Column> columnsToChangePosition = new ArrayList<>();
         if (columnRequest.getPosition() != null) {
-            moveColumnsPosition(columnRequest, columnToUpdate, columnsToChangePosition, userId);
+            columnToUpdate.setPosition(rankKeyService.rankForIndex(COLUMNS_COLLECTION,
+                    projectColumns(columnToUpdate.getProjectId()), columnId, columnRequest.getPosition()));
+            update.set("position", columnToUpdate.getPosition());
+        }
 
-            columnToUpdate.setPosition(columnRequest.getPosition());
-            columnsToChangePosition.add(columnToUpdate);
-            columnRepository.saveAll(columnsToChangePosition);
+        if (!update.getUpdateObject().isEmpty()) {
+            mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(columnId)), update, Column.class);
+            boardCache.bumpVersion(columnToUpdate.getProjectId());
+            boardChangeLog.recordColumns(columnToUpdate.getProjectId(), List.of(columnId));
         }
 
         return columnToUpdate;
     }
 
     public void deleteColumn(String columnId, String authorizationHeader) {
-        String userId = userFeign.getUserIdByToken(jwtUtils.getTokenFromAuthorizationHeader(authorizationHeader));
+        String userId = userIdResolver.resolveUserId(authorizationHeader);
         columnRepository.findByIdAndCreatedById(columnId, userId)
-                .map(Column::getId)
-                .ifPresent(columnRepository::deleteById);
+                .ifPresent(column -> {
+                    columnRepository.deleteById(column.getId());
+                    boardCache.bumpVersion(column.getProjectId());
+                    boardChangeLog.recordColumns(column.getProjectId(), List.of(column.getId()));
+                });
     }
 
-    private void moveColumnsPosition(ColumnRequest columnRequest, Column columnToUpdate, List<Column> columnsToChangePosition,
-                                     String userId) {
-        columnRepository.findByProjectIdAndCreatedByIdOrderByPosition(columnToUpdate.getProjectId(), userId)
-                .stream()
-                .filter(column -> columnRequest.getPosition() <= column.getPosition())
-                .peek(column -> column.setPosition(column.getPosition() + 1))
-                .forEach(columnsToChangePosition::add);
-
-        columnRepository.findByProjectIdAndCreatedByIdOrderByPosition(columnToUpdate.getProjectId(), userId)
-                .stream()
-                .filter(column -> columnRequest.getPosition() > column.getPosition())
-                .peek(column -> column.setPosition(column.getPosition() - 1))
-                .forEach(columnsToChangePosition::add);
+    private Criteria projectColumns(String projectId) {
+        return Criteria.where("projectId").is(projectId);
     }
 
     private Column getColumnById(String columnId) {
@@ -97,44 +129,76 @@ public class ColumnService {
                 .orElseThrow(() -> new RuntimeException("Column with id '%s' not found".formatted(columnId)));
     }
 
-    public List<ColumnsTasksResponse> getColumnsAndTasksByProjectId(String projectId) {
-        TypedAggregation<Document> aggregation = getDocumentTypedAggregation(projectId);
+    /**
+     * used for building board of project. Every column carries at most {@code tasksPerColumn} task cards sorted by
+     * position and cursor for loading the rest of its tasks using {@code GET /tasks/column/{columnId}}
+     *
+     * @param projectId      represents project of the board
+     * @param tasksPerColumn represents maximum number of tasks embedded into each column
+     * @return columns of project sorted by position
+     */
+    public List<ColumnsTasksResponse> getColumnsAndTasksByProjectId(String projectId, Integer tasksPerColumn) {
+        int tasksLimit = getTasksLimit(tasksPerColumn);
+
+        return boardCache.getBoard(projectId, tasksLimit, () -> loadColumnsAndTasks(projectId, tasksLimit));
+    }
+
+    /**
+     * used for answering conditional board requests without reading the board
+     *
+     * @param projectId      represents project of the board
+     * @param tasksPerColumn represents maximum number of tasks embedded into each column
+     * @param format         represents format negotiated for the response
+     * @return etag of current version of the board built with the same limit and encoded in the same format
+     */
+    public String getBoardETag(String projectId, Integer tasksPerColumn, ResponseFormat format) {
+        return boardCache.getETag(projectId, getTasksLimit(tasksPerColumn), format);
+    }
+
+    /**
+     * aggregation result is decoded by {@link com.project.taskservice.columns.codecs.ColumnsTasksResponseCodec}
+     * straight from the cursor, so no intermediate {@link Document} is built for columns and their task cards
+     */
+    private List<ColumnsTasksResponse> loadColumnsAndTasks(String projectId, int tasksLimit) {
+        TypedAggregation<Document> aggregation = getDocumentTypedAggregation(projectId, tasksLimit);
 
-        List<Document> columns = mongoTemplate.aggregate(aggregation, "columns", Document.class).getMappedResults();
+        List<ColumnsTasksResponse> columns = mongoTemplate.getCollection(COLUMNS_COLLECTION)
+                .aggregate(aggregation.toPipeline(Aggregation.DEFAULT_CONTEXT), ColumnsTasksResponse.class)
+                .into(new ArrayList<>());
 
-        return buildResponseFromTaskColumnsAggregation(columns);
+        columns.forEach(column -> limitTasks(column, tasksLimit));
+        return columns;
     }
 
-    private List<ColumnsTasksResponse> buildResponseFromTaskColumnsAggregation(List<Document> columns) {
-        List<ColumnsTasksResponse> response = new ArrayList<>();
-
-        columns.forEach(doc -> {
-            ColumnsTasksResponse columnsTasksResponse = new ColumnsTasksResponse();
-            columnsTasksResponse.setId(doc.get("_id").toString());
-            columnsTasksResponse.setColumnName(doc.getString("columnName"));
-            columnsTasksResponse.setPosition(doc.getInteger("position"));
-            columnsTasksResponse.setProjectId(doc.getString("projectId"));
-            columnsTasksResponse.setCreatedById(doc.getString("createdById"));
-            List<Task> tasks = buildTasksFromDocument(doc);
-            columnsTasksResponse.setTasks(tasks);
-
-            response.add(columnsTasksResponse);
-        });
-        return response;
+    private void limitTasks(ColumnsTasksResponse column, int tasksLimit) {
+        List<TaskCardResponse> tasks = column.getTasks();
+
+        if (tasks.size() > tasksLimit) {
+            tasks = new ArrayList<>(tasks.subList(0, tasksLimit));
+            TaskCardResponse lastTask = tasks.get(tasksLimit - 1);
+            column.setNextTasksCursor(taskCursorCodec.encode(new TaskCursor(TaskSortKey.POSITION, 1,
+                    lastTask.getPosition(), lastTask.getId())));
+            column.setTasks(tasks);
+        }
     }
 
-    private List<Task> buildTasksFromDocument(Document doc) {
-        return doc.getList("tasks", Document.class)
-                .stream()
-                .map(cDoc -> {
-                    Task task = modelMapper.map(cDoc, Task.class);
-                    task.setId(cDoc.get("_id").toString());
-                    return task;
-                })
-                .toList();
+    private int getTasksLimit(Integer tasksPerColumn) {
+        if (tasksPerColumn == null) {
+            return DEFAULT_TASKS_PER_COLUMN;
+        }
+
+        if (tasksPerColumn < 1) {
+            throw new BadRequestException("tasksPerColumn should be positive");
+        }
+
+        return Math.min(tasksPerColumn, TaskQueryBuilder.MAX_LIMIT);
     }
 
-    private static TypedAggregation<Document> getDocumentTypedAggregation(String projectId) {
+    /**
+     * tasks are sorted and limited inside the lookup, so the index on (columnId, position, _id) serves each column
+     * and only card fields of one extra task per column are read to know whether the column has more tasks
+     */
+    private static TypedAggregation<Document> getDocumentTypedAggregation(String projectId, int tasksLimit) {
         List<AggregationOperation> operationList = new ArrayList<>();
 
         AggregationOperation matchProjectId = context -> new Document("$match",
@@ -148,10 +212,14 @@ public class ColumnService {
                 new Document("from", "tasks")
                         .append("localField", "_id")
                         .append("foreignField", "columnId")
+                        .append("pipeline", List.of(
+                                new Document("$sort", new Document("position", 1L).append("_id", 1L)),
+                                new Document("$limit", tasksLimit + 1),
+                                new Document("$project", TASK_CARD_FIELDS)))
                         .append("as", "tasks"));
 
         AggregationOperation sortColumns = context -> new Document("$sort",
-                new Document("position", 1L));
+                new Document("position", 1L).append("_id", 1L));
 
         operationList.add(matchProjectId);
         operationList.add(convertIdToString);
@@ -1,60 +1,47 @@
 package com.project.taskservice.config;
 
-import com.project.taskservice.columns.data.Column;
-import com.project.taskservice.columns.data.dto.ColumnRequest;
-import com.project.taskservice.exceptions.TokenInvalidException;
+import com.mongodb.MongoClientSettings;
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.GridFSBuckets;
+import com.project.taskservice.columns.codecs.ColumnsTasksResponseCodec;
+import com.project.taskservice.tasks.codecs.TaskCodec;
+import com.project.taskservice.utils.ClientCredentialsTokenManager;
 import com.project.taskservice.utils.ErrorFeignDecoder;
 import feign.RequestInterceptor;
-import org.keycloak.OAuth2Constants;
-import org.keycloak.admin.client.Keycloak;
-import org.keycloak.admin.client.KeycloakBuilder;
-import org.keycloak.representations.AccessTokenResponse;
-import org.modelmapper.ModelMapper;
-import org.springframework.beans.factory.annotation.Value;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
 import org.springframework.http.HttpHeaders;
 
 @Configuration
 public class BeanConfiguration {
 
-    @Value("${keycloak.server-url}")
-    private String keycloakServerUrl;
-    @Value("${keycloak.realm}")
-    private String keycloakRealm;
-    @Value("${keycloak.client-id}")
-    private String keycloakClientId;
-    @Value("${keycloak.client-secret}")
-    private String keycloakClientSecret;
-
+    /**
+     * registers codecs that decode board aggregation and task pages without intermediate {@link org.bson.Document}.
+     * Our codecs go first, default ones of the driver are used for everything else
+     */
     @Bean
-    public ModelMapper modelMapper() {
-        ModelMapper modelMapper = new ModelMapper();
-        modelMapper.getConfiguration().setAmbiguityIgnored(true);
-        modelMapper.getConfiguration().setSkipNullEnabled(true);
-        modelMapper.typeMap(ColumnRequest.class, Column.class).addMappings(mapper -> mapper.skip(Column::setId));
-        return modelMapper;
+    public MongoClientSettingsBuilderCustomizer domainCodecsCustomizer() {
+        return builder -> builder.codecRegistry(CodecRegistries.fromRegistries(
+                CodecRegistries.fromCodecs(new TaskCodec(), new ColumnsTasksResponseCodec()),
+                MongoClientSettings.getDefaultCodecRegistry()));
     }
 
+    /**
+     * bucket attachments of tasks are stored in. Files are written and read chunk by chunk, so whole file is never
+     * kept in memory
+     */
     @Bean
-    public RequestInterceptor requestInterceptor() {
-        return requestTemplate -> {
-            Keycloak keycloak = KeycloakBuilder.builder()
-                    .realm(keycloakRealm)
-                    .serverUrl(keycloakServerUrl)
-                    .clientId(keycloakClientId)
-                    .clientSecret(keycloakClientSecret)
-                    .scope("view_users")
-                    .grantType(OAuth2Constants.CLIENT_CREDENTIALS)
-                    .build();
-
-            AccessTokenResponse accessToken = keycloak.tokenManager().getAccessToken();
-            if (accessToken == null) {
-                throw new TokenInvalidException("Invalid token");
-            }
+    public GridFSBucket attachmentsBucket(MongoDatabaseFactory mongoDatabaseFactory) {
+        return GridFSBuckets.create(mongoDatabaseFactory.getMongoDatabase(), "attachments");
+    }
 
-            requestTemplate.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken.getToken());
-        };
+    @Bean
+    public RequestInterceptor requestInterceptor(ClientCredentialsTokenManager clientCredentialsTokenManager) {
+        return requestTemplate -> requestTemplate.header(HttpHeaders.AUTHORIZATION,
+                "Bearer " + clientCredentialsTokenManager.getAccessToken());
     }
 
     @Bean
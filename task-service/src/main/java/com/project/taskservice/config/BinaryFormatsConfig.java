@@ -0,0 +1,58 @@
+package com.project.taskservice.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * lets clients ask for {@code application/cbor} or {@code application/x-jackson-smile} instead of json through
+ * {@code Accept} header. Json stays the default, because its converter comes first. Binary converters are built by
+ * the same object mapper builder as json one, so every format carries the same fields, dates and enums and only
+ * encoding differs. Responses are marked to vary by {@code Accept} for caches, but that alone doesn't keep etags
+ * apart: conditional request revalidates any stored body, so etags of endpoints that answer 304 carry the negotiated
+ * {@link com.project.taskservice.utils.ResponseFormat} as well
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BinaryFormatsConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.removeIf(converter -> converter instanceof MappingJackson2CborHttpMessageConverter ||
+                converter instanceof MappingJackson2SmileHttpMessageConverter);
+        converters.add(new MappingJackson2CborHttpMessageConverter(objectMapperBuilder.getObject()
+                .factory(new CBORFactory())
+                .build()));
+        converters.add(new MappingJackson2SmileHttpMessageConverter(objectMapperBuilder.getObject()
+                .factory(new SmileFactory())
+                .build()));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                return true;
+            }
+        });
+    }
+
+}
@@ -0,0 +1,136 @@
+package com.project.taskservice.config;
+
+import com.project.taskservice.tasks.data.Comment;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * moves comments embedded into task documents before comments got their own collection. Every comment gets id made
+ * of task id and its index, so comments moved by interrupted run are overwritten instead of duplicated, and task
+ * loses embedded comments only if they weren't changed since they were read. Tasks without embedded comments are
+ * not touched, so running it again does nothing
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CommentMigration {
+
+    private static final String COMMENTS_FIELD = "comments";
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskExecutor taskExecutor;
+
+    @Value("${comments.migrate-on-startup:true}")
+    private boolean migrateOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateCommentsOnStartup() {
+        if (migrateOnStartup) {
+            taskExecutor.execute(() -> {
+                try {
+                    migrateComments();
+                } catch (RuntimeException exception) {
+                    log.error("unable to migrate embedded comments", exception);
+                }
+            });
+        }
+    }
+
+    /**
+     * used for moving embedded comments of tasks to "comments" collection
+     *
+     * @return number of tasks whose comments were moved
+     */
+    public long migrateComments() {
+        Query legacyComments = new Query(Criteria.where(COMMENTS_FIELD).exists(true));
+        legacyComments.fields().include(COMMENTS_FIELD, "createdById", "createdAt");
+
+        long migratedTasks = 0;
+        List<Document> batch = new ArrayList<>(BATCH_SIZE);
+        try (Stream<Document> legacyTasks = mongoTemplate.stream(legacyComments, Document.class, "tasks")) {
+            Iterator<Document> tasks = legacyTasks.iterator();
+            while (tasks.hasNext()) {
+                batch.add(tasks.next());
+
+                if (batch.size() == BATCH_SIZE || !tasks.hasNext()) {
+                    migratedTasks += migrateBatch(batch);
+                    batch.clear();
+                }
+            }
+        }
+
+        if (migratedTasks > 0) {
+            log.info("embedded comments of {} tasks were moved to 'comments'", migratedTasks);
+        }
+        return migratedTasks;
+    }
+
+    private long migrateBatch(List<Document> tasks) {
+        BulkOperations commentOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Comment.class);
+        BulkOperations taskOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, "tasks");
+        boolean hasComments = false;
+
+        for (Document task : tasks) {
+            List<?> comments = task.get(COMMENTS_FIELD) instanceof List<?> list ? list : List.of();
+            for (Comment comment : toComments(task, comments)) {
+                commentOperations.replaceOne(new Query(Criteria.where("id").is(comment.getId())), comment,
+                        FindAndReplaceOptions.options().upsert());
+                hasComments = true;
+            }
+
+            taskOperations.updateOne(new Query(Criteria.where("_id").is(task.get("_id"))
+                            .and(COMMENTS_FIELD).is(task.get(COMMENTS_FIELD))),
+                    new Update().unset(COMMENTS_FIELD).inc("commentCount", comments.size()));
+        }
+
+        if (hasComments) {
+            commentOperations.execute();
+        }
+        return taskOperations.execute().getModifiedCount();
+    }
+
+    /**
+     * embedded comments had only text, so author is creator of task and creation time follows order of comments,
+     * starting from creation of task
+     */
+    private List<Comment> toComments(Document task, List<?> comments) {
+        String taskId = task.get("_id").toString();
+        LocalDateTime taskCreatedAt = task.get("createdAt") instanceof Date createdAt ?
+                LocalDateTime.ofInstant(createdAt.toInstant(), ZoneId.systemDefault()) : LocalDateTime.now();
+
+        List<Comment> migratedComments = new ArrayList<>(comments.size());
+        for (int index = 0; index < comments.size(); index++) {
+            migratedComments.add(Comment.builder()
+                    .id(taskId + ":" + index)
+                    .taskId(taskId)
+                    .authorId(task.getString("createdById"))
+                    .text(String.valueOf(comments.get(index)))
+                    .createdAt(taskCreatedAt.plusNanos(index * 1_000_000L))
+                    .build());
+        }
+
+        return migratedComments;
+    }
+
+}
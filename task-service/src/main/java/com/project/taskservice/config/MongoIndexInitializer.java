@@ -0,0 +1,132 @@
+package com.project.taskservice.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver.IndexDefinitionHolder;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * creates indexes declared on {@code @Document} classes and keeps existing ones in line with declarations. Index
+ * that exists under declared name but with different keys or options is dropped and created again, indexes that
+ * are not declared anywhere are only reported, because dropping them is left to a person
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexInitializer {
+
+    private static final String DEFAULT_ID_INDEX = "_id_";
+    private static final Set<String> COMPARED_OPTIONS = Set.of("unique", "sparse", "expireAfterSeconds",
+            "partialFilterExpression", "collation");
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mongoMappingContext;
+    private final TaskExecutor taskExecutor;
+
+    @Value("${mongo-indexes.initialize-on-startup:true}")
+    private boolean initializeOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIndexesOnStartup() {
+        if (initializeOnStartup) {
+            taskExecutor.execute(() -> {
+                try {
+                    initializeIndexes();
+                } catch (RuntimeException exception) {
+                    log.error("unable to initialize mongo indexes", exception);
+                }
+            });
+        }
+    }
+
+    /**
+     * used for creating missing and recreating changed indexes of every mapped collection
+     */
+    public void initializeIndexes() {
+        MongoPersistentEntityIndexResolver indexResolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+
+        for (MongoPersistentEntity<?> persistentEntity : mongoMappingContext.getPersistentEntities()) {
+            if (persistentEntity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                reconcileIndexes(persistentEntity.getCollection(), indexResolver.resolveIndexForEntity(persistentEntity));
+            }
+        }
+    }
+
+    private void reconcileIndexes(String collection, List<IndexDefinitionHolder> declaredIndexes) {
+        IndexOperations indexOperations = mongoTemplate.indexOps(collection);
+        Map<String, Document> existingIndexes = new HashMap<>();
+        mongoTemplate.getCollection(collection)
+                .listIndexes()
+                .forEach(index -> existingIndexes.put(index.getString("name"), index));
+
+        for (IndexDefinitionHolder declaredIndex : declaredIndexes) {
+            String indexName = declaredIndex.getIndexOptions().getString("name");
+            Document existingIndex = existingIndexes.remove(indexName);
+
+            if (existingIndex != null && isSameIndex(existingIndex, declaredIndex)) {
+                continue;
+            }
+
+            if (existingIndex != null) {
+                log.warn("index '{}' of collection '{}' differs from declaration, recreating it", indexName, collection);
+                indexOperations.dropIndex(indexName);
+            }
+
+            indexOperations.ensureIndex(declaredIndex);
+            log.info("index '{}' of collection '{}' was created", indexName, collection);
+        }
+
+        existingIndexes.keySet()
+                .stream()
+                .filter(indexName -> !DEFAULT_ID_INDEX.equals(indexName))
+                .forEach(indexName -> log.warn("index '{}' of collection '{}' is not declared", indexName, collection));
+    }
+
+    private boolean isSameIndex(Document existingIndex, IndexDefinitionHolder declaredIndex) {
+        if (!normalizeKeys(existingIndex.get("key", Document.class)).equals(normalizeKeys(declaredIndex.getIndexKeys()))) {
+            return false;
+        }
+
+        Document declaredOptions = declaredIndex.getIndexOptions();
+
+        return COMPARED_OPTIONS.stream()
+                .allMatch(option -> Objects.equals(normalizeOption(existingIndex.get(option)),
+                        normalizeOption(declaredOptions.get(option))));
+    }
+
+    /**
+     * key order matters for compound indexes and server may return numeric directions as double, so keys are
+     * compared as ordered list of "field:direction"
+     */
+    private List<String> normalizeKeys(Document keys) {
+        return keys.entrySet()
+                .stream()
+                .map(key -> key.getKey() + ":" + normalizeOption(key.getValue()))
+                .toList();
+    }
+
+    private Object normalizeOption(Object value) {
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+
+        return Boolean.FALSE.equals(value) ? null : value;
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.project.taskservice.config;
+
+import com.project.taskservice.utils.PositionsReassignedEvent;
+import com.project.taskservice.utils.RankKeys;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.schema.JsonSchemaObject.Type;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * replaces integer positions of columns and tasks written before rank keys were introduced. Every project (for
+ * columns) or column (for tasks) that still has integer position gets evenly spaced rank keys for all its
+ * documents, keeping their previous order. Groups without integer positions are not touched, so running it again
+ * does nothing. Group that gets new document before migration on startup reaches it is migrated on demand
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PositionMigration {
+
+    private static final String POSITION_FIELD = "position";
+    private static final Comparator<Document> LEGACY_ORDER = Comparator
+            .comparing((Document document) -> positionRank(document.get(POSITION_FIELD)))
+            .thenComparingDouble(document -> document.get(POSITION_FIELD) instanceof Number number ? number.doubleValue() : 0.0)
+            .thenComparing(document -> document.get(POSITION_FIELD) instanceof String key ? key : "")
+            .thenComparing(document -> document.get("_id").toString());
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskExecutor taskExecutor;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${rank-keys.migrate-on-startup:true}")
+    private boolean migrateOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migratePositionsOnStartup() {
+        if (migrateOnStartup) {
+            taskExecutor.execute(() -> {
+                try {
+                    migratePositions();
+                } catch (RuntimeException exception) {
+                    log.error("unable to migrate integer positions", exception);
+                }
+            });
+        }
+    }
+
+    /**
+     * used for converting integer positions of columns and tasks to rank keys
+     */
+    public void migratePositions() {
+        migrateCollection("columns", "projectId");
+        migrateCollection("tasks", "columnId");
+    }
+
+    private void migrateCollection(String collection, String groupField) {
+        Query legacyPositions = new Query(legacyPosition());
+        List<Object> groups = mongoTemplate.findDistinct(legacyPositions, groupField, collection, Object.class);
+
+        for (Object group : groups) {
+            migrateGroup(collection, Criteria.where(groupField).is(group));
+        }
+
+        if (!groups.isEmpty()) {
+            log.info("integer positions of {} groups in '{}' were replaced with rank keys", groups.size(), collection);
+        }
+    }
+
+    /**
+     * used for migrating single group when document is placed among siblings that still have integer positions
+     *
+     * @param collection represents collection of ordered documents
+     * @param group      represents criteria selecting documents ordered together
+     * @return true if group had integer positions and got rank keys instead
+     */
+    public boolean migrateGroupIfNeeded(String collection, Criteria group) {
+        if (!mongoTemplate.exists(new Query(new Criteria().andOperator(group, legacyPosition())), collection)) {
+            return false;
+        }
+
+        migrateGroup(collection, group);
+        log.info("integer positions of {} in '{}' were replaced with rank keys on demand",
+                group.getCriteriaObject().toJson(), collection);
+        return true;
+    }
+
+    private void migrateGroup(String collection, Criteria group) {
+        Query siblingsQuery = new Query(group);
+        siblingsQuery.fields().include(POSITION_FIELD);
+        List<Document> siblings = mongoTemplate.find(siblingsQuery, Document.class, collection)
+                .stream()
+                .sorted(LEGACY_ORDER)
+                .toList();
+
+        List<String> rankKeys = RankKeys.evenlySpaced(siblings.size());
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        for (int index = 0; index < siblings.size(); index++) {
+            Document sibling = siblings.get(index);
+            bulkOperations.updateOne(new Query(Criteria.where("_id").is(sibling.get("_id"))
+                            .and(POSITION_FIELD).is(sibling.get(POSITION_FIELD))),
+                    new Update().set(POSITION_FIELD, rankKeys.get(index)));
+        }
+
+        bulkOperations.execute();
+        applicationEventPublisher.publishEvent(new PositionsReassignedEvent(collection, group));
+    }
+
+    private static Criteria legacyPosition() {
+        return Criteria.where(POSITION_FIELD).type(Type.intType(), Type.longType(), Type.doubleType());
+    }
+
+    /**
+     * integer positions go first, because they were the only ones before migration, then rank keys written by new
+     * instances while old ones were still running, then documents without position
+     */
+    private static int positionRank(Object position) {
+        if (position instanceof Number) {
+            return 0;
+        }
+
+        return position instanceof String ? 1 : 2;
+    }
+
+}
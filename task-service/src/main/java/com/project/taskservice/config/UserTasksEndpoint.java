@@ -0,0 +1,26 @@
+package com.project.taskservice.config;
+
+import com.project.taskservice.tasks.services.UserTaskProjection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * management endpoint for backfilling "my tasks" read model: {@code POST /actuator/usertasks} rebuilds it from tasks
+ */
+@Component
+@Endpoint(id = "usertasks")
+@RequiredArgsConstructor
+public class UserTasksEndpoint {
+
+    private final UserTaskProjection userTaskProjection;
+
+    @WriteOperation
+    public Map<String, Long> rebuild() {
+        return Map.of("entries", userTaskProjection.rebuild());
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.project.taskservice.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONFLICT)
+public class VersionConflictException extends ConflictException {
+
+    public VersionConflictException(String message) {
+        super(message);
+    }
+
+}
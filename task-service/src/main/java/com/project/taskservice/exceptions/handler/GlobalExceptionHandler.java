@@ -1,8 +1,11 @@
 package com.project.taskservice.exceptions.handler;
 
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.exceptions.ConflictException;
 import com.project.taskservice.exceptions.DefaultException;
 import com.project.taskservice.exceptions.EntityNotFoundException;
 import com.project.taskservice.exceptions.ForbiddenException;
+import com.project.taskservice.exceptions.PayloadTooLargeException;
 import com.project.taskservice.exceptions.TokenInvalidException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
@@ -15,7 +18,8 @@ import java.time.LocalDateTime;
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
-    @ExceptionHandler(value = {TokenInvalidException.class, EntityNotFoundException.class})
+    @ExceptionHandler(value = {TokenInvalidException.class, EntityNotFoundException.class,
+            BadRequestException.class})
     public ResponseEntity<ProblemDetail> handleCommonBadRequestExceptions(RuntimeException ex) {
         return buildCommonExceptionHandler(ex.getMessage(), HttpStatus.BAD_REQUEST);
     }
@@ -25,6 +29,16 @@ public class GlobalExceptionHandler {
         return buildCommonExceptionHandler(ex.getMessage(), HttpStatus.FORBIDDEN);
     }
 
+    @ExceptionHandler(value = {ConflictException.class})
+    public ResponseEntity<ProblemDetail> handleCommonConflictExceptions(RuntimeException ex) {
+        return buildCommonExceptionHandler(ex.getMessage(), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(value = {PayloadTooLargeException.class})
+    public ResponseEntity<ProblemDetail> handleCommonPayloadTooLargeExceptions(RuntimeException ex) {
+        return buildCommonExceptionHandler(ex.getMessage(), HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
     @ExceptionHandler(value = {DefaultException.class})
     public ResponseEntity<ProblemDetail> handleInternalServerError(RuntimeException exception) {
         return buildCommonExceptionHandler(exception.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
@@ -1,16 +1,24 @@
 package com.project.taskservice.feigns;
 
 import com.project.taskservice.config.BeanConfiguration;
+import com.project.taskservice.model.ProjectAccessCheckRequest;
+import com.project.taskservice.model.ProjectAccessCheckResponse;
 import com.project.taskservice.model.ProjectAccessDto;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.util.List;
+
 @FeignClient(name = "project-service", url = "${url.project-service}", path = "/projects", configuration = BeanConfiguration.class)
 public interface ProjectFeign {
 
     @PostMapping("/feign/{projectId}/access")
     ProjectAccessDto getProjectAccessFeign(@PathVariable("projectId") String projectId,
                                            @RequestBody String userId);
+
+    @PostMapping("/feign/access:batch")
+    List<ProjectAccessCheckResponse> getProjectAccessBatchFeign(@RequestBody List<ProjectAccessCheckRequest> accessCheckRequests);
+
 }
@@ -0,0 +1,29 @@
+package com.project.taskservice.kafka;
+
+import com.project.taskservice.projects.services.ProjectAccessService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class KafkaConsumer {
+
+    private final ProjectAccessService projectAccessService;
+
+    /**
+     * listens to project access changes. Every instance uses its own group, so each of them drops its cached entry.
+     * Group is named after host of instance, which is name of pod in kubernetes and id of container in docker, so
+     * restarted instance joins its previous group instead of leaving one more orphaned group behind
+     *
+     * @param projectId represents project which owner or members were changed
+     */
+    @KafkaListener(topics = {"${kafka.project-access-topic}"}, groupId = "task-service-${kafka.instance-id}")
+    public void consumeProjectAccessChange(String projectId) {
+        log.debug("project access changed: {}", projectId);
+        projectAccessService.invalidate(projectId);
+    }
+
+}
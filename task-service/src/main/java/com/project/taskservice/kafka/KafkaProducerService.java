@@ -0,0 +1,50 @@
+package com.project.taskservice.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.taskservice.exceptions.DefaultException;
+import com.project.taskservice.reminders.data.dto.DueReminderEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KafkaProducerService {
+
+    private final KafkaTemplate<String, String> producer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${kafka.due-reminders-topic}")
+    private String topicDueReminders;
+
+    /**
+     * used for publishing reminders of tasks which due date is close. All reminders are sent before waiting for
+     * broker, so they go out in producer batches, and method returns only when every one of them is acknowledged
+     *
+     * @param reminders represents reminders, keyed by task id
+     */
+    public void sendDueReminders(List<DueReminderEvent> reminders) {
+        CompletableFuture<?>[] sentReminders = reminders.stream()
+                .map(reminder -> producer.send(topicDueReminders, reminder.getTaskId(), toJson(reminder)))
+                .toArray(CompletableFuture[]::new);
+
+        CompletableFuture.allOf(sentReminders).join();
+        log.debug("{} due reminders were published", reminders.size());
+    }
+
+    private String toJson(DueReminderEvent reminder) {
+        try {
+            return objectMapper.writeValueAsString(reminder);
+        } catch (JsonProcessingException exception) {
+            throw new DefaultException(exception.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.project.taskservice.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Set;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ProjectAccessCheckResponse {
+
+    private String projectId;
+
+    private String userId;
+
+    private boolean accessGranted;
+
+    private String ownerId;
+
+    private Set<String> memberIds;
+
+}
@@ -0,0 +1,23 @@
+package com.project.taskservice.projects;
+
+import com.project.taskservice.projects.data.dto.ProjectStatsResponse;
+import com.project.taskservice.projects.services.ProjectStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/projects")
+@RequiredArgsConstructor
+public class ProjectStatsController {
+
+    private final ProjectStatsService projectStatsService;
+
+    @GetMapping("/{projectId}/stats")
+    public ResponseEntity<ProjectStatsResponse> getProjectStats(@PathVariable("projectId") String projectId,
+                                                                @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        return ResponseEntity.ok(projectStatsService.getProjectStats(projectId, authorizationHeader));
+    }
+
+}
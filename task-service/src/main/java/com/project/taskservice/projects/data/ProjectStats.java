@@ -0,0 +1,39 @@
+package com.project.taskservice.projects.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * counters of tasks of one project. Id of document is id of project, counters are changed by $inc on every task
+ * write and recomputed from tasks only by reconciliation
+ */
+@Document(collection = "project_stats")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ProjectStats {
+
+    private String id;
+
+    private long taskCount;
+
+    @Builder.Default
+    private Map<String, Long> statusCounts = new HashMap<>();
+
+    private long timeSpent;
+
+    private long timeEstimated;
+
+    private long gamificationPoints;
+
+    private LocalDateTime reconciledAt;
+
+}
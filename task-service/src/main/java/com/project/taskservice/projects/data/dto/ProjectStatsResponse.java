@@ -0,0 +1,34 @@
+package com.project.taskservice.projects.data.dto;
+
+import com.project.taskservice.tasks.data.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ProjectStatsResponse {
+
+    private String projectId;
+
+    private long taskCount;
+
+    private Map<Status, Long> statusCounts;
+
+    private long overdueCount;
+
+    private long timeSpent;
+
+    private long timeEstimated;
+
+    private long gamificationPoints;
+
+    private LocalDateTime reconciledAt;
+
+}
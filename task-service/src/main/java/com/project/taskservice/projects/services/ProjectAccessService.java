@@ -0,0 +1,154 @@
+package com.project.taskservice.projects.services;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.taskservice.exceptions.ForbiddenException;
+import com.project.taskservice.feigns.ProjectFeign;
+import com.project.taskservice.model.ProjectAccessCheckRequest;
+import com.project.taskservice.model.ProjectAccessCheckResponse;
+import com.project.taskservice.model.ProjectAccessDto;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * keeps owner and members of recently used projects in memory, so access checks don't call project-service
+ * every time. Entries are evicted by size and age and invalidated explicitly when project-service reports
+ * membership or ownership change
+ */
+@Service
+@Slf4j
+public class ProjectAccessService {
+
+    private final ProjectFeign projectFeign;
+    private final Cache<String, ProjectAccessDto> projectAccessCache;
+
+    public ProjectAccessService(ProjectFeign projectFeign, MeterRegistry meterRegistry,
+                                @Value("${project-access-cache.maximum-size:10000}") long maximumSize,
+                                @Value("${project-access-cache.expire-after-write:5m}") Duration expireAfterWrite) {
+        this.projectFeign = projectFeign;
+        this.projectAccessCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, projectAccessCache, "project-access");
+    }
+
+    /**
+     * checks that user is owner or member of project
+     *
+     * @param projectId represents project to check
+     * @param userId    represents user that requests access
+     * @return owner and members of project
+     */
+    public ProjectAccessDto checkAccessToProject(String projectId, String userId) {
+        ProjectAccessDto cachedProjectAccess = projectAccessCache.getIfPresent(projectId);
+
+        if (cachedProjectAccess != null && hasAccess(cachedProjectAccess, userId)) {
+            return cachedProjectAccess;
+        }
+
+        ProjectAccessDto projectAccess = loadProjectAccess(projectId, userId);
+        projectAccessCache.put(projectId, projectAccess);
+
+        if (!hasAccess(projectAccess, userId)) {
+            throw new ForbiddenException("You don't have access to this project");
+        }
+
+        return projectAccess;
+    }
+
+    /**
+     * checks access of user to many projects at once. Projects missing in cache are resolved by single call to
+     * project-service
+     *
+     * @param projectIds represents projects to check
+     * @param userId     represents user that requests access
+     * @return owner and members of every project user has access to, keyed by project id
+     */
+    public Map<String, ProjectAccessDto> getAccessibleProjects(Collection<String> projectIds, String userId) {
+        Map<String, ProjectAccessDto> accessibleProjects = new HashMap<>();
+        List<ProjectAccessCheckRequest> accessCheckRequests = new HashSet<>(projectIds)
+                .stream()
+                .filter(projectId -> {
+                    ProjectAccessDto cachedProjectAccess = projectAccessCache.getIfPresent(projectId);
+                    if (cachedProjectAccess != null && hasAccess(cachedProjectAccess, userId)) {
+                        accessibleProjects.put(projectId, cachedProjectAccess);
+                        return false;
+                    }
+                    return true;
+                })
+                .map(projectId -> new ProjectAccessCheckRequest(projectId, userId))
+                .toList();
+
+        if (!accessCheckRequests.isEmpty()) {
+            loadProjectAccess(accessCheckRequests)
+                    .stream()
+                    .filter(ProjectAccessCheckResponse::isAccessGranted)
+                    .forEach(accessCheckResponse -> {
+                        ProjectAccessDto projectAccess = new ProjectAccessDto(accessCheckResponse.getOwnerId(),
+                                accessCheckResponse.getMemberIds());
+                        projectAccessCache.put(accessCheckResponse.getProjectId(), projectAccess);
+                        accessibleProjects.put(accessCheckResponse.getProjectId(), projectAccess);
+                    });
+        }
+
+        return accessibleProjects;
+    }
+
+    /**
+     * called when project's owner or members were changed
+     *
+     * @param projectId represents changed project
+     */
+    public void invalidate(String projectId) {
+        projectAccessCache.invalidate(projectId);
+    }
+
+    private ProjectAccessDto loadProjectAccess(String projectId, String userId) {
+        ProjectAccessDto projectAccess;
+        try {
+            projectAccess = projectFeign.getProjectAccessFeign(projectId, userId);
+        } catch (FeignException exception) {
+            throw new ForbiddenException(exception.getMessage());
+        }
+
+        if (projectAccess == null) {
+            throw new ForbiddenException("You don't have access to this project");
+        }
+
+        return projectAccess;
+    }
+
+    private List<ProjectAccessCheckResponse> loadProjectAccess(List<ProjectAccessCheckRequest> accessCheckRequests) {
+        try {
+            return projectFeign.getProjectAccessBatchFeign(accessCheckRequests);
+        } catch (FeignException exception) {
+            throw new ForbiddenException(exception.getMessage());
+        }
+    }
+
+    /**
+     * checks access of any user using already loaded owner and members of project
+     *
+     * @param projectAccess represents owner and members of project
+     * @param userId        represents user to check
+     * @return true if user is owner or member
+     */
+    public boolean hasAccess(ProjectAccessDto projectAccess, String userId) {
+        return userId.equals(projectAccess.getOwnerId()) ||
+                (projectAccess.getMemberIds() != null && projectAccess.getMemberIds().contains(userId));
+    }
+
+}
@@ -0,0 +1,207 @@
+package com.project.taskservice.projects.services;
+
+import com.project.taskservice.projects.data.ProjectStats;
+import com.project.taskservice.utils.LeaseService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * recomputes counters of every project from tasks by single aggregation and reports projects which counters
+ * drifted, e.g. because write of counters failed after write of tasks. Only one instance reconciles at a time, under
+ * a lease. Drift is corrected by $inc of difference between recomputed and stored counters, so increments made by
+ * task writes in the meantime are kept. Counters are read before and after the aggregation and project which
+ * counters changed in between is left for the next run, because aggregation may or may not have seen those writes
+ */
+@Component
+@Slf4j
+public class ProjectStatsReconciler {
+
+    private static final String RECONCILE_LEASE_ID = "project-stats:reconcile";
+
+    private final MongoTemplate mongoTemplate;
+    private final LeaseService leaseService;
+    private final Duration reconcileLeaseDuration;
+    private final Counter driftedProjects;
+
+    public ProjectStatsReconciler(MongoTemplate mongoTemplate, MeterRegistry meterRegistry, LeaseService leaseService,
+                                  @Value("${project-stats.reconcile-lease-duration:30m}") Duration reconcileLeaseDuration) {
+        this.mongoTemplate = mongoTemplate;
+        this.leaseService = leaseService;
+        this.reconcileLeaseDuration = reconcileLeaseDuration;
+        this.driftedProjects = Counter.builder("project.stats.drift")
+                .description("projects which counters differed from tasks during reconciliation")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${project-stats.reconcile-cron:0 0 3 * * *}")
+    public void reconcileOnSchedule() {
+        try {
+            reconcile();
+        } catch (RuntimeException exception) {
+            log.error("unable to reconcile project statistics", exception);
+        }
+    }
+
+    /**
+     * used for recomputing counters of all projects. Does nothing while another instance reconciles
+     *
+     * @return number of projects which stored counters differed from recomputed ones
+     */
+    public int reconcile() {
+        if (!leaseService.tryAcquire(RECONCILE_LEASE_ID, reconcileLeaseDuration)) {
+            log.info("statistics of projects are reconciled by another instance");
+            return 0;
+        }
+
+        try {
+            return reconcileUnderLease();
+        } finally {
+            leaseService.release(RECONCILE_LEASE_ID);
+        }
+    }
+
+    private int reconcileUnderLease() {
+        Map<String, ProjectStats> storedBefore = findStoredStats();
+        Map<String, ProjectStats> expectedStats = computeStats();
+        Map<String, ProjectStats> storedStats = findStoredStats();
+
+        Set<String> projectIds = new HashSet<>(expectedStats.keySet());
+        projectIds.addAll(storedStats.keySet());
+        if (projectIds.isEmpty()) {
+            return 0;
+        }
+
+        int drifted = 0;
+        int changedMeanwhile = 0;
+        LocalDateTime reconciledAt = LocalDateTime.now();
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProjectStats.class);
+        for (String projectId : projectIds) {
+            ProjectStats expected = expectedStats.getOrDefault(projectId, ProjectStats.builder().id(projectId).build());
+            ProjectStats stored = storedStats.getOrDefault(projectId, ProjectStats.builder().id(projectId).build());
+            ProjectStats before = storedBefore.getOrDefault(projectId, ProjectStats.builder().id(projectId).build());
+
+            if (!isSameCounters(before, stored)) {
+                changedMeanwhile++;
+                continue;
+            }
+
+            Update update = new Update().set("reconciledAt", reconciledAt);
+            if (!isSameCounters(expected, stored)) {
+                drifted++;
+                log.warn("statistics of project '{}' drifted, stored: {}, recomputed: {}", projectId, stored, expected);
+                addCorrection(update, expected, stored);
+            }
+
+            bulkOperations.upsert(new Query(Criteria.where("id").is(projectId)), update);
+        }
+        if (changedMeanwhile < projectIds.size()) {
+            bulkOperations.execute();
+        }
+
+        driftedProjects.increment(drifted);
+        log.info("statistics of {} projects were reconciled, {} of them drifted, {} changed meanwhile and were skipped",
+                projectIds.size() - changedMeanwhile, drifted, changedMeanwhile);
+        return drifted;
+    }
+
+    private Map<String, ProjectStats> findStoredStats() {
+        Map<String, ProjectStats> storedStats = new HashMap<>();
+        mongoTemplate.findAll(ProjectStats.class).forEach(projectStats -> storedStats.put(projectStats.getId(), projectStats));
+
+        return storedStats;
+    }
+
+    private void addCorrection(Update update, ProjectStats expected, ProjectStats stored) {
+        incIfDiffers(update, "taskCount", expected.getTaskCount() - stored.getTaskCount());
+        incIfDiffers(update, "timeSpent", expected.getTimeSpent() - stored.getTimeSpent());
+        incIfDiffers(update, "timeEstimated", expected.getTimeEstimated() - stored.getTimeEstimated());
+        incIfDiffers(update, "gamificationPoints", expected.getGamificationPoints() - stored.getGamificationPoints());
+
+        Set<String> statuses = new HashSet<>(expected.getStatusCounts().keySet());
+        statuses.addAll(stored.getStatusCounts().keySet());
+        for (String status : statuses) {
+            incIfDiffers(update, "statusCounts." + status,
+                    toLong(expected.getStatusCounts().get(status)) - toLong(stored.getStatusCounts().get(status)));
+        }
+    }
+
+    private void incIfDiffers(Update update, String field, long difference) {
+        if (difference != 0) {
+            update.inc(field, difference);
+        }
+    }
+
+    private Map<String, ProjectStats> computeStats() {
+        List<Document> pipeline = List.of(
+                new Document("$match", new Document("projectId", new Document("$type", "string"))),
+                new Document("$group", new Document("_id", new Document("projectId", "$projectId").append("status", "$status"))
+                        .append("count", new Document("$sum", 1))
+                        .append("timeSpent", new Document("$sum", "$timeSpent"))
+                        .append("timeEstimated", new Document("$sum", "$timeEstimated"))
+                        .append("gamificationPoints", new Document("$sum", "$gamificationPoints"))));
+
+        Map<String, ProjectStats> statsByProject = new HashMap<>();
+        mongoTemplate.getCollection("tasks")
+                .aggregate(pipeline)
+                .allowDiskUse(true)
+                .forEach(group -> {
+                    Document key = group.get("_id", Document.class);
+                    ProjectStats projectStats = statsByProject.computeIfAbsent(key.getString("projectId"),
+                            projectId -> ProjectStats.builder().id(projectId).build());
+                    long count = toLong(group.get("count"));
+
+                    projectStats.setTaskCount(projectStats.getTaskCount() + count);
+                    if (key.getString("status") != null) {
+                        projectStats.getStatusCounts().merge(key.getString("status"), count, Long::sum);
+                    }
+                    projectStats.setTimeSpent(projectStats.getTimeSpent() + toLong(group.get("timeSpent")));
+                    projectStats.setTimeEstimated(projectStats.getTimeEstimated() + toLong(group.get("timeEstimated")));
+                    projectStats.setGamificationPoints(projectStats.getGamificationPoints() +
+                            toLong(group.get("gamificationPoints")));
+                });
+
+        return statsByProject;
+    }
+
+    /**
+     * statuses with zero tasks may be stored after tasks left them, they are the same as missing ones
+     */
+    private boolean isSameCounters(ProjectStats first, ProjectStats second) {
+        return first.getTaskCount() == second.getTaskCount() &&
+                Objects.equals(getNonEmptyStatusCounts(first), getNonEmptyStatusCounts(second)) &&
+                first.getTimeSpent() == second.getTimeSpent() &&
+                first.getTimeEstimated() == second.getTimeEstimated() &&
+                first.getGamificationPoints() == second.getGamificationPoints();
+    }
+
+    private Map<String, Long> getNonEmptyStatusCounts(ProjectStats projectStats) {
+        Map<String, Long> statusCounts = new HashMap<>(projectStats.getStatusCounts());
+        statusCounts.values().removeIf(count -> count == null || count == 0);
+
+        return statusCounts;
+    }
+
+    private long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0;
+    }
+
+}
@@ -0,0 +1,131 @@
+package com.project.taskservice.projects.services;
+
+import com.project.taskservice.projects.data.ProjectStats;
+import com.project.taskservice.projects.data.dto.ProjectStatsResponse;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.enums.Status;
+import com.project.taskservice.utils.UserIdResolver;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * keeps counters of tasks per project. Writers pass tasks before and after their change and only the difference is
+ * sent to the counters document of each touched project, so reading statistics never scans tasks except for the
+ * overdue count, which depends on current time and is answered by index on (projectId, status, dueDate)
+ */
+@Service
+@RequiredArgsConstructor
+public class ProjectStatsService {
+
+    public static final String[] STATS_FIELDS = {"status", "timeSpent", "timeEstimated", "gamificationPoints"};
+    public static final List<Status> OPEN_STATUSES = Arrays.stream(Status.values())
+            .filter(status -> status != Status.FINISHED)
+            .toList();
+
+    private final MongoTemplate mongoTemplate;
+    private final UserIdResolver userIdResolver;
+    private final ProjectAccessService projectAccessService;
+
+    /**
+     * used for reading statistics of project
+     *
+     * @param projectId           represents project of statistics
+     * @param authorizationHeader represents token of user reading statistics
+     * @return counters of project together with number of open tasks which due date has passed
+     */
+    public ProjectStatsResponse getProjectStats(String projectId, String authorizationHeader) {
+        projectAccessService.checkAccessToProject(projectId, userIdResolver.resolveUserId(authorizationHeader));
+
+        ProjectStats projectStats = mongoTemplate.findById(projectId, ProjectStats.class);
+        if (projectStats == null) {
+            projectStats = ProjectStats.builder().id(projectId).build();
+        }
+
+        Map<Status, Long> statusCounts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            statusCounts.put(status, projectStats.getStatusCounts().getOrDefault(status.name(), 0L));
+        }
+
+        return ProjectStatsResponse.builder()
+                .projectId(projectId)
+                .taskCount(projectStats.getTaskCount())
+                .statusCounts(statusCounts)
+                .overdueCount(countOverdueTasks(projectId))
+                .timeSpent(projectStats.getTimeSpent())
+                .timeEstimated(projectStats.getTimeEstimated())
+                .gamificationPoints(projectStats.getGamificationPoints())
+                .reconciledAt(projectStats.getReconciledAt())
+                .build();
+    }
+
+    /**
+     * @param createdTasks represents tasks that were inserted
+     */
+    public void recordCreated(List<Task> createdTasks) {
+        recordChanges(Collections.nCopies(createdTasks.size(), null), createdTasks);
+    }
+
+    /**
+     * used for applying changes of tasks to counters of their projects by single unordered bulk write
+     *
+     * @param tasksBefore represents tasks before change, null element for created task
+     * @param tasksAfter  represents the same tasks after change in the same order, null element for deleted task
+     */
+    public void recordChanges(List<Task> tasksBefore, List<Task> tasksAfter) {
+        Map<String, Map<String, Long>> deltasByProject = new HashMap<>();
+
+        for (int index = 0; index < tasksAfter.size(); index++) {
+            addDelta(deltasByProject, tasksBefore.get(index), -1);
+            addDelta(deltasByProject, tasksAfter.get(index), 1);
+        }
+
+        deltasByProject.values().forEach(deltas -> deltas.values().removeIf(delta -> delta == 0));
+        deltasByProject.values().removeIf(Map::isEmpty);
+        if (deltasByProject.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ProjectStats.class);
+        deltasByProject.forEach((projectId, deltas) -> {
+            Update update = new Update();
+            deltas.forEach(update::inc);
+            bulkOperations.upsert(new Query(Criteria.where("id").is(projectId)), update);
+        });
+        bulkOperations.execute();
+    }
+
+    private void addDelta(Map<String, Map<String, Long>> deltasByProject, Task task, int sign) {
+        if (task == null || task.getProjectId() == null) {
+            return;
+        }
+
+        Map<String, Long> deltas = deltasByProject.computeIfAbsent(task.getProjectId(), projectId -> new HashMap<>());
+        deltas.merge("taskCount", (long) sign, Long::sum);
+        if (task.getStatus() != null) {
+            deltas.merge("statusCounts." + task.getStatus().name(), (long) sign, Long::sum);
+        }
+        deltas.merge("timeSpent", (long) sign * task.getTimeSpent(), Long::sum);
+        deltas.merge("timeEstimated", (long) sign * task.getTimeEstimated(), Long::sum);
+        deltas.merge("gamificationPoints", (long) sign * task.getGamificationPoints(), Long::sum);
+    }
+
+    private long countOverdueTasks(String projectId) {
+        return mongoTemplate.count(new Query(Criteria.where("projectId").is(projectId)
+                .and("status").in(OPEN_STATUSES)
+                .and("dueDate").lt(LocalDateTime.now())), Task.class);
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.project.taskservice.reminders.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * progress of reminders of one window: start of the next bucket to scan and, while bucket is being scanned, due date
+ * and id of the last task reminder was sent for
+ */
+@Document(collection = "due_reminder_checkpoints")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class ReminderCheckpoint {
+
+    private String id;
+
+    private LocalDateTime bucketStart;
+
+    private LocalDateTime lastDueDate;
+
+    private String lastTaskId;
+
+    private LocalDateTime updatedAt;
+
+}
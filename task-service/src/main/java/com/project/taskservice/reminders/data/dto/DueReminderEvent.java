@@ -0,0 +1,35 @@
+package com.project.taskservice.reminders.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class DueReminderEvent {
+
+    /**
+     * the same for every send of the same reminder, so consumers can drop reminder sent again after failure
+     */
+    private String reminderId;
+
+    private String taskId;
+
+    private String title;
+
+    private String projectId;
+
+    private String assigneeId;
+
+    private String createdById;
+
+    private LocalDateTime dueDate;
+
+    private String window;
+
+}
@@ -0,0 +1,233 @@
+package com.project.taskservice.reminders.services;
+
+import com.project.taskservice.kafka.KafkaProducerService;
+import com.project.taskservice.reminders.data.ReminderCheckpoint;
+import com.project.taskservice.reminders.data.dto.DueReminderEvent;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.utils.LeaseService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.project.taskservice.projects.services.ProjectStatsService.OPEN_STATUSES;
+
+/**
+ * sends reminders of tasks which due date is within configured windows, e.g. a day and an hour before it. Due dates
+ * are split into fixed time buckets, bucket of a window is scanned once the whole bucket is within the window, by
+ * range scan of "status_due_date" index. Every bucket is scanned by single instance holding its lease and progress of
+ * every window is checkpointed after each published batch, so restarted instance continues after the last
+ * acknowledged reminder. Task created or rescheduled into a bucket that was already scanned gets reminders only of
+ * windows that haven't reached the bucket yet
+ */
+@Component
+@Slf4j
+public class DueReminderScheduler {
+
+    private static final String[] REMINDER_FIELDS = {"title", "projectId", "assigneeId", "createdById", "dueDate"};
+
+    private final MongoTemplate mongoTemplate;
+    private final LeaseService leaseService;
+    private final KafkaProducerService kafkaProducerService;
+    private final boolean enabled;
+    private final List<Duration> windows;
+    private final Duration bucketSize;
+    private final int batchSize;
+    private final Duration leaseDuration;
+
+    public DueReminderScheduler(MongoTemplate mongoTemplate, LeaseService leaseService,
+                                KafkaProducerService kafkaProducerService,
+                                @Value("${due-reminders.enabled:true}") boolean enabled,
+                                @Value("${due-reminders.windows:24h,1h}") List<Duration> windows,
+                                @Value("${due-reminders.bucket-size:5m}") Duration bucketSize,
+                                @Value("${due-reminders.batch-size:500}") int batchSize,
+                                @Value("${due-reminders.lease-duration:2m}") Duration leaseDuration) {
+        this.mongoTemplate = mongoTemplate;
+        this.leaseService = leaseService;
+        this.kafkaProducerService = kafkaProducerService;
+        this.enabled = enabled;
+        this.windows = windows;
+        this.bucketSize = bucketSize;
+        this.batchSize = batchSize;
+        this.leaseDuration = leaseDuration;
+    }
+
+    @Scheduled(fixedDelayString = "${due-reminders.scan-delay:PT1M}")
+    public void scanOnSchedule() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            scan(LocalDateTime.now());
+        } catch (RuntimeException exception) {
+            log.error("unable to send due reminders", exception);
+        }
+    }
+
+    /**
+     * used for sending reminders of all buckets that are within their windows at given moment
+     *
+     * @param now represents current moment
+     * @return number of sent reminders
+     */
+    public int scan(LocalDateTime now) {
+        int sentReminders = 0;
+
+        for (Duration window : windows) {
+            sentReminders += scanWindow(window, now);
+        }
+
+        return sentReminders;
+    }
+
+    /**
+     * buckets are scanned in order, so when next bucket is leased by another instance this one stops and leaves
+     * the window to it
+     */
+    private int scanWindow(Duration window, LocalDateTime now) {
+        LocalDateTime horizon = now.plus(window);
+        ReminderCheckpoint checkpoint = findCheckpoint(window, now);
+        int sentReminders = 0;
+
+        while (!checkpoint.getBucketStart().plus(bucketSize).isAfter(horizon)) {
+            String leaseId = checkpoint.getId() + ":" + checkpoint.getBucketStart();
+            if (!leaseService.tryAcquire(leaseId, leaseDuration)) {
+                break;
+            }
+
+            try {
+                ReminderCheckpoint leasedCheckpoint = findCheckpoint(window, now);
+                if (leasedCheckpoint.getBucketStart().equals(checkpoint.getBucketStart())) {
+                    sentReminders += scanBucket(window, leasedCheckpoint, leaseId);
+                }
+            } finally {
+                leaseService.release(leaseId);
+            }
+
+            checkpoint = findCheckpoint(window, now);
+        }
+
+        return sentReminders;
+    }
+
+    private int scanBucket(Duration window, ReminderCheckpoint checkpoint, String leaseId) {
+        LocalDateTime bucketStart = checkpoint.getBucketStart(), bucketEnd = bucketStart.plus(bucketSize);
+        LocalDateTime lastDueDate = checkpoint.getLastDueDate();
+        String lastTaskId = checkpoint.getLastTaskId();
+        int sentReminders = 0;
+
+        while (true) {
+            List<Task> dueTasks = findDueTasks(bucketStart, bucketEnd, lastDueDate, lastTaskId);
+            if (dueTasks.isEmpty()) {
+                break;
+            }
+
+            kafkaProducerService.sendDueReminders(dueTasks.stream()
+                    .map(task -> toReminder(task, window))
+                    .toList());
+            sentReminders += dueTasks.size();
+
+            Task lastTask = dueTasks.get(dueTasks.size() - 1);
+            lastDueDate = lastTask.getDueDate();
+            lastTaskId = lastTask.getId();
+            saveProgress(checkpoint, new Update().set("lastDueDate", lastDueDate).set("lastTaskId", lastTaskId));
+
+            if (dueTasks.size() < batchSize) {
+                break;
+            }
+
+            if (!leaseService.renew(leaseId, leaseDuration)) {
+                log.warn("lease '{}' was lost, the rest of bucket is left to its new owner", leaseId);
+                return sentReminders;
+            }
+        }
+
+        saveProgress(checkpoint, new Update().set("bucketStart", bucketEnd).unset("lastDueDate").unset("lastTaskId"));
+        return sentReminders;
+    }
+
+    private List<Task> findDueTasks(LocalDateTime bucketStart, LocalDateTime bucketEnd, LocalDateTime lastDueDate,
+                                    String lastTaskId) {
+        List<Criteria> criteria = new ArrayList<>(List.of(
+                Criteria.where("status").in(OPEN_STATUSES),
+                Criteria.where("dueDate").gte(bucketStart).lt(bucketEnd)));
+        if (lastDueDate != null) {
+            criteria.add(new Criteria().orOperator(Criteria.where("dueDate").gt(lastDueDate),
+                    Criteria.where("dueDate").is(lastDueDate).and("id").gt(lastTaskId)));
+        }
+
+        Query dueTasksQuery = new Query(new Criteria().andOperator(criteria))
+                .with(Sort.by(Sort.Order.asc("dueDate"), Sort.Order.asc("id")))
+                .limit(batchSize);
+        dueTasksQuery.fields().include(REMINDER_FIELDS);
+
+        return mongoTemplate.find(dueTasksQuery, Task.class);
+    }
+
+    /**
+     * progress is written only while checkpoint still points to the scanned bucket
+     */
+    private void saveProgress(ReminderCheckpoint checkpoint, Update progress) {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(checkpoint.getId())
+                        .and("bucketStart").is(checkpoint.getBucketStart())),
+                progress.set("updatedAt", LocalDateTime.now()), ReminderCheckpoint.class);
+    }
+
+    /**
+     * window that is scanned for the first time starts from the current bucket, tasks that are already overdue don't
+     * get reminders
+     */
+    private ReminderCheckpoint findCheckpoint(Duration window, LocalDateTime now) {
+        String checkpointId = "window-" + window;
+        ReminderCheckpoint checkpoint = mongoTemplate.findById(checkpointId, ReminderCheckpoint.class);
+        if (checkpoint != null) {
+            return checkpoint;
+        }
+
+        try {
+            return mongoTemplate.insert(ReminderCheckpoint.builder()
+                    .id(checkpointId)
+                    .bucketStart(bucketStartOf(now))
+                    .updatedAt(now)
+                    .build());
+        } catch (DuplicateKeyException exception) {
+            return mongoTemplate.findById(checkpointId, ReminderCheckpoint.class);
+        }
+    }
+
+    private LocalDateTime bucketStartOf(LocalDateTime moment) {
+        long epochMilli = moment.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        long bucketMillis = bucketSize.toMillis();
+
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMilli - Math.floorMod(epochMilli, bucketMillis)),
+                ZoneId.systemDefault());
+    }
+
+    private DueReminderEvent toReminder(Task task, Duration window) {
+        return DueReminderEvent.builder()
+                .reminderId("%s:%s:%s".formatted(task.getId(), window, task.getDueDate()))
+                .taskId(task.getId())
+                .title(task.getTitle())
+                .projectId(task.getProjectId())
+                .assigneeId(task.getAssigneeId())
+                .createdById(task.getCreatedById())
+                .dueDate(task.getDueDate())
+                .window(window.toString())
+                .build();
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.project.taskservice.tasks;
+
+import com.project.taskservice.tasks.data.dto.AttachmentResponse;
+import com.project.taskservice.tasks.services.AttachmentService;
+import com.project.taskservice.utils.GridFsFileResource;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/tasks/{taskId}/attachments")
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    private final AttachmentService attachmentService;
+
+    /**
+     * body of request is the file itself, it's passed to storage as stream instead of being parsed as multipart
+     */
+    @PostMapping
+    public ResponseEntity<AttachmentResponse> uploadAttachment(@PathVariable("taskId") String taskId,
+                                                               @RequestParam("filename") String filename,
+                                                               @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+                                                               @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader,
+                                                               HttpServletRequest request) throws IOException {
+        return ResponseEntity.ok(attachmentService.uploadAttachment(taskId, filename, contentType,
+                request.getContentLengthLong(), request.getInputStream(), authorizationHeader));
+    }
+
+    /**
+     * stored files never change, so id of attachment is its strong ETag. Range requests are answered with partial
+     * content by message converters of Spring MVC
+     */
+    @GetMapping("/{attachmentId}")
+    public ResponseEntity<Resource> getAttachment(@PathVariable("taskId") String taskId,
+                                                  @PathVariable("attachmentId") String attachmentId,
+                                                  @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader,
+                                                  WebRequest webRequest) {
+        GridFsFileResource attachment = attachmentService.getAttachment(taskId, attachmentId, authorizationHeader);
+        if (webRequest.checkNotModified(attachmentId)) {
+            return null;
+        }
+
+        AttachmentResponse attachmentResponse = attachmentService.toAttachmentResponse(attachment.getGridFsFile());
+        return ResponseEntity.ok()
+                .eTag(attachmentId)
+                .contentType(MediaType.parseMediaType(attachmentResponse.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(attachmentResponse.getFilename(), StandardCharsets.UTF_8)
+                        .build()
+                        .toString())
+                .body(attachment);
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.project.taskservice.tasks;
+
+import com.project.taskservice.tasks.data.Comment;
+import com.project.taskservice.tasks.data.dto.CommentPageResponse;
+import com.project.taskservice.tasks.data.dto.CommentRequest;
+import com.project.taskservice.tasks.services.CommentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/tasks/{taskId}/comments")
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+
+    @GetMapping
+    public ResponseEntity<CommentPageResponse> getComments(@PathVariable("taskId") String taskId,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(required = false) Integer limit,
+                                                           @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        return ResponseEntity.ok(commentService.getComments(taskId, cursor, limit, authorizationHeader));
+    }
+
+    @PostMapping
+    public ResponseEntity<Comment> addComment(@PathVariable("taskId") String taskId,
+                                              @RequestBody CommentRequest commentRequest,
+                                              @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        return ResponseEntity.ok(commentService.addComment(taskId, commentRequest, authorizationHeader));
+    }
+
+}
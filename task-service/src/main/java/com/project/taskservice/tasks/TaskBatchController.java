@@ -0,0 +1,33 @@
+package com.project.taskservice.tasks;
+
+import com.project.taskservice.tasks.data.dto.TaskBatchResponse;
+import com.project.taskservice.tasks.data.dto.TaskBatchUpdateRequest;
+import com.project.taskservice.tasks.data.dto.TaskBatchUpdateResponse;
+import com.project.taskservice.tasks.data.dto.TaskRequest;
+import com.project.taskservice.tasks.services.TaskBatchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class TaskBatchController {
+
+    private final TaskBatchService taskBatchService;
+
+    @PostMapping("/tasks:batch")
+    public ResponseEntity<TaskBatchResponse> createTasks(@RequestBody List<TaskRequest> taskRequests,
+                                                         @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        return ResponseEntity.ok(taskBatchService.createTasks(taskRequests, authorizationHeader));
+    }
+
+    @PatchMapping("/tasks:batch")
+    public ResponseEntity<TaskBatchUpdateResponse> updateTasks(@RequestBody TaskBatchUpdateRequest taskBatchUpdateRequest,
+                                                               @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        return ResponseEntity.ok(taskBatchService.updateTasks(taskBatchUpdateRequest, authorizationHeader));
+    }
+
+}
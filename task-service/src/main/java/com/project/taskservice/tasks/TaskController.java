@@ -1,6 +1,11 @@
 package com.project.taskservice.tasks;
 
 import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.TaskFilterRequest;
+import com.project.taskservice.tasks.data.dto.TaskMoveRequest;
+import com.project.taskservice.tasks.data.dto.TaskMoveResponse;
+import com.project.taskservice.tasks.data.dto.TaskPageResponse;
+import com.project.taskservice.tasks.data.dto.TaskPatchRequest;
 import com.project.taskservice.tasks.data.dto.TaskRequest;
 import com.project.taskservice.tasks.services.TaskService;
 import lombok.RequiredArgsConstructor;
@@ -8,8 +13,6 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/tasks")
 @RequiredArgsConstructor
@@ -24,8 +27,9 @@ public class TaskController {
     }
 
     @GetMapping
-    public ResponseEntity<List<Task>> getAllUserTasks(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
-        return ResponseEntity.ok(taskService.getAllUserTasks(authorizationHeader));
+    public ResponseEntity<TaskPageResponse> getAllUserTasks(@ModelAttribute TaskFilterRequest taskFilterRequest,
+                                                            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        return ResponseEntity.ok(taskService.getAllUserTasks(taskFilterRequest, authorizationHeader));
     }
 
     @GetMapping("/{taskId}")
@@ -35,9 +39,28 @@ public class TaskController {
     }
 
     @GetMapping("/column/{columnId}")
-    public ResponseEntity<List<Task>> getTasksByColumnId(@PathVariable("columnId") String columnId,
-                                                         @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
-        return ResponseEntity.ok(taskService.getTasksByColumnId(columnId, authorizationHeader));
+    public ResponseEntity<TaskPageResponse> getTasksByColumnId(@PathVariable("columnId") String columnId,
+                                                               @ModelAttribute TaskFilterRequest taskFilterRequest,
+                                                               @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        return ResponseEntity.ok(taskService.getTasksByColumnId(columnId, taskFilterRequest, authorizationHeader));
+    }
+
+    @PostMapping("/{taskId}/move")
+    public ResponseEntity<TaskMoveResponse> moveTask(@PathVariable("taskId") String taskId,
+                                                     @RequestBody TaskMoveRequest taskMoveRequest,
+                                                     @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        TaskMoveResponse taskMoveResponse = taskService.moveTask(taskId, taskMoveRequest, authorizationHeader);
+
+        return ResponseEntity.ok()
+                .eTag(taskMoveResponse.getBoardVersion())
+                .body(taskMoveResponse);
+    }
+
+    @PatchMapping("/{taskId}")
+    public ResponseEntity<Task> patchTask(@PathVariable("taskId") String taskId,
+                                          @RequestBody TaskPatchRequest taskPatchRequest,
+                                          @RequestHeader(HttpHeaders.AUTHORIZATION) String authorizationHeader) {
+        return ResponseEntity.ok(taskService.patchTask(taskId, taskPatchRequest, authorizationHeader));
     }
 
     @PutMapping("/{taskId}")
@@ -0,0 +1,117 @@
+package com.project.taskservice.tasks.codecs;
+
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.enums.SecurityLevel;
+import com.project.taskservice.tasks.data.enums.Status;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.function.IntConsumer;
+
+import static com.project.taskservice.utils.BsonFields.readDateTime;
+import static com.project.taskservice.utils.BsonFields.readEnum;
+import static com.project.taskservice.utils.BsonFields.readInteger;
+import static com.project.taskservice.utils.BsonFields.readLong;
+import static com.project.taskservice.utils.BsonFields.readString;
+import static com.project.taskservice.utils.BsonFields.readStrings;
+import static com.project.taskservice.utils.BsonFields.writeDateTime;
+import static com.project.taskservice.utils.BsonFields.writeEnum;
+import static com.project.taskservice.utils.BsonFields.writeId;
+import static com.project.taskservice.utils.BsonFields.writeLong;
+import static com.project.taskservice.utils.BsonFields.writeString;
+import static com.project.taskservice.utils.BsonFields.writeStrings;
+
+/**
+ * decodes task straight from bson stream of the driver, without building {@link org.bson.Document} first. Output is
+ * the same as MappingMongoConverter gives: fields missing in document keep defaults of {@link Task}, unknown fields
+ * like "_class" are skipped. Encoded task without version gets initial version 0, as saving of new entity does
+ */
+public class TaskCodec implements Codec<Task> {
+
+    @Override
+    public Task decode(BsonReader reader, DecoderContext decoderContext) {
+        Task task = new Task();
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> task.setId(readString(reader));
+                case "title" -> task.setTitle(readString(reader));
+                case "description" -> task.setDescription(readString(reader));
+                case "status" -> task.setStatus(readEnum(reader, Status.class));
+                case "priority" -> readPrimitive(reader, task::setPriority);
+                case "position" -> task.setPosition(readString(reader));
+                case "assigneeId" -> task.setAssigneeId(readString(reader));
+                case "createdById" -> task.setCreatedById(readString(reader));
+                case "createdAt" -> task.setCreatedAt(readDateTime(reader));
+                case "updatedAt" -> task.setUpdatedAt(readDateTime(reader));
+                case "dueDate" -> task.setDueDate(readDateTime(reader));
+                case "tags" -> task.setTags(readStrings(reader, HashSet::new));
+                case "commentCount" -> readPrimitive(reader, task::setCommentCount);
+                case "attachments" -> task.setAttachments(readStrings(reader, ArrayList::new));
+                case "timeSpent" -> readPrimitive(reader, task::setTimeSpent);
+                case "timeEstimated" -> readPrimitive(reader, task::setTimeEstimated);
+                case "gamificationPoints" -> readPrimitive(reader, task::setGamificationPoints);
+                case "securityLevel" -> task.setSecurityLevel(readEnum(reader, SecurityLevel.class));
+                case "columnId" -> task.setColumnId(readString(reader));
+                case "projectId" -> task.setProjectId(readString(reader));
+                case "version" -> task.setVersion(readLong(reader));
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+
+        return task;
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Task task, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writeId(writer, task.getId());
+        writeString(writer, "title", task.getTitle());
+        writeString(writer, "description", task.getDescription());
+        writeEnum(writer, "status", task.getStatus());
+        writer.writeInt32("priority", task.getPriority());
+        writeString(writer, "position", task.getPosition());
+        writeString(writer, "assigneeId", task.getAssigneeId());
+        writeString(writer, "createdById", task.getCreatedById());
+        writeDateTime(writer, "createdAt", task.getCreatedAt());
+        writeDateTime(writer, "updatedAt", task.getUpdatedAt());
+        writeDateTime(writer, "dueDate", task.getDueDate());
+        writeStrings(writer, "tags", task.getTags());
+        writer.writeInt32("commentCount", task.getCommentCount());
+        writeStrings(writer, "attachments", task.getAttachments());
+        writer.writeInt32("timeSpent", task.getTimeSpent());
+        writer.writeInt32("timeEstimated", task.getTimeEstimated());
+        writer.writeInt32("gamificationPoints", task.getGamificationPoints());
+        writeEnum(writer, "securityLevel", task.getSecurityLevel());
+        writeString(writer, "columnId", task.getColumnId());
+        writeString(writer, "projectId", task.getProjectId());
+        writeLong(writer, "version", task.getVersion() == null ? 0L : task.getVersion());
+        writer.writeString("_class", Task.class.getName());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<Task> getEncoderClass() {
+        return Task.class;
+    }
+
+    /**
+     * null or missing number leaves default of primitive field, as converter does
+     */
+    private void readPrimitive(BsonReader reader, IntConsumer setter) {
+        Integer value = readInteger(reader);
+
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.project.taskservice.tasks.data;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * comment of task. Comments are stored apart from task, so task document keeps only their number and comments of
+ * task are read page by page in order they were written
+ */
+@Document(collection = "comments")
+@CompoundIndex(name = "task_created_at", def = "{'taskId': 1, 'createdAt': 1, '_id': 1}")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class Comment {
+
+    private String id;
+
+    private String taskId;
+
+    private String authorId;
+
+    private String text;
+
+    @Builder.Default
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+}
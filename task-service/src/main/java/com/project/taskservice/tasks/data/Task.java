@@ -6,6 +6,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -15,6 +18,18 @@ import java.util.List;
 import java.util.Set;
 
 @Document(collection = "tasks")
+@CompoundIndexes({
+        @CompoundIndex(name = "column_position", def = "{'columnId': 1, 'position': 1, '_id': 1}"),
+        @CompoundIndex(name = "column_due_date", def = "{'columnId': 1, 'dueDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "column_priority", def = "{'columnId': 1, 'priority': 1, '_id': 1}"),
+        @CompoundIndex(name = "column_created_at", def = "{'columnId': 1, 'createdAt': 1, '_id': 1}"),
+        @CompoundIndex(name = "creator_position", def = "{'createdById': 1, 'position': 1, '_id': 1}"),
+        @CompoundIndex(name = "creator_due_date", def = "{'createdById': 1, 'dueDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "assignee_position", def = "{'assigneeId': 1, 'position': 1, '_id': 1}"),
+        @CompoundIndex(name = "assignee_due_date", def = "{'assigneeId': 1, 'dueDate': 1, '_id': 1}"),
+        @CompoundIndex(name = "project_status_due_date", def = "{'projectId': 1, 'status': 1, 'dueDate': 1}"),
+        @CompoundIndex(name = "status_due_date", def = "{'status': 1, 'dueDate': 1, '_id': 1}")
+})
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
@@ -32,7 +47,7 @@ public class Task {
 
     private int priority = 0;
 
-    private Integer position;
+    private String position;
 
     private String assigneeId;
 
@@ -50,8 +65,7 @@ public class Task {
     @Builder.Default
     private Set<String> tags = new HashSet<>();
 
-    @Builder.Default
-    private List<String> comments = new ArrayList<>();
+    private int commentCount;
 
     @Builder.Default
     private List<String> attachments = new ArrayList<>();
@@ -70,4 +84,11 @@ public class Task {
 
     private String projectId;
 
+    /**
+     * increased by every write of task made through {@link org.springframework.data.mongodb.core.MongoTemplate} or
+     * {@link com.project.taskservice.utils.MongoBulkWriter}, null until task is saved
+     */
+    @Version
+    private Long version;
+
 }
@@ -0,0 +1,61 @@
+package com.project.taskservice.tasks.data;
+
+import com.project.taskservice.tasks.data.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * entry of "my tasks" read model: one document per task and user who created it or is assigned to it. Keeps only
+ * fields tasks are filtered and sorted by, so personal task list is a range scan of one index by user and sort key
+ */
+@Document(collection = "user_tasks")
+@CompoundIndexes({
+        @CompoundIndex(name = "user_position", def = "{'userId': 1, 'position': 1, 'taskId': 1}"),
+        @CompoundIndex(name = "user_due_date", def = "{'userId': 1, 'dueDate': 1, 'taskId': 1}"),
+        @CompoundIndex(name = "user_priority", def = "{'userId': 1, 'priority': 1, 'taskId': 1}"),
+        @CompoundIndex(name = "user_created_at", def = "{'userId': 1, 'createdAt': 1, 'taskId': 1}")
+})
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class UserTask {
+
+    private String id;
+
+    private String userId;
+
+    @Indexed(name = "task_id")
+    private String taskId;
+
+    private Status status;
+
+    private int priority;
+
+    private String position;
+
+    private String assigneeId;
+
+    private Set<String> tags;
+
+    private LocalDateTime dueDate;
+
+    private LocalDateTime createdAt;
+
+    /**
+     * @return id of entry, the same for the same user and task, so refreshing entry never duplicates it
+     */
+    public static String entryId(String userId, String taskId) {
+        return userId + ":" + taskId;
+    }
+
+}
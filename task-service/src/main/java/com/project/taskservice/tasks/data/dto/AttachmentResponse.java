@@ -0,0 +1,28 @@
+package com.project.taskservice.tasks.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class AttachmentResponse {
+
+    private String id;
+
+    private String taskId;
+
+    private String filename;
+
+    private String contentType;
+
+    private long length;
+
+    private LocalDateTime uploadedAt;
+
+}
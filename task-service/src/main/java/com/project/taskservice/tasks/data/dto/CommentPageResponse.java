@@ -0,0 +1,21 @@
+package com.project.taskservice.tasks.data.dto;
+
+import com.project.taskservice.tasks.data.Comment;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class CommentPageResponse {
+
+    private List<Comment> comments;
+
+    private String nextCursor;
+
+}
@@ -0,0 +1,16 @@
+package com.project.taskservice.tasks.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class CommentRequest {
+
+    private String text;
+
+}
@@ -0,0 +1,22 @@
+package com.project.taskservice.tasks.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class TaskBatchItemResult {
+
+    private int index;
+
+    private String taskId;
+
+    private int status;
+
+    private String error;
+
+}
@@ -0,0 +1,22 @@
+package com.project.taskservice.tasks.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class TaskBatchResponse {
+
+    private int succeeded;
+
+    private int failed;
+
+    private List<TaskBatchItemResult> results;
+
+}
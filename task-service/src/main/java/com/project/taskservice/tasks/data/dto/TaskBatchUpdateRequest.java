@@ -0,0 +1,37 @@
+package com.project.taskservice.tasks.data.dto;
+
+import com.project.taskservice.tasks.data.enums.SecurityLevel;
+import com.project.taskservice.tasks.data.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Set;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class TaskBatchUpdateRequest {
+
+    private List<String> taskIds;
+
+    private String projectId;
+
+    private TaskFilterRequest filter;
+
+    private Status status;
+
+    private String assigneeId;
+
+    private Set<String> addTags;
+
+    private Set<String> removeTags;
+
+    private SecurityLevel securityLevel;
+
+    private String columnId;
+
+}
@@ -0,0 +1,22 @@
+package com.project.taskservice.tasks.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class TaskBatchUpdateResponse {
+
+    private long matchedCount;
+
+    private long modifiedCount;
+
+    private List<TaskBatchItemResult> rejected;
+
+}
@@ -0,0 +1,36 @@
+package com.project.taskservice.tasks.data.dto;
+
+import com.project.taskservice.tasks.data.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class TaskCardResponse {
+
+    private String id;
+
+    private String title;
+
+    private Status status;
+
+    private int priority;
+
+    private String assigneeId;
+
+    private LocalDateTime dueDate;
+
+    private String position;
+
+    private Set<String> tags;
+
+    private Long version;
+
+}
@@ -1,9 +1,14 @@
 package com.project.taskservice.tasks.data.dto;
 
+import com.project.taskservice.tasks.data.enums.Status;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.Set;
 
 @AllArgsConstructor
 @NoArgsConstructor
@@ -11,8 +16,30 @@ import lombok.NoArgsConstructor;
 @Builder
 public class TaskFilterRequest {
 
-    private String sortBy;
+    private Set<Status> statuses;
+
+    private Integer minPriority;
+
+    private Integer maxPriority;
+
+    private Set<String> tags;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
 
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+
+    private String assigneeId;
+
+    @Builder.Default
+    private String sortBy = "position";
+
+    @Builder.Default
     private int sortOrder = 1;
 
+    private String cursor;
+
+    private Integer limit;
+
 }
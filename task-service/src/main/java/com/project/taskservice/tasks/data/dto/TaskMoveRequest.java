@@ -0,0 +1,26 @@
+package com.project.taskservice.tasks.data.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class TaskMoveRequest {
+
+    private String targetColumnId;
+
+    /**
+     * task that will be right above moved one, null when moved task becomes the first one
+     */
+    private String beforeTaskId;
+
+    /**
+     * task that will be right below moved one, null when moved task becomes the last one
+     */
+    private String afterTaskId;
+
+}
@@ -0,0 +1,21 @@
+package com.project.taskservice.tasks.data.dto;
+
+import com.project.taskservice.tasks.data.Task;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class TaskPageResponse {
+
+    private List<Task> tasks;
+
+    private String nextCursor;
+
+}
@@ -0,0 +1,46 @@
+package com.project.taskservice.tasks.data.dto;
+
+import com.project.taskservice.tasks.data.enums.SecurityLevel;
+import com.project.taskservice.tasks.data.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * changed fields of task, fields left null are not changed. Column and position are changed by move of task
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class TaskPatchRequest {
+
+    private String title;
+
+    private String description;
+
+    private Status status;
+
+    private Integer priority;
+
+    private String assigneeId;
+
+    private LocalDateTime dueDate;
+
+    private Set<String> tags;
+
+    private Integer timeSpent;
+
+    private Integer timeEstimated;
+
+    private Integer gamificationPoints;
+
+    private SecurityLevel securityLevel;
+
+    private Long version;
+
+}
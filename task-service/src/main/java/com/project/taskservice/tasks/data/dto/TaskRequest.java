@@ -28,7 +28,7 @@ public class TaskRequest {
 
     private int priority;
 
-    private int position;
+    private Integer position;
 
     private String assigneeId;
 
@@ -38,9 +38,6 @@ public class TaskRequest {
     @Builder.Default
     private Set<String> tags = new HashSet<>();
 
-    @Builder.Default
-    private List<String> comments = new ArrayList<>();
-
     @Builder.Default
     private List<String> attachments = new ArrayList<>();
 
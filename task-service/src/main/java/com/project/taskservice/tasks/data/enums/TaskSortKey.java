@@ -0,0 +1,37 @@
+package com.project.taskservice.tasks.data.enums;
+
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.UserTask;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * fields tasks can be sorted by. Every key is backed by column index declared on {@link Task} for pages of column
+ * and by user index declared on {@link UserTask} for pages of user, both end with id, so cursor never skips tasks with
+ * the same value
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskSortKey {
+
+    POSITION("position", Task::getPosition, UserTask::getPosition),
+    DUE_DATE("dueDate", Task::getDueDate, UserTask::getDueDate),
+    PRIORITY("priority", Task::getPriority, UserTask::getPriority),
+    CREATED_AT("createdAt", Task::getCreatedAt, UserTask::getCreatedAt);
+
+    private final String field;
+    private final Function<Task, Object> valueExtractor;
+    private final Function<UserTask, Object> userTaskValueExtractor;
+
+    public static TaskSortKey fromField(String field) {
+        return Arrays.stream(values())
+                .filter(sortKey -> sortKey.field.equals(field))
+                .findFirst()
+                .orElseThrow(() -> new BadRequestException("tasks can't be sorted by '%s'".formatted(field)));
+    }
+
+}
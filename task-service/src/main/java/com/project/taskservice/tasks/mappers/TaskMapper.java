@@ -0,0 +1,19 @@
+package com.project.taskservice.tasks.mappers;
+
+import com.project.taskservice.config.MapStructConfig;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.TaskRequest;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(config = MapStructConfig.class)
+public interface TaskMapper {
+
+    /**
+     * position of request is index among tasks of column, rank key is assigned by service
+     */
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "position", ignore = true)
+    Task toTask(TaskRequest taskRequest);
+
+}
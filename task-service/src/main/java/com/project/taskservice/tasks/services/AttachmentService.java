@@ -0,0 +1,170 @@
+package com.project.taskservice.tasks.services;
+
+import com.mongodb.MongoGridFSException;
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import com.mongodb.client.gridfs.model.GridFSUploadOptions;
+import com.project.taskservice.columns.services.BoardCache;
+import com.project.taskservice.columns.services.BoardChangeLog;
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.exceptions.EntityNotFoundException;
+import com.project.taskservice.exceptions.PayloadTooLargeException;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.AttachmentResponse;
+import com.project.taskservice.utils.GridFsFileResource;
+import com.project.taskservice.utils.LimitedInputStream;
+import com.project.taskservice.utils.UserIdResolver;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static com.mongodb.client.model.Filters.and;
+import static com.mongodb.client.model.Filters.eq;
+
+/**
+ * stores attachments of tasks in GridFS. Uploaded body is copied to GridFS chunk by chunk while it's being received
+ * and downloads read one chunk at a time, so memory used by transfer doesn't depend on size of file
+ */
+@Service
+public class AttachmentService {
+
+    private static final String TASK_ID_FIELD = "taskId";
+
+    private final GridFSBucket attachmentsBucket;
+    private final MongoTemplate mongoTemplate;
+    private final TaskService taskService;
+    private final UserIdResolver userIdResolver;
+    private final BoardCache boardCache;
+    private final BoardChangeLog boardChangeLog;
+    private final DataSize maxSize;
+
+    public AttachmentService(GridFSBucket attachmentsBucket, MongoTemplate mongoTemplate, TaskService taskService,
+                             UserIdResolver userIdResolver, BoardCache boardCache, BoardChangeLog boardChangeLog,
+                             @Value("${task-attachments.max-size:25MB}") DataSize maxSize) {
+        this.attachmentsBucket = attachmentsBucket;
+        this.mongoTemplate = mongoTemplate;
+        this.taskService = taskService;
+        this.userIdResolver = userIdResolver;
+        this.boardCache = boardCache;
+        this.boardChangeLog = boardChangeLog;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * used for uploading attachment of task. File that turns out to be larger than allowed is rejected as soon as
+     * limit is exceeded and its already written chunks are removed
+     *
+     * @param taskId              represents task file is attached to
+     * @param filename            represents name of file
+     * @param contentType         represents media type of file, octet stream if not known
+     * @param contentLength       represents declared length of body, -1 if not known
+     * @param content             represents body of request
+     * @param authorizationHeader represents token of user uploading file
+     * @return stored attachment
+     */
+    public AttachmentResponse uploadAttachment(String taskId, String filename, String contentType, long contentLength,
+                                               InputStream content, String authorizationHeader) {
+        if (filename == null || filename.isBlank()) {
+            throw new BadRequestException("filename should be specified");
+        }
+
+        if (contentLength > maxSize.toBytes()) {
+            throw tooLarge();
+        }
+
+        Task task = taskService.getTaskById(taskId, authorizationHeader);
+        String storedContentType = Optional.ofNullable(contentType).orElse(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+        GridFSUploadOptions uploadOptions = new GridFSUploadOptions().metadata(new Document(TASK_ID_FIELD, taskId)
+                .append("contentType", storedContentType)
+                .append("uploadedById", userIdResolver.resolveUserId(authorizationHeader)));
+
+        LimitedInputStream limitedContent = new LimitedInputStream(content, maxSize.toBytes());
+        ObjectId attachmentId;
+        try {
+            attachmentId = attachmentsBucket.uploadFromStream(filename, limitedContent, uploadOptions);
+        } catch (MongoGridFSException exception) {
+            if (limitedContent.isLimitExceeded()) {
+                throw tooLarge();
+            }
+
+            throw exception;
+        }
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(taskId)),
+                new Update().push("attachments", attachmentId.toHexString()), Task.class);
+        boardCache.bumpVersion(task.getProjectId());
+        boardChangeLog.recordTasks(task.getProjectId(), List.of(taskId));
+
+        return AttachmentResponse.builder()
+                .id(attachmentId.toHexString())
+                .taskId(taskId)
+                .filename(filename)
+                .contentType(storedContentType)
+                .length(limitedContent.getReadBytes())
+                .uploadedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * used for downloading attachment of task. Returned resource is read lazily when response is written, so only
+     * requested byte ranges are loaded
+     *
+     * @param taskId              represents task file is attached to
+     * @param attachmentId        represents attachment
+     * @param authorizationHeader represents token of user downloading file
+     * @return resource reading file from GridFS
+     */
+    public GridFsFileResource getAttachment(String taskId, String attachmentId, String authorizationHeader) {
+        taskService.getTaskById(taskId, authorizationHeader);
+
+        return new GridFsFileResource(attachmentsBucket, findAttachment(taskId, attachmentId));
+    }
+
+    /**
+     * used for reading stored description of attachment without its content
+     *
+     * @param file represents file of attachment
+     * @return description of attachment
+     */
+    public AttachmentResponse toAttachmentResponse(GridFSFile file) {
+        Document metadata = Optional.ofNullable(file.getMetadata()).orElseGet(Document::new);
+
+        return AttachmentResponse.builder()
+                .id(file.getObjectId().toHexString())
+                .taskId(metadata.getString(TASK_ID_FIELD))
+                .filename(file.getFilename())
+                .contentType(metadata.get("contentType", MediaType.APPLICATION_OCTET_STREAM_VALUE))
+                .length(file.getLength())
+                .uploadedAt(LocalDateTime.ofInstant(file.getUploadDate().toInstant(), ZoneId.systemDefault()))
+                .build();
+    }
+
+    private PayloadTooLargeException tooLarge() {
+        return new PayloadTooLargeException("size of uploaded file exceeds %d bytes".formatted(maxSize.toBytes()));
+    }
+
+    private GridFSFile findAttachment(String taskId, String attachmentId) {
+        GridFSFile file = ObjectId.isValid(attachmentId) ?
+                attachmentsBucket.find(and(eq("_id", new ObjectId(attachmentId)), eq("metadata." + TASK_ID_FIELD, taskId))).first() :
+                null;
+
+        if (file == null) {
+            throw new EntityNotFoundException("attachment with id '%s' is not found".formatted(attachmentId));
+        }
+
+        return file;
+    }
+
+}
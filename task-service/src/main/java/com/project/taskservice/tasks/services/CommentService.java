@@ -0,0 +1,139 @@
+package com.project.taskservice.tasks.services;
+
+import com.project.taskservice.columns.services.BoardCache;
+import com.project.taskservice.columns.services.BoardChangeLog;
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.tasks.data.Comment;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.CommentPageResponse;
+import com.project.taskservice.tasks.data.dto.CommentRequest;
+import com.project.taskservice.utils.UserIdResolver;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static com.project.taskservice.tasks.services.TaskQueryBuilder.DEFAULT_LIMIT;
+import static com.project.taskservice.tasks.services.TaskQueryBuilder.MAX_LIMIT;
+
+/**
+ * reads and writes comments of tasks. Comments are paged by keyset of creation time and id, so every page is a range
+ * scan of "task_created_at" index, no matter how long discussion of task is
+ */
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskService taskService;
+    private final UserIdResolver userIdResolver;
+    private final BoardCache boardCache;
+    private final BoardChangeLog boardChangeLog;
+
+    /**
+     * used for reading comments of task from the oldest one
+     *
+     * @param taskId              represents commented task
+     * @param cursor              represents cursor returned with previous page, null for the first page
+     * @param limit               represents maximum number of comments on page
+     * @param authorizationHeader represents token of user reading comments
+     * @return page of comments and cursor of the next page, null if it's the last page
+     */
+    public CommentPageResponse getComments(String taskId, String cursor, Integer limit, String authorizationHeader) {
+        taskService.getTaskById(taskId, authorizationHeader);
+        int pageSize = getLimit(limit);
+
+        Criteria criteria = Criteria.where("taskId").is(taskId);
+        if (cursor != null) {
+            criteria.andOperator(buildKeysetCriteria(decodeCursor(cursor)));
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("id")))
+                .limit(pageSize + 1);
+        List<Comment> comments = mongoTemplate.find(query, Comment.class);
+
+        if (comments.size() <= pageSize) {
+            return new CommentPageResponse(comments, null);
+        }
+
+        List<Comment> page = comments.subList(0, pageSize);
+        return new CommentPageResponse(page, encodeCursor(page.get(pageSize - 1)));
+    }
+
+    /**
+     * used for commenting task. Number of comments kept in task is increased by the same request, that also changes
+     * version of task shown on the board
+     *
+     * @param taskId              represents commented task
+     * @param commentRequest      represents text of comment
+     * @param authorizationHeader represents token of author
+     * @return saved comment
+     */
+    public Comment addComment(String taskId, CommentRequest commentRequest, String authorizationHeader) {
+        if (commentRequest.getText() == null || commentRequest.getText().isBlank()) {
+            throw new BadRequestException("text of comment should be specified");
+        }
+
+        Task commentedTask = taskService.getTaskById(taskId, authorizationHeader);
+        Comment savedComment = mongoTemplate.insert(Comment.builder()
+                .taskId(taskId)
+                .authorId(userIdResolver.resolveUserId(authorizationHeader))
+                .text(commentRequest.getText())
+                .build());
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(taskId)), new Update().inc("commentCount", 1), Task.class);
+        boardCache.bumpVersion(commentedTask.getProjectId());
+        boardChangeLog.recordTasks(commentedTask.getProjectId(), List.of(taskId));
+
+        return savedComment;
+    }
+
+    private Criteria buildKeysetCriteria(Comment lastComment) {
+        return new Criteria().orOperator(
+                Criteria.where("createdAt").gt(lastComment.getCreatedAt()),
+                Criteria.where("createdAt").is(lastComment.getCreatedAt()).and("id").gt(lastComment.getId()));
+    }
+
+    private String encodeCursor(Comment lastComment) {
+        Document cursorDocument = new Document("t", lastComment.getCreatedAt().toString())
+                .append("id", lastComment.getId());
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(cursorDocument.toJson().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Comment decodeCursor(String cursor) {
+        try {
+            Document cursorDocument = Document.parse(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+
+            return Comment.builder()
+                    .createdAt(LocalDateTime.parse(cursorDocument.getString("t")))
+                    .id(cursorDocument.getString("id"))
+                    .build();
+        } catch (RuntimeException exception) {
+            throw new BadRequestException("cursor '%s' is invalid".formatted(cursor));
+        }
+    }
+
+    private int getLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+
+        if (limit < 1) {
+            throw new BadRequestException("limit should be positive");
+        }
+
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+}
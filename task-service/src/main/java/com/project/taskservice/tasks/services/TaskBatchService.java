@@ -0,0 +1,527 @@
+package com.project.taskservice.tasks.services;
+
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.WriteConcern;
+import com.mongodb.client.model.InsertManyOptions;
+import com.mongodb.client.result.UpdateResult;
+import com.project.taskservice.columns.data.Column;
+import com.project.taskservice.columns.services.BoardCache;
+import com.project.taskservice.columns.services.BoardChangeLog;
+import com.project.taskservice.columns.services.ColumnRepository;
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.model.ProjectAccessDto;
+import com.project.taskservice.projects.services.ProjectAccessService;
+import com.project.taskservice.projects.services.ProjectStatsService;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.TaskBatchItemResult;
+import com.project.taskservice.tasks.data.dto.TaskBatchResponse;
+import com.project.taskservice.tasks.data.dto.TaskBatchUpdateRequest;
+import com.project.taskservice.tasks.data.dto.TaskBatchUpdateResponse;
+import com.project.taskservice.tasks.data.dto.TaskRequest;
+import com.project.taskservice.tasks.data.enums.SecurityLevel;
+import com.project.taskservice.tasks.mappers.TaskMapper;
+import com.project.taskservice.utils.FieldUpdate;
+import com.project.taskservice.utils.MongoBulkWriter.BulkUpdateResult;
+import com.project.taskservice.utils.RankKeyService;
+import com.project.taskservice.utils.UserIdResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.project.taskservice.projects.services.ProjectStatsService.STATS_FIELDS;
+
+/**
+ * handles requests touching many tasks at once. Access to every project of the batch is checked once and tasks are
+ * written by single unordered command, so one bad item doesn't stop the rest of the batch
+ */
+@Service
+@Slf4j
+public class TaskBatchService {
+
+    private static final String TASKS_COLLECTION = "tasks";
+
+    private final TaskRepository taskRepository;
+    private final TaskQueryBuilder taskQueryBuilder;
+    private final TaskMapper taskMapper;
+    private final UserIdResolver userIdResolver;
+    private final ProjectAccessService projectAccessService;
+    private final ColumnRepository columnRepository;
+    private final RankKeyService rankKeyService;
+    private final MongoTemplate mongoTemplate;
+    private final BoardCache boardCache;
+    private final BoardChangeLog boardChangeLog;
+    private final UserTaskProjection userTaskProjection;
+    private final ProjectStatsService projectStatsService;
+    private final int maxBatchSize;
+
+    public TaskBatchService(TaskRepository taskRepository, TaskQueryBuilder taskQueryBuilder, TaskMapper taskMapper,
+                            UserIdResolver userIdResolver, ProjectAccessService projectAccessService,
+                            ColumnRepository columnRepository, RankKeyService rankKeyService, MongoTemplate mongoTemplate,
+                            BoardCache boardCache, BoardChangeLog boardChangeLog, UserTaskProjection userTaskProjection,
+                            ProjectStatsService projectStatsService, @Value("${task-batch.max-size:500}") int maxBatchSize) {
+        this.taskRepository = taskRepository;
+        this.taskQueryBuilder = taskQueryBuilder;
+        this.taskMapper = taskMapper;
+        this.userIdResolver = userIdResolver;
+        this.projectAccessService = projectAccessService;
+        this.columnRepository = columnRepository;
+        this.rankKeyService = rankKeyService;
+        this.mongoTemplate = mongoTemplate;
+        this.boardCache = boardCache;
+        this.boardChangeLog = boardChangeLog;
+        this.userTaskProjection = userTaskProjection;
+        this.projectStatsService = projectStatsService;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    /**
+     * used for importing many tasks at once. Tasks are appended to the end of their columns in order of request,
+     * requested positions are ignored
+     *
+     * @param taskRequests        represents created tasks
+     * @param authorizationHeader represents token of user creating tasks
+     * @return result of every item in order of request
+     */
+    public TaskBatchResponse createTasks(List<TaskRequest> taskRequests, String authorizationHeader) {
+        checkBatchSize(taskRequests);
+        String userId = userIdResolver.resolveUserId(authorizationHeader);
+        TaskBatchItemResult[] results = new TaskBatchItemResult[taskRequests.size()];
+
+        Set<String> projectIds = taskRequests.stream()
+                .map(TaskRequest::getProjectId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, ProjectAccessDto> accessibleProjects = projectAccessService.getAccessibleProjects(projectIds, userId);
+        Map<String, Column> columnsById = findColumns(taskRequests);
+
+        Map<String, List<Integer>> acceptedIndexesByColumn = new LinkedHashMap<>();
+        for (int index = 0; index < taskRequests.size(); index++) {
+            TaskRequest taskRequest = taskRequests.get(index);
+            results[index] = validate(index, taskRequest, accessibleProjects, columnsById);
+
+            if (results[index] == null) {
+                acceptedIndexesByColumn.computeIfAbsent(taskRequest.getColumnId(), columnId -> new ArrayList<>())
+                        .add(index);
+            }
+        }
+
+        List<Task> tasks = new ArrayList<>();
+        List<Integer> requestIndexes = new ArrayList<>();
+        acceptedIndexesByColumn.forEach((columnId, indexes) -> {
+            List<String> rankKeys = rankKeyService.ranksForLast(TASKS_COLLECTION, Criteria.where("columnId").is(columnId),
+                    indexes.size());
+
+            for (int index = 0; index < indexes.size(); index++) {
+                tasks.add(buildTask(taskRequests.get(indexes.get(index)), userId, rankKeys.get(index)));
+                requestIndexes.add(indexes.get(index));
+            }
+        });
+
+        insertTasks(tasks, requestIndexes, results);
+        List<Task> createdTasks = IntStream.range(0, tasks.size())
+                .filter(index -> results[requestIndexes.get(index)].getError() == null)
+                .mapToObj(tasks::get)
+                .toList();
+        userTaskProjection.refresh(createdTasks.stream().map(Task::getId).toList());
+        projectStatsService.recordCreated(createdTasks);
+        recordBoardChanges(createdTasks);
+
+        return buildResponse(results);
+    }
+
+    /**
+     * used for applying one change to many tasks, selected either by ids or by filter within one project. Access to
+     * projects and security levels of tasks are checked once for the whole batch and the change is written by
+     * single updateMany, or by single bulk write when tasks are moved to another column because every moved task
+     * gets its own rank key
+     *
+     * @param taskBatchUpdateRequest represents selected tasks and change applied to them
+     * @param authorizationHeader    represents token of user changing tasks
+     * @return matched and modified tasks together with selected tasks that were rejected
+     */
+    public TaskBatchUpdateResponse updateTasks(TaskBatchUpdateRequest taskBatchUpdateRequest, String authorizationHeader) {
+        checkChange(taskBatchUpdateRequest);
+        String userId = userIdResolver.resolveUserId(authorizationHeader);
+
+        if (taskBatchUpdateRequest.getTaskIds() != null) {
+            return updateTasksByIds(taskBatchUpdateRequest, userId);
+        }
+
+        return updateTasksByFilter(taskBatchUpdateRequest, userId);
+    }
+
+    private TaskBatchUpdateResponse updateTasksByIds(TaskBatchUpdateRequest taskBatchUpdateRequest, String userId) {
+        List<String> taskIds = taskBatchUpdateRequest.getTaskIds();
+        checkBatchSize(taskIds);
+
+        Query targetsQuery = Query.query(Criteria.where("id").in(taskIds));
+        targetsQuery.fields().include("projectId", "securityLevel", "createdById", "assigneeId").include(STATS_FIELDS);
+        Map<String, Task> tasksById = mongoTemplate.find(targetsQuery, Task.class)
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        Set<String> projectIds = tasksById.values()
+                .stream()
+                .map(Task::getProjectId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> accessibleProjectIds = projectAccessService.getAccessibleProjects(projectIds, userId).keySet();
+        Set<String> assigneeProjectIds = taskBatchUpdateRequest.getAssigneeId() == null ? projectIds :
+                projectAccessService.getAccessibleProjects(projectIds, taskBatchUpdateRequest.getAssigneeId()).keySet();
+        Column targetColumn = findTargetColumn(taskBatchUpdateRequest.getColumnId());
+
+        List<TaskBatchItemResult> rejected = new ArrayList<>();
+        List<Task> permittedTasks = new ArrayList<>();
+        for (int index = 0; index < taskIds.size(); index++) {
+            Task task = tasksById.get(taskIds.get(index));
+
+            if (task == null) {
+                rejected.add(failure(index, HttpStatus.NOT_FOUND, "task with id '%s' is not found".formatted(taskIds.get(index))));
+            } else if (!accessibleProjectIds.contains(task.getProjectId()) || !hasSecurityLevelAccess(task, userId)) {
+                rejected.add(failure(index, HttpStatus.FORBIDDEN, "You don't have access to this task"));
+            } else if (!assigneeProjectIds.contains(task.getProjectId())) {
+                rejected.add(failure(index, HttpStatus.BAD_REQUEST, "assignee doesn't have access to project of task"));
+            } else if (targetColumn != null && !targetColumn.getProjectId().equals(task.getProjectId())) {
+                rejected.add(failure(index, HttpStatus.BAD_REQUEST, "column belongs to another project"));
+            } else {
+                permittedTasks.add(task);
+            }
+        }
+
+        if (permittedTasks.isEmpty()) {
+            return buildUpdateResponse(new BulkUpdateResult(true, 0, 0), rejected);
+        }
+
+        BulkUpdateResult updateResult = applyChange(Criteria.where("id").in(getIds(permittedTasks)), taskBatchUpdateRequest,
+                targetColumn);
+        recordChange(permittedTasks, taskBatchUpdateRequest, updateResult);
+
+        return buildUpdateResponse(updateResult, rejected);
+    }
+
+    private TaskBatchUpdateResponse updateTasksByFilter(TaskBatchUpdateRequest taskBatchUpdateRequest, String userId) {
+        String projectId = taskBatchUpdateRequest.getProjectId();
+        projectAccessService.checkAccessToProject(projectId, userId);
+        if (taskBatchUpdateRequest.getAssigneeId() != null) {
+            projectAccessService.checkAccessToProject(projectId, taskBatchUpdateRequest.getAssigneeId());
+        }
+
+        Column targetColumn = findTargetColumn(taskBatchUpdateRequest.getColumnId());
+        if (targetColumn != null && !projectId.equals(targetColumn.getProjectId())) {
+            throw new BadRequestException("column with id '%s' belongs to another project".formatted(targetColumn.getId()));
+        }
+
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(Criteria.where("projectId").is(projectId));
+        if (taskBatchUpdateRequest.getFilter() != null) {
+            criteria.addAll(taskQueryBuilder.buildFilterCriteria(taskBatchUpdateRequest.getFilter()));
+        }
+        criteria.add(securityLevelCriteria(userId));
+
+        List<Task> targetTasks = findTargetTasks(new Criteria().andOperator(criteria));
+        if (targetTasks.size() > maxBatchSize) {
+            throw new BadRequestException("filter should select at most %d tasks".formatted(maxBatchSize));
+        }
+        if (targetTasks.isEmpty()) {
+            return buildUpdateResponse(new BulkUpdateResult(true, 0, 0), List.of());
+        }
+
+        criteria.add(Criteria.where("id").in(getIds(targetTasks)));
+        BulkUpdateResult updateResult = applyChange(new Criteria().andOperator(criteria), taskBatchUpdateRequest, targetColumn);
+        recordChange(targetTasks, taskBatchUpdateRequest, updateResult);
+
+        return buildUpdateResponse(updateResult, List.of());
+    }
+
+    /**
+     * filtered tasks are read before the change, because the change may make tasks stop matching the filter and
+     * their read model entries and counters of their project still have to be updated. One task more than the batch
+     * may have is read, so too broad filter is found out without reading all tasks it selects
+     */
+    private List<Task> findTargetTasks(Criteria criteria) {
+        Query targetsQuery = new Query(criteria).limit(maxBatchSize + 1);
+        targetsQuery.fields().include("projectId").include(STATS_FIELDS);
+
+        return mongoTemplate.find(targetsQuery, Task.class);
+    }
+
+    /**
+     * tasks that already had requested status give zero difference, so counters stay right even if only part of
+     * targets was modified
+     */
+    private void recordChange(List<Task> targetTasks, TaskBatchUpdateRequest taskBatchUpdateRequest,
+                              BulkUpdateResult updateResult) {
+        if (updateResult.modifiedCount() == 0) {
+            return;
+        }
+
+        userTaskProjection.refresh(getIds(targetTasks));
+        if (taskBatchUpdateRequest.getStatus() != null) {
+            projectStatsService.recordChanges(targetTasks, targetTasks.stream()
+                    .map(task -> Task.builder()
+                            .projectId(task.getProjectId())
+                            .status(taskBatchUpdateRequest.getStatus())
+                            .timeSpent(task.getTimeSpent())
+                            .timeEstimated(task.getTimeEstimated())
+                            .gamificationPoints(task.getGamificationPoints())
+                            .build())
+                    .toList());
+        }
+        recordBoardChanges(targetTasks);
+    }
+
+    private void recordBoardChanges(List<Task> changedTasks) {
+        changedTasks.stream()
+                .collect(Collectors.groupingBy(Task::getProjectId, LinkedHashMap::new,
+                        Collectors.mapping(Task::getId, Collectors.toList())))
+                .forEach((projectId, taskIds) -> {
+                    boardCache.bumpVersion(projectId);
+                    boardChangeLog.recordTasks(projectId, taskIds);
+                });
+    }
+
+    private List<String> getIds(List<Task> tasks) {
+        return tasks.stream()
+                .map(Task::getId)
+                .toList();
+    }
+
+    private BulkUpdateResult applyChange(Criteria targets, TaskBatchUpdateRequest taskBatchUpdateRequest, Column targetColumn) {
+        if (targetColumn == null) {
+            FieldUpdate change = addChanges(FieldUpdate.matching(targets), taskBatchUpdateRequest);
+            UpdateResult updateResult = mongoTemplate.updateMulti(Query.query(change.getCriteria()), change.getUpdate(),
+                    Task.class);
+
+            return new BulkUpdateResult(updateResult.wasAcknowledged(), (int) updateResult.getMatchedCount(),
+                    (int) updateResult.getModifiedCount());
+        }
+
+        Query movedTasksQuery = Query.query(targets).with(Sort.by(Sort.Direction.ASC, "position", "id"));
+        movedTasksQuery.fields().include("id");
+        List<Task> movedTasks = mongoTemplate.find(movedTasksQuery, Task.class);
+        if (movedTasks.isEmpty()) {
+            return new BulkUpdateResult(true, 0, 0);
+        }
+
+        List<String> rankKeys = rankKeyService.ranksForLast(TASKS_COLLECTION,
+                Criteria.where("columnId").is(targetColumn.getId()), movedTasks.size());
+        List<FieldUpdate> fieldUpdates = new ArrayList<>(movedTasks.size());
+        for (int index = 0; index < movedTasks.size(); index++) {
+            fieldUpdates.add(addChanges(FieldUpdate.byId(movedTasks.get(index).getId()), taskBatchUpdateRequest)
+                    .set("position", rankKeys.get(index)));
+        }
+
+        return taskRepository.bulkUpdate(fieldUpdates, WriteConcern.ACKNOWLEDGED);
+    }
+
+    private FieldUpdate addChanges(FieldUpdate fieldUpdate, TaskBatchUpdateRequest taskBatchUpdateRequest) {
+        if (taskBatchUpdateRequest.getStatus() != null) {
+            fieldUpdate.set("status", taskBatchUpdateRequest.getStatus());
+        }
+        if (taskBatchUpdateRequest.getAssigneeId() != null) {
+            fieldUpdate.set("assigneeId", taskBatchUpdateRequest.getAssigneeId());
+        }
+        if (taskBatchUpdateRequest.getSecurityLevel() != null) {
+            fieldUpdate.set("securityLevel", taskBatchUpdateRequest.getSecurityLevel());
+        }
+        if (taskBatchUpdateRequest.getColumnId() != null) {
+            fieldUpdate.set("columnId", taskBatchUpdateRequest.getColumnId());
+        }
+        if (isNotEmpty(taskBatchUpdateRequest.getAddTags())) {
+            fieldUpdate.addToSet("tags", taskBatchUpdateRequest.getAddTags());
+        }
+        if (isNotEmpty(taskBatchUpdateRequest.getRemoveTags())) {
+            fieldUpdate.pullAll("tags", taskBatchUpdateRequest.getRemoveTags());
+        }
+
+        return fieldUpdate.set("updatedAt", LocalDateTime.now());
+    }
+
+    /**
+     * tags are added and removed by different operators on the same field, mongo rejects update having both
+     */
+    private void checkChange(TaskBatchUpdateRequest taskBatchUpdateRequest) {
+        if ((taskBatchUpdateRequest.getTaskIds() == null) == (taskBatchUpdateRequest.getProjectId() == null)) {
+            throw new BadRequestException("either taskIds or projectId with filter should be specified");
+        }
+
+        if (isNotEmpty(taskBatchUpdateRequest.getAddTags()) && isNotEmpty(taskBatchUpdateRequest.getRemoveTags())) {
+            throw new BadRequestException("addTags and removeTags can't be changed by the same request");
+        }
+
+        if (taskBatchUpdateRequest.getStatus() == null && taskBatchUpdateRequest.getAssigneeId() == null &&
+                taskBatchUpdateRequest.getSecurityLevel() == null && taskBatchUpdateRequest.getColumnId() == null &&
+                !isNotEmpty(taskBatchUpdateRequest.getAddTags()) && !isNotEmpty(taskBatchUpdateRequest.getRemoveTags())) {
+            throw new BadRequestException("change should be specified");
+        }
+    }
+
+    private Column findTargetColumn(String columnId) {
+        if (columnId == null) {
+            return null;
+        }
+
+        return columnRepository.findById(columnId)
+                .orElseThrow(() -> new BadRequestException("column with id '%s' doesn't exists".formatted(columnId)));
+    }
+
+    /**
+     * the same rules as for reading single task: public tasks are open to project members, protected ones to creator
+     * and assignee and private ones to creator only
+     */
+    private boolean hasSecurityLevelAccess(Task task, String userId) {
+        return switch (task.getSecurityLevel() == null ? SecurityLevel.PUBLIC : task.getSecurityLevel()) {
+            case PUBLIC -> true;
+            case PROTECTED -> userId.equals(task.getCreatedById()) || userId.equals(task.getAssigneeId());
+            case PRIVATE -> userId.equals(task.getCreatedById());
+        };
+    }
+
+    private Criteria securityLevelCriteria(String userId) {
+        return new Criteria().orOperator(
+                Criteria.where("securityLevel").in(SecurityLevel.PUBLIC, null),
+                Criteria.where("createdById").is(userId),
+                Criteria.where("securityLevel").is(SecurityLevel.PROTECTED).and("assigneeId").is(userId));
+    }
+
+    private boolean isNotEmpty(Set<String> values) {
+        return values != null && !values.isEmpty();
+    }
+
+    private TaskBatchUpdateResponse buildUpdateResponse(BulkUpdateResult updateResult, List<TaskBatchItemResult> rejected) {
+        return TaskBatchUpdateResponse.builder()
+                .matchedCount(updateResult.matchedCount())
+                .modifiedCount(updateResult.modifiedCount())
+                .rejected(rejected)
+                .build();
+    }
+
+    private void checkBatchSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new BadRequestException("batch should contain at least one item");
+        }
+
+        if (items.size() > maxBatchSize) {
+            throw new BadRequestException("batch should contain at most %d items".formatted(maxBatchSize));
+        }
+    }
+
+    private Map<String, Column> findColumns(List<TaskRequest> taskRequests) {
+        Set<String> columnIds = taskRequests.stream()
+                .map(TaskRequest::getColumnId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(HashSet::new));
+
+        return columnRepository.findAllById(columnIds)
+                .stream()
+                .collect(Collectors.toMap(Column::getId, Function.identity()));
+    }
+
+    private TaskBatchItemResult validate(int index, TaskRequest taskRequest, Map<String, ProjectAccessDto> accessibleProjects,
+                                         Map<String, Column> columnsById) {
+        if (taskRequest.getProjectId() == null || taskRequest.getColumnId() == null) {
+            return failure(index, HttpStatus.BAD_REQUEST, "projectId and columnId should be specified");
+        }
+
+        if (!accessibleProjects.containsKey(taskRequest.getProjectId())) {
+            return failure(index, HttpStatus.FORBIDDEN, "You don't have access to this project");
+        }
+
+        Column column = columnsById.get(taskRequest.getColumnId());
+        if (column == null || !taskRequest.getProjectId().equals(column.getProjectId())) {
+            return failure(index, HttpStatus.BAD_REQUEST,
+                    "column with id '%s' is not found in project".formatted(taskRequest.getColumnId()));
+        }
+
+        return null;
+    }
+
+    /**
+     * id is assigned before insert, so every item can be reported with its task even if some inserts fail
+     */
+    private Task buildTask(TaskRequest taskRequest, String userId, String rankKey) {
+        Task task = taskMapper.toTask(taskRequest);
+        task.setId(new ObjectId().toHexString());
+        task.setCreatedById(userId);
+        task.setPosition(rankKey);
+
+        return task;
+    }
+
+    /**
+     * tasks are encoded by {@link com.project.taskservice.tasks.codecs.TaskCodec} and inserted by unordered
+     * insertMany, failed inserts are reported by their index in the inserted list
+     */
+    private void insertTasks(List<Task> tasks, List<Integer> requestIndexes, TaskBatchItemResult[] results) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, String> insertErrors = new HashMap<>();
+        try {
+            mongoTemplate.getCollection(TASKS_COLLECTION)
+                    .withDocumentClass(Task.class)
+                    .insertMany(tasks, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException exception) {
+            exception.getWriteErrors().forEach(writeError -> insertErrors.put(writeError.getIndex(), writeError.getMessage()));
+            log.warn("{} of {} tasks of batch were not inserted", insertErrors.size(), tasks.size());
+        }
+
+        for (int index = 0; index < tasks.size(); index++) {
+            int requestIndex = requestIndexes.get(index);
+            String insertError = insertErrors.get(index);
+
+            if (insertError != null) {
+                results[requestIndex] = failure(requestIndex, HttpStatus.CONFLICT, insertError);
+                continue;
+            }
+
+            results[requestIndex] = TaskBatchItemResult.builder()
+                    .index(requestIndex)
+                    .taskId(tasks.get(index).getId())
+                    .status(HttpStatus.CREATED.value())
+                    .build();
+        }
+    }
+
+    private TaskBatchItemResult failure(int index, HttpStatus status, String error) {
+        return TaskBatchItemResult.builder()
+                .index(index)
+                .status(status.value())
+                .error(error)
+                .build();
+    }
+
+    private TaskBatchResponse buildResponse(TaskBatchItemResult[] results) {
+        int succeeded = (int) Arrays.stream(results)
+                .filter(result -> result.getError() == null)
+                .count();
+
+        return TaskBatchResponse.builder()
+                .succeeded(succeeded)
+                .failed(results.length - succeeded)
+                .results(Arrays.asList(results))
+                .build();
+    }
+
+}
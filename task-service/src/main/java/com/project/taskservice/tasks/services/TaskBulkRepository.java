@@ -0,0 +1,20 @@
+package com.project.taskservice.tasks.services;
+
+import com.mongodb.WriteConcern;
+import com.project.taskservice.utils.FieldUpdate;
+import com.project.taskservice.utils.MongoBulkWriter.BulkUpdateResult;
+
+import java.util.List;
+
+public interface TaskBulkRepository {
+
+    /**
+     * used for changing few fields of many tasks in one round trip
+     *
+     * @param fieldUpdates represents updates of tasks
+     * @param writeConcern represents write concern of the write, null to use the default one
+     * @return matched and modified tasks
+     */
+    BulkUpdateResult bulkUpdate(List<FieldUpdate> fieldUpdates, WriteConcern writeConcern);
+
+}
@@ -0,0 +1,22 @@
+package com.project.taskservice.tasks.services;
+
+import com.mongodb.WriteConcern;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.utils.FieldUpdate;
+import com.project.taskservice.utils.MongoBulkWriter;
+import com.project.taskservice.utils.MongoBulkWriter.BulkUpdateResult;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class TaskBulkRepositoryImpl implements TaskBulkRepository {
+
+    private final MongoBulkWriter mongoBulkWriter;
+
+    @Override
+    public BulkUpdateResult bulkUpdate(List<FieldUpdate> fieldUpdates, WriteConcern writeConcern) {
+        return mongoBulkWriter.write(Task.class, fieldUpdates, writeConcern);
+    }
+
+}
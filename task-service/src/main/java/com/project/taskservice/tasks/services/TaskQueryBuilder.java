@@ -0,0 +1,248 @@
+package com.project.taskservice.tasks.services;
+
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.UserTask;
+import com.project.taskservice.tasks.data.dto.TaskFilterRequest;
+import com.project.taskservice.tasks.data.dto.TaskPageResponse;
+import com.project.taskservice.tasks.data.enums.TaskSortKey;
+import com.project.taskservice.utils.TaskCursorCodec;
+import com.project.taskservice.utils.TaskCursorCodec.TaskCursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * builds filtered, sorted and keyset-paginated task queries. Page boundary is expressed as condition on
+ * (sort field, _id) instead of skip, so every page costs the same regardless of how deep client scrolled
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskQueryBuilder {
+
+    public static final int DEFAULT_LIMIT = 50;
+    public static final int MAX_LIMIT = 200;
+
+    private static final String ID_FIELD = "id";
+    private static final String TASK_ID_FIELD = "taskId";
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskCursorCodec taskCursorCodec;
+
+    /**
+     * used for reading one page of tasks
+     *
+     * @param scope             represents criteria selecting tasks the caller is allowed to list
+     * @param taskFilterRequest represents filters, sorting and cursor sent by client
+     * @return page of tasks and cursor of the next page, null if it is the last one
+     */
+    public TaskPageResponse findPage(Criteria scope, TaskFilterRequest taskFilterRequest) {
+        TaskSortKey sortKey = TaskSortKey.fromField(taskFilterRequest.getSortBy());
+        int sortOrder = getSortOrder(taskFilterRequest.getSortOrder());
+        int limit = getLimit(taskFilterRequest.getLimit());
+
+        Query query = buildPageQuery(scope, taskFilterRequest, sortKey, sortOrder, limit, ID_FIELD);
+        List<Task> tasks = findTasks(query, limit + 1);
+
+        if (tasks.size() <= limit) {
+            return new TaskPageResponse(tasks, null);
+        }
+
+        List<Task> page = tasks.subList(0, limit);
+        Task lastTask = page.get(limit - 1);
+        String nextCursor = taskCursorCodec.encode(new TaskCursor(sortKey, sortOrder,
+                sortKey.getValueExtractor().apply(lastTask), lastTask.getId()));
+
+        return new TaskPageResponse(new ArrayList<>(page), nextCursor);
+    }
+
+    /**
+     * used for reading one page of tasks created by user or assigned to user. Page is selected from "my tasks" read
+     * model by range scan of index on user and sort key, then tasks of the page are read by their ids
+     *
+     * @param userId            represents user whose tasks are listed
+     * @param taskFilterRequest represents filters, sorting and cursor sent by client
+     * @return page of tasks and cursor of the next page, null if it is the last one
+     */
+    public TaskPageResponse findUserTasksPage(String userId, TaskFilterRequest taskFilterRequest) {
+        TaskSortKey sortKey = TaskSortKey.fromField(taskFilterRequest.getSortBy());
+        int sortOrder = getSortOrder(taskFilterRequest.getSortOrder());
+        int limit = getLimit(taskFilterRequest.getLimit());
+
+        Query query = buildPageQuery(Criteria.where("userId").is(userId), taskFilterRequest, sortKey, sortOrder, limit,
+                TASK_ID_FIELD);
+        List<UserTask> userTasks = mongoTemplate.find(query, UserTask.class);
+
+        if (userTasks.size() <= limit) {
+            return new TaskPageResponse(findTasksInOrder(userTasks), null);
+        }
+
+        List<UserTask> page = userTasks.subList(0, limit);
+        UserTask lastUserTask = page.get(limit - 1);
+        String nextCursor = taskCursorCodec.encode(new TaskCursor(sortKey, sortOrder,
+                sortKey.getUserTaskValueExtractor().apply(lastUserTask), lastUserTask.getTaskId()));
+
+        return new TaskPageResponse(findTasksInOrder(page), nextCursor);
+    }
+
+    /**
+     * @param idField represents field breaking ties of sort key, id of task in tasks and task id in read model
+     */
+    private Query buildPageQuery(Criteria scope, TaskFilterRequest taskFilterRequest, TaskSortKey sortKey, int sortOrder,
+                                 int limit, String idField) {
+        List<Criteria> criteria = new ArrayList<>();
+        criteria.add(scope);
+        criteria.addAll(buildFilterCriteria(taskFilterRequest));
+
+        if (taskFilterRequest.getCursor() != null && !taskFilterRequest.getCursor().isBlank()) {
+            TaskCursor cursor = taskCursorCodec.decode(taskFilterRequest.getCursor(), sortKey, sortOrder);
+            criteria.add(buildKeysetCriteria(cursor, idField));
+        }
+
+        Sort.Direction direction = sortOrder == 1 ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return new Query(new Criteria().andOperator(criteria))
+                .with(Sort.by(direction, sortKey.getField(), idField))
+                .limit(limit + 1);
+    }
+
+    /**
+     * task missing in tasks was deleted after its entry was read and is left out of the page
+     */
+    private List<Task> findTasksInOrder(List<UserTask> userTasks) {
+        if (userTasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<String> taskIds = userTasks.stream().map(UserTask::getTaskId).toList();
+        Map<String, Task> tasksById = findTasks(new Query(Criteria.where(ID_FIELD).in(taskIds)), taskIds.size())
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        return taskIds.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * query is mapped the same way MongoTemplate maps it, but documents are decoded by
+     * {@link com.project.taskservice.tasks.codecs.TaskCodec} while cursor is read
+     */
+    private List<Task> findTasks(Query query, int limit) {
+        MongoPersistentEntity<?> taskEntity = mongoTemplate.getConverter().getMappingContext()
+                .getRequiredPersistentEntity(Task.class);
+        QueryMapper queryMapper = new QueryMapper(mongoTemplate.getConverter());
+
+        return mongoTemplate.getCollection(mongoTemplate.getCollectionName(Task.class))
+                .find(queryMapper.getMappedObject(query.getQueryObject(), taskEntity), Task.class)
+                .sort(queryMapper.getMappedSort(query.getSortObject(), taskEntity))
+                .limit(limit)
+                .into(new ArrayList<>());
+    }
+
+    /**
+     * used for selecting tasks by filters of request, sorting and cursor are ignored
+     *
+     * @param taskFilterRequest represents filters sent by client
+     * @return criteria of every specified filter
+     */
+    List<Criteria> buildFilterCriteria(TaskFilterRequest taskFilterRequest) {
+        List<Criteria> criteria = new ArrayList<>();
+
+        if (taskFilterRequest.getStatuses() != null && !taskFilterRequest.getStatuses().isEmpty()) {
+            criteria.add(Criteria.where("status").in(taskFilterRequest.getStatuses()));
+        }
+
+        if (taskFilterRequest.getMinPriority() != null || taskFilterRequest.getMaxPriority() != null) {
+            Criteria priority = Criteria.where("priority");
+            if (taskFilterRequest.getMinPriority() != null) {
+                priority.gte(taskFilterRequest.getMinPriority());
+            }
+            if (taskFilterRequest.getMaxPriority() != null) {
+                priority.lte(taskFilterRequest.getMaxPriority());
+            }
+            criteria.add(priority);
+        }
+
+        if (taskFilterRequest.getTags() != null && !taskFilterRequest.getTags().isEmpty()) {
+            criteria.add(Criteria.where("tags").all(taskFilterRequest.getTags()));
+        }
+
+        if (taskFilterRequest.getDueFrom() != null || taskFilterRequest.getDueTo() != null) {
+            Criteria dueDate = Criteria.where("dueDate");
+            if (taskFilterRequest.getDueFrom() != null) {
+                dueDate.gte(taskFilterRequest.getDueFrom());
+            }
+            if (taskFilterRequest.getDueTo() != null) {
+                dueDate.lt(taskFilterRequest.getDueTo());
+            }
+            criteria.add(dueDate);
+        }
+
+        if (taskFilterRequest.getAssigneeId() != null) {
+            criteria.add(Criteria.where("assigneeId").is(taskFilterRequest.getAssigneeId()));
+        }
+
+        return criteria;
+    }
+
+    /**
+     * mongo orders missing and null values before any other value, so null sort value of the last task needs
+     * its own branch: ascending pages continue with the rest of nulls and then all non-null values, descending
+     * pages have nothing after nulls except nulls with smaller id
+     */
+    private Criteria buildKeysetCriteria(TaskCursor cursor, String idField) {
+        String field = cursor.sortKey().getField();
+        Object value = cursor.value();
+        boolean ascending = cursor.sortOrder() == 1;
+
+        if (value == null) {
+            Criteria sameNullValue = new Criteria().andOperator(Criteria.where(field).is(null),
+                    ascending ? Criteria.where(idField).gt(cursor.id()) : Criteria.where(idField).lt(cursor.id()));
+
+            return ascending ? new Criteria().orOperator(sameNullValue, Criteria.where(field).ne(null)) : sameNullValue;
+        }
+
+        Criteria sameValue = new Criteria().andOperator(Criteria.where(field).is(value),
+                ascending ? Criteria.where(idField).gt(cursor.id()) : Criteria.where(idField).lt(cursor.id()));
+
+        if (ascending) {
+            return new Criteria().orOperator(Criteria.where(field).gt(value), sameValue);
+        }
+
+        return new Criteria().orOperator(Criteria.where(field).lt(value), sameValue, Criteria.where(field).is(null));
+    }
+
+    private int getSortOrder(int sortOrder) {
+        if (sortOrder != 1 && sortOrder != -1) {
+            throw new BadRequestException("sort order should be 1 or -1");
+        }
+
+        return sortOrder;
+    }
+
+    private int getLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+
+        if (limit < 1) {
+            throw new BadRequestException("limit should be positive");
+        }
+
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+}
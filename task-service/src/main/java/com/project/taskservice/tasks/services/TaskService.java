@@ -1,23 +1,51 @@
 package com.project.taskservice.tasks.services;
 
+import com.mongodb.WriteConcern;
 import com.project.taskservice.columns.data.Column;
+import com.project.taskservice.columns.services.BoardCache;
+import com.project.taskservice.columns.services.BoardChangeLog;
 import com.project.taskservice.columns.services.ColumnRepository;
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.exceptions.ConflictException;
 import com.project.taskservice.exceptions.EntityNotFoundException;
 import com.project.taskservice.exceptions.ForbiddenException;
-import com.project.taskservice.feigns.ProjectFeign;
-import com.project.taskservice.feigns.UserFeign;
-import com.project.taskservice.model.ProjectAccessDto;
+import com.project.taskservice.exceptions.VersionConflictException;
+import com.project.taskservice.projects.services.ProjectAccessService;
+import com.project.taskservice.projects.services.ProjectStatsService;
 import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.TaskFilterRequest;
+import com.project.taskservice.tasks.data.dto.TaskMoveRequest;
+import com.project.taskservice.tasks.data.dto.TaskMoveResponse;
+import com.project.taskservice.tasks.data.dto.TaskPageResponse;
+import com.project.taskservice.tasks.data.dto.TaskPatchRequest;
 import com.project.taskservice.tasks.data.dto.TaskRequest;
 import com.project.taskservice.tasks.data.enums.SecurityLevel;
-import com.project.taskservice.utils.JwtUtils;
-import feign.FeignException;
+import com.project.taskservice.tasks.mappers.TaskMapper;
+import com.project.taskservice.utils.FieldUpdate;
+import com.project.taskservice.utils.RankKeyService;
+import com.project.taskservice.utils.RankKeysReassignedException;
+import com.project.taskservice.utils.UserIdResolver;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.project.taskservice.projects.services.ProjectStatsService.STATS_FIELDS;
+
 
 @Service
 @RequiredArgsConstructor
@@ -25,23 +53,34 @@ import java.util.List;
 public class TaskService {
 
     private final TaskRepository taskRepository;
-    private final JwtUtils jwtUtils;
-    private final UserFeign userFeign;
-    private final ModelMapper modelMapper;
-    private final ProjectFeign projectFeign;
+    private final UserIdResolver userIdResolver;
+    private final TaskMapper taskMapper;
+    private final ProjectAccessService projectAccessService;
     private final ColumnRepository columnRepository;
+    private final TaskQueryBuilder taskQueryBuilder;
+    private final BoardCache boardCache;
+    private final BoardChangeLog boardChangeLog;
+    private final RankKeyService rankKeyService;
+    private final MongoTemplate mongoTemplate;
+    private final UserTaskProjection userTaskProjection;
+    private final ProjectStatsService projectStatsService;
 
     public Task createTask(TaskRequest taskRequest, String authorizationHeader) {
-        String userId = getUserIdByTokenUsingFeign(authorizationHeader);
+        String userId = getUserId(authorizationHeader);
         checkAccessToProject(taskRequest.getProjectId(), userId);
         Task createdTaskByRequest = createTaskByTaskRequest(taskRequest, userId);
+        Task savedTask = taskRepository.save(createdTaskByRequest);
+        userTaskProjection.refresh(List.of(savedTask.getId()));
+        projectStatsService.recordCreated(List.of(savedTask));
+        boardCache.bumpVersion(savedTask.getProjectId());
+        boardChangeLog.recordTasks(savedTask.getProjectId(), List.of(savedTask.getId()));
 
-        return taskRepository.save(createdTaskByRequest);
+        return savedTask;
     }
 
     public Task getTaskById(String taskId, String authorizationHeader) {
         Task obtainedTask = getTaskById(taskId);
-        String userId = getUserIdByTokenUsingFeign(authorizationHeader), createdById = obtainedTask.getCreatedById(),
+        String userId = getUserId(authorizationHeader), createdById = obtainedTask.getCreatedById(),
                 assigneeId = obtainedTask.getAssigneeId();
 
         checkAccessToProject(obtainedTask.getProjectId(), userId);
@@ -55,32 +94,226 @@ public class TaskService {
 
     }
 
-    public List<Task> getTasksByColumnId(String columnId, String authorizationHeader) {
+    public TaskPageResponse getTasksByColumnId(String columnId, TaskFilterRequest taskFilterRequest,
+                                               String authorizationHeader) {
         Column taskColumn = getColumnByTaskId(columnId);
-        String ownerId = taskColumn.getCreatedById(), userId = userFeign.getUserIdByToken(jwtUtils.getTokenFromAuthorizationHeader(authorizationHeader));
+        String ownerId = taskColumn.getCreatedById(), userId = getUserId(authorizationHeader);
 
         if (!isUserIdAndOwnerIdEqual(userId, ownerId)) {
             throw new ForbiddenException("You don't have access to this project");
         }
 
-        return taskRepository.findByColumnIdOrderByPosition(columnId);
+        return taskQueryBuilder.findPage(Criteria.where("columnId").is(columnId), taskFilterRequest);
     }
 
     public void assignUserToTask(String taskId, String assigneeId, String authorizationHeader) {
         Task obtainedTaskById = getTaskById(taskId);
-        String userId = userFeign.getUserIdByToken(jwtUtils.getTokenFromAuthorizationHeader(authorizationHeader));
+        String userId = getUserId(authorizationHeader);
         checkAccessToProject(obtainedTaskById.getProjectId(), assigneeId);
         checkAccessToProject(obtainedTaskById.getProjectId(), userId);
 
-        obtainedTaskById.setAssigneeId(assigneeId);
+        taskRepository.bulkUpdate(List.of(FieldUpdate.byId(taskId).set("assigneeId", assigneeId)), WriteConcern.ACKNOWLEDGED);
+        userTaskProjection.refresh(List.of(taskId));
+        boardCache.bumpVersion(obtainedTaskById.getProjectId());
+        boardChangeLog.recordTasks(obtainedTaskById.getProjectId(), List.of(taskId));
+    }
+
+    /**
+     * used for drag and drop of task, possibly into another column. Moved task and its new neighbours are read by
+     * single query and task gets column and rank key between its neighbours by single conditional update, so other
+     * tasks are not written at all. The update is applied only if task wasn't moved since it was read. Neighbours
+     * that share one rank key or still have integer positions get new keys and are read once again
+     *
+     * @param taskId              represents moved task
+     * @param taskMoveRequest     represents target column and new neighbours of task
+     * @param authorizationHeader represents token of user moving task
+     * @return new column and position of task together with version of the board after move
+     */
+    public TaskMoveResponse moveTask(String taskId, TaskMoveRequest taskMoveRequest, String authorizationHeader) {
+        try {
+            return tryMoveTask(taskId, taskMoveRequest, authorizationHeader);
+        } catch (RankKeysReassignedException exception) {
+            return tryMoveTask(taskId, taskMoveRequest, authorizationHeader);
+        }
+    }
+
+    private TaskMoveResponse tryMoveTask(String taskId, TaskMoveRequest taskMoveRequest, String authorizationHeader) {
+        String userId = getUserId(authorizationHeader), targetColumnId = taskMoveRequest.getTargetColumnId();
+        if (targetColumnId == null) {
+            throw new BadRequestException("targetColumnId should be specified");
+        }
+
+        Map<String, Task> tasksById = findMoveParticipants(taskId, taskMoveRequest);
+        Task movedTask = Optional.ofNullable(tasksById.get(taskId))
+                .orElseThrow(() -> new EntityNotFoundException("task with id '%s' is not found".formatted(taskId)));
+        checkAccessToProject(movedTask.getProjectId(), userId);
+
+        Task beforeTask = getNeighbour(tasksById, taskMoveRequest.getBeforeTaskId(), movedTask, targetColumnId);
+        Task afterTask = getNeighbour(tasksById, taskMoveRequest.getAfterTaskId(), movedTask, targetColumnId);
+        if (beforeTask == null && afterTask == null) {
+            checkTargetColumn(targetColumnId, movedTask.getProjectId());
+        }
+
+        String newPosition = rankKeyService.rankBetween("tasks", Criteria.where("columnId").is(targetColumnId),
+                beforeTask == null ? null : beforeTask.getPosition(), afterTask == null ? null : afterTask.getPosition());
+
+        Query notMovedSinceRead = Query.query(Criteria.where("id").is(taskId)
+                .and("columnId").is(movedTask.getColumnId())
+                .and("position").is(movedTask.getPosition()));
+        Update moveUpdate = new Update()
+                .set("columnId", targetColumnId)
+                .set("position", newPosition);
+        if (mongoTemplate.updateFirst(notMovedSinceRead, moveUpdate, Task.class).getMatchedCount() == 0) {
+            throw new ConflictException("task with id '%s' was changed by another request, reload the board".formatted(taskId));
+        }
 
-        taskRepository.save(obtainedTaskById);
+        userTaskProjection.refresh(List.of(taskId));
+        boardCache.bumpVersion(movedTask.getProjectId());
+        boardChangeLog.recordTasks(movedTask.getProjectId(), List.of(taskId));
+        return TaskMoveResponse.builder()
+                .taskId(taskId)
+                .columnId(targetColumnId)
+                .position(newPosition)
+                .boardVersion(boardCache.getBoardVersion(movedTask.getProjectId()))
+                .build();
     }
 
-    public List<Task> getAllUserTasks(String authorizationHeader) {
-        String userId = userFeign.getUserIdByToken(jwtUtils.getTokenFromAuthorizationHeader(authorizationHeader));
+    /**
+     * used for changing some fields of task without reading and saving whole task. Changed fields are written by
+     * single findAndModify that matches task only while it still has version client has read, so concurrent edits
+     * don't overwrite each other. Task written before versions were introduced has version 0
+     *
+     * @param taskId              represents changed task
+     * @param taskPatchRequest    represents changed fields and version of task they were changed from
+     * @param authorizationHeader represents token of user changing task
+     * @return task after change with its new version
+     */
+    public Task patchTask(String taskId, TaskPatchRequest taskPatchRequest, String authorizationHeader) {
+        Long expectedVersion = taskPatchRequest.getVersion();
+        if (expectedVersion == null) {
+            throw new BadRequestException("version of task should be specified");
+        }
+
+        Update patchUpdate = buildPatchUpdate(taskPatchRequest);
+        String userId = getUserId(authorizationHeader);
+        Task taskBefore = findPatchedTask(taskId);
+        checkAccessToProject(taskBefore.getProjectId(), userId);
+        if (!checkSecurityLevelAccess(taskBefore.getSecurityLevel(), taskBefore.getCreatedById(), userId, taskBefore.getAssigneeId())) {
+            throw new ForbiddenException("You don't have access to this task");
+        }
+        if (taskPatchRequest.getAssigneeId() != null) {
+            checkAccessToProject(taskBefore.getProjectId(), taskPatchRequest.getAssigneeId());
+        }
+
+        if (Optional.ofNullable(taskBefore.getVersion()).orElse(0L) != expectedVersion.longValue()) {
+            throw versionConflict(taskId, expectedVersion);
+        }
 
-        return taskRepository.getPersonalTasks(userId);
+        Query notChangedSinceRead = Query.query(Criteria.where("id").is(taskId).and("version").in(versionValues(expectedVersion)));
+        Task patchedTask = mongoTemplate.findAndModify(notChangedSinceRead, patchUpdate,
+                FindAndModifyOptions.options().returnNew(true), Task.class);
+        if (patchedTask == null) {
+            throw versionConflict(taskId, expectedVersion);
+        }
+
+        userTaskProjection.refresh(List.of(taskId));
+        projectStatsService.recordChanges(List.of(taskBefore), List.of(patchedTask));
+        boardCache.bumpVersion(patchedTask.getProjectId());
+        boardChangeLog.recordTasks(patchedTask.getProjectId(), List.of(taskId));
+        return patchedTask;
+    }
+
+    public TaskPageResponse getAllUserTasks(TaskFilterRequest taskFilterRequest, String authorizationHeader) {
+        return taskQueryBuilder.findUserTasksPage(getUserId(authorizationHeader), taskFilterRequest);
+    }
+
+    private Update buildPatchUpdate(TaskPatchRequest taskPatchRequest) {
+        Update update = new Update();
+        setIfPresent(update, "title", taskPatchRequest.getTitle());
+        setIfPresent(update, "description", taskPatchRequest.getDescription());
+        setIfPresent(update, "status", taskPatchRequest.getStatus());
+        setIfPresent(update, "priority", taskPatchRequest.getPriority());
+        setIfPresent(update, "assigneeId", taskPatchRequest.getAssigneeId());
+        setIfPresent(update, "dueDate", taskPatchRequest.getDueDate());
+        setIfPresent(update, "tags", taskPatchRequest.getTags());
+        setIfPresent(update, "timeSpent", taskPatchRequest.getTimeSpent());
+        setIfPresent(update, "timeEstimated", taskPatchRequest.getTimeEstimated());
+        setIfPresent(update, "gamificationPoints", taskPatchRequest.getGamificationPoints());
+        setIfPresent(update, "securityLevel", taskPatchRequest.getSecurityLevel());
+
+        if (update.getUpdateObject().isEmpty()) {
+            throw new BadRequestException("at least one field of task should be changed");
+        }
+
+        return update.set("updatedAt", LocalDateTime.now())
+                .inc("version", 1L);
+    }
+
+    private void setIfPresent(Update update, String field, Object value) {
+        if (value != null) {
+            update.set(field, value);
+        }
+    }
+
+    /**
+     * reads only fields access is checked by and fields counted by project stats, the read is also the state of task
+     * before change, because the change is applied only if version didn't change since this read
+     */
+    private Task findPatchedTask(String taskId) {
+        Query taskQuery = Query.query(Criteria.where("id").is(taskId));
+        taskQuery.fields().include("projectId", "securityLevel", "createdById", "assigneeId", "version").include(STATS_FIELDS);
+
+        return Optional.ofNullable(mongoTemplate.findOne(taskQuery, Task.class))
+                .orElseThrow(() -> new EntityNotFoundException("task with id '%s' is not found".formatted(taskId)));
+    }
+
+    private VersionConflictException versionConflict(String taskId, long expectedVersion) {
+        return new VersionConflictException("task with id '%s' was changed by another request, version %d is outdated"
+                .formatted(taskId, expectedVersion));
+    }
+
+    /**
+     * tasks written before versions were introduced have no version field and are treated as version 0
+     */
+    private List<Long> versionValues(long expectedVersion) {
+        return expectedVersion == 0 ? Arrays.asList(0L, null) : List.of(expectedVersion);
+    }
+
+    private Map<String, Task> findMoveParticipants(String taskId, TaskMoveRequest taskMoveRequest) {
+        List<String> taskIds = Stream.of(taskId, taskMoveRequest.getBeforeTaskId(), taskMoveRequest.getAfterTaskId())
+                .filter(Objects::nonNull)
+                .toList();
+        Query participantsQuery = Query.query(Criteria.where("id").in(taskIds));
+        participantsQuery.fields().include("columnId", "projectId", "position");
+
+        return mongoTemplate.find(participantsQuery, Task.class)
+                .stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+    }
+
+    /**
+     * neighbour has to be in target column, that also proves target column exists and belongs to project of task
+     */
+    private Task getNeighbour(Map<String, Task> tasksById, String neighbourId, Task movedTask, String targetColumnId) {
+        if (neighbourId == null) {
+            return null;
+        }
+
+        Task neighbour = tasksById.get(neighbourId);
+        if (neighbour == null || neighbourId.equals(movedTask.getId()) || !targetColumnId.equals(neighbour.getColumnId()) ||
+                !movedTask.getProjectId().equals(neighbour.getProjectId())) {
+            throw new BadRequestException("task with id '%s' is not in column '%s'".formatted(neighbourId, targetColumnId));
+        }
+
+        return neighbour;
+    }
+
+    private void checkTargetColumn(String targetColumnId, String projectId) {
+        Column targetColumn = getColumnByTaskId(targetColumnId);
+
+        if (!projectId.equals(targetColumn.getProjectId())) {
+            throw new BadRequestException("column with id '%s' belongs to another project".formatted(targetColumnId));
+        }
     }
 
     private Column getColumnByTaskId(String columnId) {
@@ -90,12 +323,12 @@ public class TaskService {
 
     private boolean checkSecurityLevelAccess(SecurityLevel taskSecurityLevel, String createdById, String userId, String assigneeId) {
         return (taskSecurityLevel == SecurityLevel.PRIVATE && createdById.equals(userId)) ||
-                (taskSecurityLevel == SecurityLevel.PROTECTED && (createdById.equals(userId) || assigneeId.equals(userId))) ||
+                (taskSecurityLevel == SecurityLevel.PROTECTED && (createdById.equals(userId) || userId.equals(assigneeId))) ||
                 (taskSecurityLevel == SecurityLevel.PUBLIC);
     }
 
-    private String getUserIdByTokenUsingFeign(String authorizationHeader) {
-        return userFeign.getUserIdByToken(jwtUtils.getTokenFromAuthorizationHeader(authorizationHeader));
+    private String getUserId(String authorizationHeader) {
+        return userIdResolver.resolveUserId(authorizationHeader);
     }
 
     private Task getTaskById(String taskId) {
@@ -104,23 +337,14 @@ public class TaskService {
     }
 
     private void checkAccessToProject(String projectId, String userId) {
-        ProjectAccessDto projectAccess;
-        try {
-            projectAccess = projectFeign.getProjectAccessFeign(projectId, userId);
-        } catch (FeignException exception) {
-            throw new ForbiddenException(exception.getMessage());
-        }
-
-        if (projectAccess != null) {
-            if (!projectAccess.getOwnerId().equals(userId) && !projectAccess.getMemberIds().contains(userId)) {
-                throw new ForbiddenException("You don't have access to this project");
-            }
-        }
+        projectAccessService.checkAccessToProject(projectId, userId);
     }
 
     private Task createTaskByTaskRequest(TaskRequest taskRequest, String userId) {
-        Task mappedTask = modelMapper.map(taskRequest, Task.class);
+        Task mappedTask = taskMapper.toTask(taskRequest);
         mappedTask.setCreatedById(userId);
+        mappedTask.setPosition(rankKeyService.rankForIndex("tasks", Criteria.where("columnId").is(taskRequest.getColumnId()),
+                null, taskRequest.getPosition()));
 
         log.info("{}", mappedTask);
         return mappedTask;
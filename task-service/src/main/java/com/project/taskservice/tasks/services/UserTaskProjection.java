@@ -0,0 +1,178 @@
+package com.project.taskservice.tasks.services;
+
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.UserTask;
+import com.project.taskservice.utils.PositionsReassignedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * keeps "my tasks" read model in line with tasks. Every place that creates task, changes its creator, assignee or
+ * sorted fields refreshes entries of changed tasks right after the write, the same way it bumps version of the
+ * board. Refresh is best effort: the task is already written, so failure is only logged and stale entries are fixed
+ * by the next refresh of the task or by rebuild. Whole read model can be rebuilt from tasks by single server side
+ * aggregation
+ */
+@Component
+@Slf4j
+public class UserTaskProjection {
+
+    private static final String TASKS_COLLECTION = "tasks";
+    private static final String USER_TASKS_COLLECTION = "user_tasks";
+    private static final String[] ENTRY_FIELDS = {"status", "priority", "position", "assigneeId", "tags", "dueDate",
+            "createdAt"};
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskExecutor taskExecutor;
+    private final boolean rebuildOnStartup;
+
+    public UserTaskProjection(MongoTemplate mongoTemplate, TaskExecutor taskExecutor,
+                              @Value("${user-tasks.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.taskExecutor = taskExecutor;
+        this.rebuildOnStartup = rebuildOnStartup;
+    }
+
+    /**
+     * backfills read model of instances that run for the first time with already existing tasks
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+
+        taskExecutor.execute(() -> {
+            try {
+                if (mongoTemplate.estimatedCount(USER_TASKS_COLLECTION) == 0 && mongoTemplate.estimatedCount(TASKS_COLLECTION) > 0) {
+                    rebuild();
+                }
+            } catch (RuntimeException exception) {
+                log.error("unable to backfill '{}'", USER_TASKS_COLLECTION, exception);
+            }
+        });
+    }
+
+    /**
+     * used for rewriting entries of tasks after they were created, changed or deleted. Entries of users that are no
+     * longer creator or assignee of task and entries of missing tasks are removed
+     *
+     * @param taskIds represents changed tasks
+     */
+    public void refresh(Collection<String> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+
+        try {
+            write(findTasks(new Query(Criteria.where("id").in(taskIds))), taskIds);
+        } catch (RuntimeException exception) {
+            log.warn("entries of tasks {} in '{}' weren't refreshed", taskIds, USER_TASKS_COLLECTION, exception);
+        }
+    }
+
+    @EventListener
+    public void onPositionsReassigned(PositionsReassignedEvent event) {
+        if (!TASKS_COLLECTION.equals(event.collection())) {
+            return;
+        }
+
+        try {
+            List<Task> tasks = findTasks(new Query(event.siblings()));
+            write(tasks, tasks.stream().map(Task::getId).toList());
+        } catch (RuntimeException exception) {
+            log.warn("entries of reassigned tasks in '{}' weren't refreshed", USER_TASKS_COLLECTION, exception);
+        }
+    }
+
+    /**
+     * used for building read model from scratch. Entries are computed and written by the server, collection is
+     * replaced at once when aggregation finishes, so readers never see half built read model. Changes of tasks made
+     * while it runs may be lost and are picked up by their next refresh
+     *
+     * @return number of entries in rebuilt read model
+     */
+    public long rebuild() {
+        List<Document> pipeline = List.of(
+                new Document("$project", entryFields(new Document("users",
+                        new Document("$setUnion", List.of(List.of("$createdById"), List.of("$assigneeId")))))),
+                new Document("$unwind", "$users"),
+                new Document("$match", new Document("users", new Document("$type", "string"))),
+                new Document("$project", entryFields(new Document("_id",
+                        new Document("$concat", List.of("$users", ":", new Document("$toString", "$_id"))))
+                        .append("userId", "$users")
+                        .append("taskId", new Document("$toString", "$_id")))),
+                new Document("$out", USER_TASKS_COLLECTION));
+
+        mongoTemplate.getCollection(TASKS_COLLECTION)
+                .aggregate(pipeline)
+                .allowDiskUse(true)
+                .toCollection();
+
+        long entries = mongoTemplate.estimatedCount(USER_TASKS_COLLECTION);
+        log.info("'{}' was rebuilt with {} entries", USER_TASKS_COLLECTION, entries);
+        return entries;
+    }
+
+    private List<Task> findTasks(Query tasksQuery) {
+        tasksQuery.fields().include(ENTRY_FIELDS).include("createdById");
+
+        return mongoTemplate.find(tasksQuery, Task.class);
+    }
+
+    private void write(List<Task> tasks, Collection<String> refreshedTaskIds) {
+        List<UserTask> entries = tasks.stream()
+                .flatMap(this::toEntries)
+                .toList();
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, UserTask.class);
+        entries.forEach(entry -> bulkOperations.replaceOne(new Query(Criteria.where("id").is(entry.getId())), entry,
+                FindAndReplaceOptions.options().upsert()));
+        bulkOperations.remove(new Query(Criteria.where("taskId").in(refreshedTaskIds)
+                .and("id").nin(entries.stream().map(UserTask::getId).toList())));
+
+        bulkOperations.execute();
+    }
+
+    private Stream<UserTask> toEntries(Task task) {
+        return Stream.of(task.getCreatedById(), task.getAssigneeId())
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(userId -> UserTask.builder()
+                        .id(UserTask.entryId(userId, task.getId()))
+                        .userId(userId)
+                        .taskId(task.getId())
+                        .status(task.getStatus())
+                        .priority(task.getPriority())
+                        .position(task.getPosition())
+                        .assigneeId(task.getAssigneeId())
+                        .tags(task.getTags())
+                        .dueDate(task.getDueDate())
+                        .createdAt(task.getCreatedAt())
+                        .build());
+    }
+
+    private static Document entryFields(Document projection) {
+        for (String field : ENTRY_FIELDS) {
+            projection.append(field, 1);
+        }
+
+        return projection;
+    }
+
+}
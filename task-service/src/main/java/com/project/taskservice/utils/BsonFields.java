@@ -0,0 +1,158 @@
+package com.project.taskservice.utils;
+
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.types.ObjectId;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * reads and writes field values the same way MappingMongoConverter does it for our documents: ObjectId is read as
+ * hex string, date as LocalDateTime of system zone and enum by its name. Used by codecs that decode aggregation
+ * results straight into response types
+ */
+public final class BsonFields {
+
+    private BsonFields() {
+    }
+
+    public static String readString(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case STRING -> reader.readString();
+            case OBJECT_ID -> reader.readObjectId().toHexString();
+            case INT32 -> String.valueOf(reader.readInt32());
+            case INT64 -> String.valueOf(reader.readInt64());
+            case DOUBLE -> String.valueOf(reader.readDouble());
+            case NULL -> {
+                reader.readNull();
+                yield null;
+            }
+            default -> {
+                reader.skipValue();
+                yield null;
+            }
+        };
+    }
+
+    /**
+     * @return read number or null when value is missing or is not a number
+     */
+    public static Integer readInteger(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT32 -> reader.readInt32();
+            case INT64 -> (int) reader.readInt64();
+            case DOUBLE -> (int) reader.readDouble();
+            default -> {
+                reader.skipValue();
+                yield null;
+            }
+        };
+    }
+
+    /**
+     * @return read number or null when value is missing or is not a number
+     */
+    public static Long readLong(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT32 -> (long) reader.readInt32();
+            case INT64 -> reader.readInt64();
+            case DOUBLE -> (long) reader.readDouble();
+            default -> {
+                reader.skipValue();
+                yield null;
+            }
+        };
+    }
+
+    public static LocalDateTime readDateTime(BsonReader reader) {
+        if (reader.getCurrentBsonType() != BsonType.DATE_TIME) {
+            reader.skipValue();
+            return null;
+        }
+
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(reader.readDateTime()), ZoneId.systemDefault());
+    }
+
+    public static <E extends Enum<E>> E readEnum(BsonReader reader, Class<E> enumType) {
+        String name = readString(reader);
+
+        return name == null ? null : Enum.valueOf(enumType, name);
+    }
+
+    public static <C extends Collection<String>> C readStrings(BsonReader reader, Supplier<C> collectionFactory) {
+        if (reader.getCurrentBsonType() != BsonType.ARRAY) {
+            reader.skipValue();
+            return null;
+        }
+
+        C values = collectionFactory.get();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            values.add(readString(reader));
+        }
+        reader.readEndArray();
+
+        return values;
+    }
+
+    /**
+     * id that is valid ObjectId is stored as ObjectId, like MappingMongoConverter does it for String ids
+     */
+    public static void writeId(BsonWriter writer, String id) {
+        if (id == null) {
+            return;
+        }
+
+        if (ObjectId.isValid(id)) {
+            writer.writeObjectId("_id", new ObjectId(id));
+        } else {
+            writer.writeString("_id", id);
+        }
+    }
+
+    public static void writeString(BsonWriter writer, String name, String value) {
+        if (value != null) {
+            writer.writeString(name, value);
+        }
+    }
+
+    public static void writeLong(BsonWriter writer, String name, Long value) {
+        if (value != null) {
+            writer.writeInt64(name, value);
+        }
+    }
+
+    public static void writeDateTime(BsonWriter writer, String name, LocalDateTime value) {
+        if (value != null) {
+            writer.writeDateTime(name, value.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+    }
+
+    public static void writeEnum(BsonWriter writer, String name, Enum<?> value) {
+        if (value != null) {
+            writer.writeString(name, value.name());
+        }
+    }
+
+    public static void writeStrings(BsonWriter writer, String name, Collection<String> values) {
+        if (values == null) {
+            return;
+        }
+
+        writer.writeStartArray(name);
+        values.forEach(value -> {
+            if (value == null) {
+                writer.writeNull();
+            } else {
+                writer.writeString(value);
+            }
+        });
+        writer.writeEndArray();
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.project.taskservice.utils;
+
+import lombok.Getter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Collection;
+
+/**
+ * field-level update of one document used by {@link MongoBulkWriter} or of all documents matching criteria. Only
+ * fields passed to update methods are sent, the rest of document is left as is
+ */
+@Getter
+public class FieldUpdate {
+
+    private final Criteria criteria;
+    private final Update update = new Update();
+
+    private FieldUpdate(Criteria criteria) {
+        this.criteria = criteria;
+    }
+
+    /**
+     * @param id represents id of document to update
+     * @return update of document with given id
+     */
+    public static FieldUpdate byId(String id) {
+        return new FieldUpdate(Criteria.where("id").is(id));
+    }
+
+    /**
+     * @param criteria represents documents to update
+     * @return update of every document matching criteria
+     */
+    public static FieldUpdate matching(Criteria criteria) {
+        return new FieldUpdate(criteria);
+    }
+
+    /**
+     * used for applying update only when document still has expected value, e.g. the one it was read with
+     *
+     * @param field         represents field to check
+     * @param expectedValue represents value field should have
+     * @return this update
+     */
+    public FieldUpdate where(String field, Object expectedValue) {
+        criteria.and(field).is(expectedValue);
+        return this;
+    }
+
+    public FieldUpdate set(String field, Object value) {
+        update.set(field, value);
+        return this;
+    }
+
+    public FieldUpdate inc(String field, Number value) {
+        update.inc(field, value);
+        return this;
+    }
+
+    public FieldUpdate addToSet(String field, Collection<?> values) {
+        update.addToSet(field).each(values.toArray());
+        return this;
+    }
+
+    public FieldUpdate pullAll(String field, Collection<?> values) {
+        update.pullAll(field, values.toArray());
+        return this;
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.project.taskservice.utils;
+
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.mongodb.client.gridfs.model.GridFSFile;
+import org.springframework.core.io.AbstractResource;
+
+import java.io.InputStream;
+
+/**
+ * file stored in GridFS as resource that can be read many times. Every {@link #getInputStream()} opens new download
+ * stream that loads one chunk at a time and skips to requested offset without reading chunks before it, so byte
+ * ranges of large files are served without loading them into memory
+ */
+public class GridFsFileResource extends AbstractResource {
+
+    private final GridFSBucket gridFSBucket;
+    private final GridFSFile file;
+
+    public GridFsFileResource(GridFSBucket gridFSBucket, GridFSFile file) {
+        this.gridFSBucket = gridFSBucket;
+        this.file = file;
+    }
+
+    @Override
+    public InputStream getInputStream() {
+        return gridFSBucket.openDownloadStream(file.getId());
+    }
+
+    @Override
+    public long contentLength() {
+        return file.getLength();
+    }
+
+    @Override
+    public long lastModified() {
+        return file.getUploadDate().getTime();
+    }
+
+    @Override
+    public String getFilename() {
+        return file.getFilename();
+    }
+
+    @Override
+    public String getDescription() {
+        return "GridFS file [%s]".formatted(file.getObjectId().toHexString());
+    }
+
+    public GridFSFile getGridFsFile() {
+        return file;
+    }
+
+}
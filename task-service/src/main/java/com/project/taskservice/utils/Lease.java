@@ -0,0 +1,30 @@
+package com.project.taskservice.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * lease of shared resource, e.g. siblings whose rank keys are reassigned or bucket of due reminders. Lease left by crashed instance can be
+ * taken over once it expires and is removed by TTL index soon after
+ */
+@Document(collection = "leases")
+@AllArgsConstructor
+@NoArgsConstructor
+@Data
+@Builder
+public class Lease {
+
+    private String id;
+
+    private String owner;
+
+    @Indexed(name = "expires_at_ttl", expireAfter = "0s")
+    private LocalDateTime expiresAt;
+
+}
@@ -0,0 +1,76 @@
+package com.project.taskservice.utils;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * grants leases stored in Mongo, so only one instance works on a leased resource at a time. Lease is taken by single
+ * conditional upsert that matches only expired lease, so when lease is held by another owner the upsert fails on
+ * unique _id. Every instance is a separate owner and every caller decides how long its leases last
+ */
+@Service
+public class LeaseService {
+
+    private final MongoTemplate mongoTemplate;
+    private final String owner = UUID.randomUUID().toString();
+
+    public LeaseService(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    /**
+     * used for taking lease that is free or expired
+     *
+     * @param leaseId       represents leased resource
+     * @param leaseDuration represents time after which lease of crashed owner can be taken over
+     * @return true if this instance holds the lease now
+     */
+    public boolean tryAcquire(String leaseId, Duration leaseDuration) {
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            mongoTemplate.upsert(Query.query(Criteria.where("id").is(leaseId).and("expiresAt").lt(now)),
+                    new Update().set("owner", owner).set("expiresAt", now.plus(leaseDuration)), Lease.class);
+            return true;
+        } catch (DuplicateKeyException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * used for checking whether anyone, this instance included, holds the lease at the moment
+     *
+     * @param leaseId represents leased resource
+     * @return true if lease is held and not expired
+     */
+    public boolean isHeld(String leaseId) {
+        return mongoTemplate.exists(Query.query(Criteria.where("id").is(leaseId).and("expiresAt").gt(LocalDateTime.now())),
+                Lease.class);
+    }
+
+    /**
+     * used for prolonging held lease while work on leased resource goes on
+     *
+     * @param leaseId       represents leased resource
+     * @param leaseDuration represents time from now after which lease can be taken over
+     * @return false if lease expired and was taken by another owner
+     */
+    public boolean renew(String leaseId, Duration leaseDuration) {
+        return mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(leaseId).and("owner").is(owner)),
+                new Update().set("expiresAt", LocalDateTime.now().plus(leaseDuration)), Lease.class)
+                .getMatchedCount() > 0;
+    }
+
+    public void release(String leaseId) {
+        mongoTemplate.remove(Query.query(Criteria.where("id").is(leaseId).and("owner").is(owner)), Lease.class);
+    }
+
+}
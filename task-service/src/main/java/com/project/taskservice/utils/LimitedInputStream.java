@@ -0,0 +1,73 @@
+package com.project.taskservice.utils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * counts bytes read from wrapped stream and fails with {@link IOException} as soon as more than allowed number of
+ * bytes is read, so size of streamed upload is checked without knowing its length in advance. Failure is signalled by
+ * IOException, because that's what writers of streams like GridFS upload clean up after
+ */
+public class LimitedInputStream extends FilterInputStream {
+
+    private final long maxBytes;
+    private long readBytes;
+    private boolean limitExceeded;
+
+    public LimitedInputStream(InputStream inputStream, long maxBytes) {
+        super(inputStream);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int value = super.read();
+        if (value != -1) {
+            count(1);
+        }
+
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = super.read(buffer, offset, length);
+        if (read > 0) {
+            count(read);
+        }
+
+        return read;
+    }
+
+    @Override
+    public long skip(long bytes) throws IOException {
+        long skipped = super.skip(bytes);
+        count(skipped);
+
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    public long getReadBytes() {
+        return readBytes;
+    }
+
+    public boolean isLimitExceeded() {
+        return limitExceeded;
+    }
+
+    private void count(long bytes) throws IOException {
+        readBytes += bytes;
+
+        if (readBytes > maxBytes) {
+            limitExceeded = true;
+            throw new IOException("stream is longer than %d bytes".formatted(maxBytes));
+        }
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.project.taskservice.utils;
+
+import org.springframework.data.mongodb.core.query.Criteria;
+
+/**
+ * published after rank keys of siblings were reassigned at once, e.g. by rebalancing or migration, so copies of
+ * positions kept elsewhere can be refreshed
+ *
+ * @param collection represents collection of ordered documents
+ * @param siblings   represents criteria selecting documents that got new keys
+ */
+public record PositionsReassignedEvent(String collection, Criteria siblings) {
+}
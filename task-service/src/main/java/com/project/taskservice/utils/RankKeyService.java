@@ -0,0 +1,390 @@
+package com.project.taskservice.utils;
+
+import com.project.taskservice.config.PositionMigration;
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.exceptions.ConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * assigns rank keys to ordered documents (columns of project, tasks of column). Placing document reads keys of at
+ * most two neighbours and writes only the placed document. When keys of siblings become too long, they are
+ * reassigned in background under a lease of the siblings, so requests never wait for it. Placements are refused
+ * while the lease is held, so every key written during reassignment was computed against old keys and can be put
+ * back in its place afterwards
+ */
+@Component
+@Slf4j
+public class RankKeyService {
+
+    public static final String POSITION_FIELD = "position";
+
+    private static final Comparator<Sibling> SIBLING_ORDER = Comparator
+            .comparing(Sibling::orderKey, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(sibling -> sibling.id().toString());
+
+    private final MongoTemplate mongoTemplate;
+    private final TaskExecutor taskExecutor;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final LeaseService leaseService;
+    private final PositionMigration positionMigration;
+    private final int rebalanceLength;
+    private final Duration rebalanceLeaseDuration;
+    private final Duration rebalanceSettlePeriod;
+    private final Set<String> rebalancesInProgress = ConcurrentHashMap.newKeySet();
+
+    public RankKeyService(MongoTemplate mongoTemplate, TaskExecutor taskExecutor,
+                          ApplicationEventPublisher applicationEventPublisher, LeaseService leaseService,
+                          PositionMigration positionMigration,
+                          @Value("${rank-keys.rebalance-length:10}") int rebalanceLength,
+                          @Value("${rank-keys.rebalance-lease-duration:1m}") Duration rebalanceLeaseDuration,
+                          @Value("${rank-keys.rebalance-settle-period:2s}") Duration rebalanceSettlePeriod) {
+        this.mongoTemplate = mongoTemplate;
+        this.taskExecutor = taskExecutor;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.leaseService = leaseService;
+        this.positionMigration = positionMigration;
+        this.rebalanceLength = rebalanceLength;
+        this.rebalanceLeaseDuration = rebalanceLeaseDuration;
+        this.rebalanceSettlePeriod = rebalanceSettlePeriod;
+    }
+
+    /**
+     * used for placing document at index among its siblings
+     *
+     * @param collection represents collection of ordered documents
+     * @param siblings   represents criteria selecting documents ordered together with placed one
+     * @param placedId   represents id of moved document so it is not counted as its own neighbour, null for new ones
+     * @param index      represents zero-based index of document among siblings, null to place it last
+     * @return rank key for the document
+     */
+    public String rankForIndex(String collection, Criteria siblings, String placedId, Integer index) {
+        if (index != null && index < 0) {
+            throw new BadRequestException("position should not be negative");
+        }
+
+        try {
+            return findRankForIndex(collection, siblings, placedId, index);
+        } catch (RankKeysReassignedException exception) {
+            return findRankForIndex(collection, siblings, placedId, index);
+        }
+    }
+
+    private String findRankForIndex(String collection, Criteria siblings, String placedId, Integer index) {
+        Criteria notPlaced = placedId == null ? null : Criteria.where("id").ne(placedId);
+
+        if (index != null && index > 0) {
+            List<String> neighbourKeys = findPositions(collection, siblings, notPlaced, Sort.Direction.ASC, index - 1, 2);
+            if (!neighbourKeys.isEmpty()) {
+                return rankBetween(collection, siblings, neighbourKeys.get(0),
+                        neighbourKeys.size() > 1 ? neighbourKeys.get(1) : null);
+            }
+        }
+
+        if (index != null && index == 0) {
+            List<String> firstKey = findPositions(collection, siblings, notPlaced, Sort.Direction.ASC, 0, 1);
+            return rankBetween(collection, siblings, null, firstKey.isEmpty() ? null : firstKey.get(0));
+        }
+
+        List<String> lastKey = findPositions(collection, siblings, notPlaced, Sort.Direction.DESC, 0, 1);
+        return rankBetween(collection, siblings, lastKey.isEmpty() ? null : lastKey.get(0), null);
+    }
+
+    /**
+     * used for appending many documents after the last sibling keeping their order
+     *
+     * @param collection represents collection of ordered documents
+     * @param siblings   represents criteria selecting documents ordered together with appended ones
+     * @param count      represents number of appended documents
+     * @return ascending rank keys for the documents
+     */
+    public List<String> ranksForLast(String collection, Criteria siblings, int count) {
+        List<String> lastKey = findPositions(collection, siblings, null, Sort.Direction.DESC, 0, 1);
+        List<String> rankKeys;
+        try {
+            rankKeys = RankKeys.between(lastKey.isEmpty() ? null : lastKey.get(0), null, count);
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException(exception.getMessage());
+        }
+
+        checkNotRebalancing(collection, siblings);
+        rankKeys.stream()
+                .max(Comparator.comparingInt(String::length))
+                .ifPresent(longestKey -> rebalanceIfNeeded(collection, siblings, longestKey));
+        return rankKeys;
+    }
+
+    /**
+     * used for placing document between two known neighbours
+     *
+     * @param collection represents collection of ordered documents
+     * @param siblings   represents criteria selecting documents ordered together with placed one
+     * @param before     represents key of previous neighbour, null when document becomes the first one
+     * @param after      represents key of next neighbour, null when document becomes the last one
+     * @return rank key for the document
+     * @throws RankKeysReassignedException if neighbours share one key, e.g. after concurrent appends, or still have
+     *                                      integer positions. Neighbours get new keys first, so caller can read them
+     *                                      again and retry
+     */
+    public String rankBetween(String collection, Criteria siblings, String before, String after) {
+        if ((isIntegerPosition(before) || isIntegerPosition(after))
+                && positionMigration.migrateGroupIfNeeded(collection, siblings)) {
+            throw new RankKeysReassignedException("neighbours had integer positions, positions were migrated");
+        }
+
+        if (before != null && before.equals(after)) {
+            untie(collection, siblings, before);
+            throw new RankKeysReassignedException("neighbours had the same position, their positions were reassigned");
+        }
+
+        String rankKey;
+        try {
+            rankKey = RankKeys.between(before, after);
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException(exception.getMessage());
+        }
+
+        checkNotRebalancing(collection, siblings);
+        rebalanceIfNeeded(collection, siblings, rankKey);
+        return rankKey;
+    }
+
+    /**
+     * siblings sharing one key get keys between the closest different keys around it, in the order they are read
+     * in. Keys are written only to siblings that still have the shared key, other siblings are not touched, so the
+     * request doesn't wait for rebalancing of all of them
+     */
+    private void untie(String collection, Criteria siblings, String tiedKey) {
+        List<String> previousKey = findPositions(collection, siblings, Criteria.where(POSITION_FIELD).lt(tiedKey),
+                Sort.Direction.DESC, 0, 1);
+        List<String> nextKey = findPositions(collection, siblings, Criteria.where(POSITION_FIELD).gt(tiedKey),
+                Sort.Direction.ASC, 0, 1);
+        Criteria tiedSiblings = new Criteria().andOperator(siblings, Criteria.where(POSITION_FIELD).is(tiedKey));
+        List<Sibling> orderedSiblings = findSiblings(collection, tiedSiblings);
+
+        List<String> rankKeys;
+        try {
+            rankKeys = RankKeys.between(previousKey.isEmpty() ? null : previousKey.get(0),
+                    nextKey.isEmpty() ? null : nextKey.get(0), orderedSiblings.size());
+        } catch (IllegalArgumentException exception) {
+            throw new BadRequestException(exception.getMessage());
+        }
+
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        for (int index = 0; index < orderedSiblings.size(); index++) {
+            bulkOperations.updateOne(new Query(Criteria.where("_id").is(orderedSiblings.get(index).id())
+                            .and(POSITION_FIELD).is(tiedKey)),
+                    new Update().set(POSITION_FIELD, rankKeys.get(index)));
+        }
+        if (!orderedSiblings.isEmpty()) {
+            bulkOperations.execute();
+            applicationEventPublisher.publishEvent(new PositionsReassignedEvent(collection, tiedSiblings));
+        }
+
+        rankKeys.stream()
+                .max(Comparator.comparingInt(String::length))
+                .ifPresent(longestKey -> rebalanceIfNeeded(collection, siblings, longestKey));
+    }
+
+    /**
+     * used for reassigning short evenly spaced keys to siblings keeping their order. Keys are written only to
+     * siblings that still have the key they were read with. Document placed by request that read its neighbours just
+     * before the lease was taken is written with key computed against old keys, so after a short settle period such
+     * documents are found and put between the siblings they were placed between
+     *
+     * @param collection represents collection of ordered documents
+     * @param siblings   represents criteria selecting documents ordered together
+     */
+    public void rebalance(String collection, Criteria siblings) {
+        String leaseId = getRebalanceKey(collection, siblings);
+        if (!leaseService.tryAcquire(leaseId, rebalanceLeaseDuration)) {
+            log.info("rank keys of '{}' are already rebalanced by another instance", collection);
+            return;
+        }
+
+        try {
+            List<Sibling> orderedSiblings = findSiblings(collection, siblings);
+            if (orderedSiblings.isEmpty()) {
+                return;
+            }
+
+            Map<Object, String> assignedKeys = new HashMap<>();
+            int modifiedCount = writeKeys(collection, orderedSiblings, assignedKeys);
+            settle();
+            modifiedCount += replaceStrays(collection, siblings, orderedSiblings, assignedKeys);
+
+            applicationEventPublisher.publishEvent(new PositionsReassignedEvent(collection, siblings));
+            log.info("rebalanced {} of {} rank keys in '{}'", modifiedCount, orderedSiblings.size(), collection);
+        } finally {
+            leaseService.release(leaseId);
+        }
+    }
+
+    /**
+     * siblings whose key is not the one assigned to them were placed with key computed against old keys, so their
+     * place is found by comparing their key with old keys of the others
+     */
+    private int replaceStrays(String collection, Criteria siblings, List<Sibling> orderedSiblings,
+                              Map<Object, String> assignedKeys) {
+        Map<Object, Sibling> currentSiblings = new HashMap<>();
+        findSiblings(collection, siblings).forEach(sibling -> currentSiblings.put(sibling.id(), sibling));
+
+        List<Sibling> strays = currentSiblings.values()
+                .stream()
+                .filter(sibling -> !Objects.equals(sibling.position(), assignedKeys.get(sibling.id())))
+                .toList();
+        if (strays.isEmpty()) {
+            return 0;
+        }
+
+        log.warn("{} siblings in '{}' were placed while rank keys were rebalanced", strays.size(), collection);
+        Set<Object> strayIds = strays.stream().map(Sibling::id).collect(Collectors.toSet());
+        Stream<Sibling> placedSiblings = orderedSiblings.stream()
+                .filter(sibling -> currentSiblings.containsKey(sibling.id()) && !strayIds.contains(sibling.id()))
+                .map(sibling -> new Sibling(sibling.id(), assignedKeys.get(sibling.id()), sibling.orderKey()));
+
+        return writeKeys(collection, Stream.concat(placedSiblings, strays.stream())
+                .sorted(SIBLING_ORDER)
+                .toList(), new HashMap<>());
+    }
+
+    private int writeKeys(String collection, List<Sibling> orderedSiblings, Map<Object, String> assignedKeys) {
+        List<String> rankKeys = RankKeys.evenlySpaced(orderedSiblings.size());
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collection);
+        int updates = 0;
+
+        for (int index = 0; index < orderedSiblings.size(); index++) {
+            Sibling sibling = orderedSiblings.get(index);
+            assignedKeys.put(sibling.id(), rankKeys.get(index));
+            if (!rankKeys.get(index).equals(sibling.position())) {
+                bulkOperations.updateOne(new Query(Criteria.where("_id").is(sibling.id())
+                                .and(POSITION_FIELD).is(sibling.position())),
+                        new Update().set(POSITION_FIELD, rankKeys.get(index)));
+                updates++;
+            }
+        }
+
+        return updates == 0 ? 0 : bulkOperations.execute().getModifiedCount();
+    }
+
+    private List<Sibling> findSiblings(String collection, Criteria siblings) {
+        Query siblingsQuery = new Query(siblings).with(Sort.by(Sort.Direction.ASC, POSITION_FIELD, "id"));
+        siblingsQuery.fields().include(POSITION_FIELD);
+
+        return mongoTemplate.find(siblingsQuery, Document.class, collection)
+                .stream()
+                .map(document -> {
+                    String position = document.get(POSITION_FIELD) == null ? null : document.get(POSITION_FIELD).toString();
+                    return new Sibling(document.get("_id"), position, position);
+                })
+                .toList();
+    }
+
+    private void settle() {
+        try {
+            Thread.sleep(rebalanceSettlePeriod.toMillis());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * key computed before the lease was taken is fine, it is put back in place when rebalancing settles. Key computed
+     * while siblings are rebalanced may mix old and new keys, that's why request is refused
+     */
+    private void checkNotRebalancing(String collection, Criteria siblings) {
+        if (leaseService.isHeld(getRebalanceKey(collection, siblings))) {
+            throw new ConflictException("positions of siblings are being rebalanced, try again");
+        }
+    }
+
+    private String getRebalanceKey(String collection, Criteria siblings) {
+        return "rank-keys:" + collection + siblings.getCriteriaObject().toJson();
+    }
+
+    /**
+     * integer positions left by old instances can't be compared with rank keys, so group that still has them is
+     * migrated and read once again
+     */
+    private List<String> findPositions(String collection, Criteria siblings, Criteria filter, Sort.Direction direction,
+                                       int skip, int limit) {
+        List<Object> positions = readPositions(collection, siblings, filter, direction, skip, limit);
+        if (positions.stream().anyMatch(Number.class::isInstance)
+                && positionMigration.migrateGroupIfNeeded(collection, siblings)) {
+            positions = readPositions(collection, siblings, filter, direction, skip, limit);
+        }
+
+        return positions.stream()
+                .map(position -> position == null ? null : position.toString())
+                .toList();
+    }
+
+    private List<Object> readPositions(String collection, Criteria siblings, Criteria filter, Sort.Direction direction,
+                                       int skip, int limit) {
+        Query query = new Query(filter == null ? siblings : new Criteria().andOperator(siblings, filter))
+                .with(Sort.by(direction, POSITION_FIELD, "id"))
+                .skip(skip)
+                .limit(limit);
+        query.fields().include(POSITION_FIELD).exclude("_id");
+
+        return mongoTemplate.find(query, Document.class, collection)
+                .stream()
+                .map(document -> document.get(POSITION_FIELD))
+                .toList();
+    }
+
+    /**
+     * entities map integer position to its decimal string, which could also be a rank key, so such key is only a
+     * hint that group has to be checked
+     */
+    private boolean isIntegerPosition(String position) {
+        return position != null && !position.isEmpty() && position.chars().allMatch(Character::isDigit);
+    }
+
+    private void rebalanceIfNeeded(String collection, Criteria siblings, String rankKey) {
+        if (rankKey.length() <= rebalanceLength) {
+            return;
+        }
+
+        String rebalanceKey = getRebalanceKey(collection, siblings);
+        if (rebalancesInProgress.add(rebalanceKey)) {
+            taskExecutor.execute(() -> {
+                try {
+                    rebalance(collection, siblings);
+                } catch (RuntimeException exception) {
+                    log.error("unable to rebalance rank keys of '{}'", collection, exception);
+                } finally {
+                    rebalancesInProgress.remove(rebalanceKey);
+                }
+            });
+        }
+    }
+
+    /**
+     * @param orderKey represents key sibling is ordered by: key it had before rebalancing or key it was placed with
+     */
+    private record Sibling(Object id, String position, String orderKey) {
+    }
+
+}
@@ -0,0 +1,150 @@
+package com.project.taskservice.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * lexicographic fractional rank keys. Keys are strings of base62 digits ordered the same way as mongo compares
+ * strings, and there is always a key between any two different keys, so document can be placed between its new
+ * neighbours without renumbering them. Keys never end with the lowest digit, otherwise nothing would fit before them
+ */
+public final class RankKeys {
+
+    private static final String DIGITS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+    private static final char ZERO = DIGITS.charAt(0);
+
+    private RankKeys() {
+    }
+
+    /**
+     * used for placing document between two neighbours
+     *
+     * @param before represents key of previous neighbour, null when document becomes the first one
+     * @param after  represents key of next neighbour, null when document becomes the last one
+     * @return key that is greater than {@code before} and less than {@code after}
+     */
+    public static String between(String before, String after) {
+        String lower = before == null ? "" : before;
+
+        validate(lower);
+        if (after != null) {
+            validate(after);
+            if (lower.compareTo(after) >= 0) {
+                throw new IllegalArgumentException("rank key '%s' should be less than '%s'".formatted(lower, after));
+            }
+        }
+
+        return midpoint(lower, after);
+    }
+
+    /**
+     * used for placing many documents one after another between two neighbours. Range is bisected, so keys grow
+     * by logarithm of {@code count} instead of by {@code count}
+     *
+     * @param before represents key of previous neighbour, null when documents become the first ones
+     * @param after  represents key of next neighbour, null when documents become the last ones
+     * @param count  represents number of placed documents
+     * @return ascending keys that are greater than {@code before} and less than {@code after}
+     */
+    public static List<String> between(String before, String after, int count) {
+        List<String> keys = new ArrayList<>(count);
+        fillBetween(keys, before, after, count);
+
+        return keys;
+    }
+
+    /**
+     * used for assigning short keys to many documents at once, e.g. during migration or rebalancing
+     *
+     * @param count represents number of documents
+     * @return ascending keys spread evenly over the shortest key length that fits all of them
+     */
+    public static List<String> evenlySpaced(int count) {
+        int width = 1;
+        long space = BASE;
+        while (space <= count) {
+            width++;
+            space *= BASE;
+        }
+
+        List<String> keys = new ArrayList<>(count);
+        long step = space / (count + 1), remainder = space % (count + 1);
+        for (long index = 1; index <= count; index++) {
+            keys.add(encode(step * index + remainder * index / (count + 1), width));
+        }
+
+        return keys;
+    }
+
+    private static void fillBetween(List<String> keys, String before, String after, int count) {
+        if (count <= 0) {
+            return;
+        }
+
+        String middle = between(before, after);
+        int beforeCount = (count - 1) / 2;
+        fillBetween(keys, before, middle, beforeCount);
+        keys.add(middle);
+        fillBetween(keys, middle, after, count - 1 - beforeCount);
+    }
+
+    private static String midpoint(String lower, String upper) {
+        if (upper != null) {
+            int prefixLength = 0;
+            while (prefixLength < upper.length() && digitAt(lower, prefixLength) == upper.charAt(prefixLength)) {
+                prefixLength++;
+            }
+
+            if (prefixLength > 0) {
+                String lowerRest = prefixLength < lower.length() ? lower.substring(prefixLength) : "";
+                return upper.substring(0, prefixLength) + midpoint(lowerRest, upper.substring(prefixLength));
+            }
+        }
+
+        int lowerDigit = lower.isEmpty() ? 0 : DIGITS.indexOf(lower.charAt(0));
+        int upperDigit = upper == null ? BASE : DIGITS.indexOf(upper.charAt(0));
+
+        if (upperDigit - lowerDigit > 1) {
+            return String.valueOf(DIGITS.charAt((lowerDigit + upperDigit + 1) / 2));
+        }
+
+        if (upper != null && upper.length() > 1) {
+            return upper.substring(0, 1);
+        }
+
+        return DIGITS.charAt(lowerDigit) + midpoint(lower.length() > 1 ? lower.substring(1) : "", null);
+    }
+
+    private static char digitAt(String key, int index) {
+        return index < key.length() ? key.charAt(index) : ZERO;
+    }
+
+    private static String encode(long value, int width) {
+        char[] digits = new char[width];
+        for (int index = width - 1; index >= 0; index--) {
+            digits[index] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+
+        int length = width;
+        while (length > 1 && digits[length - 1] == ZERO) {
+            length--;
+        }
+
+        return new String(digits, 0, length);
+    }
+
+    private static void validate(String key) {
+        if (!key.isEmpty() && key.charAt(key.length() - 1) == ZERO) {
+            throw new IllegalArgumentException("rank key '%s' should not end with '%s'".formatted(key, ZERO));
+        }
+
+        for (int index = 0; index < key.length(); index++) {
+            if (DIGITS.indexOf(key.charAt(index)) < 0) {
+                throw new IllegalArgumentException("rank key '%s' contains invalid character".formatted(key));
+            }
+        }
+    }
+
+}
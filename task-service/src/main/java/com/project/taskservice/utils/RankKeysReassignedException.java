@@ -0,0 +1,16 @@
+package com.project.taskservice.utils;
+
+import com.project.taskservice.exceptions.ConflictException;
+
+/**
+ * thrown when keys of neighbours can't be used as they were read: neighbours share one rank key or still have
+ * integer positions written before rank keys. Neighbours get new keys before it is thrown, so placement succeeds
+ * once neighbours are read again
+ */
+public class RankKeysReassignedException extends ConflictException {
+
+    public RankKeysReassignedException(String message) {
+        super(message);
+    }
+
+}
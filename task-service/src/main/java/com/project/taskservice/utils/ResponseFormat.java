@@ -0,0 +1,63 @@
+package com.project.taskservice.utils;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * formats responses are encoded in, in the same order their converters are registered by
+ * {@link com.project.taskservice.config.BinaryFormatsConfig}. Etags of one resource have to differ between formats,
+ * otherwise conditional request made with one {@code Accept} is answered with 304 for body cached in another format
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ResponseFormat {
+
+    JSON(MediaType.APPLICATION_JSON, "json"),
+    CBOR(MediaType.APPLICATION_CBOR, "cbor"),
+    SMILE(new MediaType("application", "x-jackson-smile"), "smile");
+
+    private final MediaType mediaType;
+    private final String etagSuffix;
+
+    /**
+     * used for finding out format of response before the body is written, the same way message converters pick it:
+     * the most specific and preferred accepted type wins, json is used when nothing else matches
+     *
+     * @param acceptHeader represents {@code Accept} header of request, may be null
+     * @return format the response is going to be written in
+     */
+    public static ResponseFormat negotiate(String acceptHeader) {
+        if (acceptHeader == null || acceptHeader.isBlank()) {
+            return JSON;
+        }
+
+        List<MediaType> acceptedTypes;
+        try {
+            acceptedTypes = new ArrayList<>(MediaType.parseMediaTypes(acceptHeader));
+        } catch (InvalidMediaTypeException exception) {
+            return JSON;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptedTypes);
+
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.getQualityValue() == 0) {
+                continue;
+            }
+
+            for (ResponseFormat format : values()) {
+                if (acceptedType.isCompatibleWith(format.getMediaType())) {
+                    return format;
+                }
+            }
+        }
+
+        return JSON;
+    }
+
+}
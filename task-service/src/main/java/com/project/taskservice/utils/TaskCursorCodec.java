@@ -0,0 +1,68 @@
+package com.project.taskservice.utils;
+
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.tasks.data.enums.TaskSortKey;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * encodes position of the last returned task into opaque cursor and decodes it back. The cursor keeps sort key and
+ * order it was issued for, so it can't be reused with different sorting
+ */
+@Component
+@RequiredArgsConstructor
+public class TaskCursorCodec {
+
+    private final MongoConverter mongoConverter;
+
+    /**
+     * used for building cursor of the next page
+     *
+     * @param cursor represents sort value and id of the last returned task
+     * @return url-safe cursor
+     */
+    public String encode(TaskCursor cursor) {
+        Document cursorDocument = new Document("s", cursor.sortKey().getField())
+                .append("o", cursor.sortOrder())
+                .append("v", mongoConverter.convertToMongoType(cursor.value()))
+                .append("id", cursor.id());
+
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(cursorDocument.toJson().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * used for reading cursor sent by client
+     *
+     * @param cursor             represents cursor returned with previous page
+     * @param expectedSortKey    represents sort key of current request
+     * @param expectedSortOrder  represents sort order of current request
+     * @return sort value and id of the last task of previous page
+     */
+    public TaskCursor decode(String cursor, TaskSortKey expectedSortKey, int expectedSortOrder) {
+        Document cursorDocument;
+        try {
+            cursorDocument = Document.parse(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (RuntimeException exception) {
+            throw new BadRequestException("cursor '%s' is invalid".formatted(cursor));
+        }
+
+        if (!expectedSortKey.getField().equals(cursorDocument.getString("s")) ||
+                !Integer.valueOf(expectedSortOrder).equals(cursorDocument.getInteger("o")) ||
+                cursorDocument.getString("id") == null) {
+            throw new BadRequestException("cursor was issued for different sorting");
+        }
+
+        return new TaskCursor(expectedSortKey, expectedSortOrder, cursorDocument.get("v"), cursorDocument.getString("id"));
+    }
+
+    public record TaskCursor(TaskSortKey sortKey, int sortOrder, Object value, String id) {
+    }
+
+}
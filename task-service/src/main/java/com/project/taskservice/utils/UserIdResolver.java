@@ -0,0 +1,78 @@
+package com.project.taskservice.utils;
+
+import com.project.taskservice.exceptions.TokenInvalidException;
+import com.project.taskservice.feigns.UserFeign;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+/**
+ * resolves caller's user id from the already validated jwt instead of asking user-service for it
+ */
+@Component
+@Slf4j
+public class UserIdResolver {
+
+    private static final String USER_ID_CLAIM = "user_id";
+
+    private final UserFeign userFeign;
+    private final JwtUtils jwtUtils;
+    private final boolean remoteFallbackEnabled;
+    private final Counter localResolutions;
+    private final Counter remoteResolutions;
+
+    public UserIdResolver(UserFeign userFeign, JwtUtils jwtUtils, MeterRegistry meterRegistry,
+                          @Value("${user-id.remote-fallback-enabled:false}") boolean remoteFallbackEnabled) {
+        this.userFeign = userFeign;
+        this.jwtUtils = jwtUtils;
+        this.remoteFallbackEnabled = remoteFallbackEnabled;
+        this.localResolutions = Counter.builder("task.user-id.resolutions")
+                .description("user id resolutions of incoming requests")
+                .tag("source", "local")
+                .register(meterRegistry);
+        this.remoteResolutions = Counter.builder("task.user-id.resolutions")
+                .description("user id resolutions of incoming requests")
+                .tag("source", "remote")
+                .register(meterRegistry);
+    }
+
+    /**
+     * reads claim "user_id" of the authenticated jwt. Falls back to user-service only when it is enabled
+     *
+     * @param authorizationHeader represents caller's authorization header
+     * @return caller's user id
+     */
+    public String resolveUserId(String authorizationHeader) {
+        String userId = getUserIdFromSecurityContext();
+
+        if (userId != null) {
+            localResolutions.increment();
+            return userId;
+        }
+
+        if (!remoteFallbackEnabled) {
+            throw new TokenInvalidException("claim \"user_id\" is not found in token");
+        }
+
+        log.debug("claim \"user_id\" is absent, resolving user id using user-service");
+        remoteResolutions.increment();
+        return userFeign.getUserIdByToken(jwtUtils.getTokenFromAuthorizationHeader(authorizationHeader));
+    }
+
+    private String getUserIdFromSecurityContext() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication instanceof JwtAuthenticationToken jwtAuthentication) {
+            String userId = jwtAuthentication.getToken().getClaimAsString(USER_ID_CLAIM);
+            return userId == null || userId.isBlank() ? null : userId;
+        }
+
+        return null;
+    }
+
+}
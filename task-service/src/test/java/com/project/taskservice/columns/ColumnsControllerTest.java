@@ -0,0 +1,151 @@
+package com.project.taskservice.columns;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.project.taskservice.columns.data.dto.ColumnsTasksResponse;
+import com.project.taskservice.columns.events.BoardEventService;
+import com.project.taskservice.columns.services.BoardCache;
+import com.project.taskservice.columns.services.BoardChangeLog;
+import com.project.taskservice.columns.services.ColumnService;
+import com.project.taskservice.config.SecurityBeans;
+import com.project.taskservice.tasks.data.dto.TaskCardResponse;
+import com.project.taskservice.utils.ResponseFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = {ColumnsController.class})
+@Import(value = {SecurityBeans.class})
+public class ColumnsControllerTest {
+
+    private static final String PROJECT_ID = "project-id";
+    private static final String BOARD_URL = "/columns/project/" + PROJECT_ID;
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    @MockBean
+    ColumnService columnService;
+
+    @MockBean
+    BoardEventService boardEventService;
+
+    @MockBean
+    BoardChangeLog boardChangeLog;
+
+    @MockBean
+    JwtDecoder jwtDecoder;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    private final BoardCache boardCache = new BoardCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+
+    @BeforeEach
+    void setUp() {
+        when(columnService.getBoardETag(eq(PROJECT_ID), any(), any(ResponseFormat.class)))
+                .thenAnswer(invocation -> boardCache.getETag(PROJECT_ID, 20, invocation.getArgument(2)));
+        when(columnService.getColumnsAndTasksByProjectId(eq(PROJECT_ID), any()))
+                .thenReturn(List.of(ColumnsTasksResponse.builder()
+                        .id("column-id")
+                        .columnName("todo")
+                        .projectId(PROJECT_ID)
+                        .tasks(List.of(TaskCardResponse.builder()
+                                .id("task-id")
+                                .title("first")
+                                .version(3L)
+                                .build()))
+                        .build()));
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = {"binaryFormats"})
+    void givenBinaryFormatInAccept_whenGetBoard_thenBoardIsEncodedInThatFormatWithItsOwnETag(MediaType mediaType,
+                                                                                           ObjectMapper objectMapper,
+                                                                                           ResponseFormat format) throws Exception {
+        MvcResult result = mockMvc.perform(get(BOARD_URL)
+                        .accept(mediaType)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andExpect(header().string(HttpHeaders.ETAG, boardCache.getETag(PROJECT_ID, 20, format)))
+                .andReturn();
+
+        JsonNode board = objectMapper.readTree(result.getResponse().getContentAsByteArray());
+
+        assertThat(board.get(0).get("columnName").asText()).isEqualTo("todo");
+        assertThat(board.get(0).get("tasks").get(0).get("title").asText()).isEqualTo("first");
+        assertThat(board.get(0).get("tasks").get(0).get("version").asLong()).isEqualTo(3L);
+    }
+
+    @ParameterizedTest
+    @MethodSource(value = {"binaryFormats"})
+    void givenETagOfJsonBoard_whenGetBoardInBinaryFormat_thenBoardIsNotReportedAsNotModified(MediaType mediaType,
+                                                                                           ObjectMapper objectMapper,
+                                                                                           ResponseFormat format) throws Exception {
+        String jsonETag = mockMvc.perform(get(BOARD_URL)
+                        .accept(MediaType.APPLICATION_JSON)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn()
+                .getResponse()
+                .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(BOARD_URL)
+                        .accept(mediaType)
+                        .header(HttpHeaders.IF_NONE_MATCH, jsonETag)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType));
+
+        mockMvc.perform(get(BOARD_URL)
+                        .accept(mediaType)
+                        .header(HttpHeaders.IF_NONE_MATCH, boardCache.getETag(PROJECT_ID, 20, format))
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void givenNoAccept_whenGetBoard_thenJsonETagIsUsed() throws Exception {
+        mockMvc.perform(get(BOARD_URL)
+                        .with(SecurityMockMvcRequestPostProcessors.jwt()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, boardCache.getETag(PROJECT_ID, 20, ResponseFormat.JSON)));
+    }
+
+    static Stream<Arguments> binaryFormats() {
+        return Stream.of(
+                Arguments.of(MediaType.APPLICATION_CBOR, new ObjectMapper(new CBORFactory()), ResponseFormat.CBOR),
+                Arguments.of(SMILE, new ObjectMapper(new SmileFactory()), ResponseFormat.SMILE)
+        );
+    }
+
+}
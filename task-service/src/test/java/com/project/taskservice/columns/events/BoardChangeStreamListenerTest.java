@@ -0,0 +1,90 @@
+package com.project.taskservice.columns.events;
+
+import com.project.taskservice.columns.data.dto.BoardEvent;
+import com.project.taskservice.columns.services.BoardCache;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.services.TaskRepository;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.project.taskservice.tasks.testUtils.TaskUtils.PROJECT_ID;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.buildTask;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+
+public class BoardChangeStreamListenerTest extends MongoDbContainerMock {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(15);
+
+    @Autowired
+    private BoardChangeStreamListener boardChangeStreamListener;
+
+    @Autowired
+    private BoardEventBroadcaster boardEventBroadcaster;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @SpyBean
+    private BoardCache boardCache;
+
+    private BoardEventSubscription subscription;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!boardChangeStreamListener.isWatching() && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(boardChangeStreamListener.isWatching()).isTrue();
+    }
+
+    @Test
+    void givenSubscriber_whenTaskIsInsertedAndDeleted_thenBothChangesAreDeliveredWithProject() throws InterruptedException {
+        CollectingBoardEventSink sink = new CollectingBoardEventSink();
+        subscription = boardEventBroadcaster.subscribe(PROJECT_ID, null, sink);
+
+        Task savedTask = taskRepository.save(buildTask("test", "column-id", "V"));
+        taskRepository.deleteById(savedTask.getId());
+
+        List<BoardEvent> receivedEvents = sink.awaitEvents(2, TIMEOUT);
+
+        assertThat(receivedEvents)
+                .extracting(BoardEvent::getType)
+                .containsExactly("task.insert", "task.delete");
+        assertThat(receivedEvents)
+                .allSatisfy(boardEvent -> {
+                    assertThat(boardEvent.getProjectId()).isEqualTo(PROJECT_ID);
+                    assertThat(boardEvent.getDocumentId()).isEqualTo(savedTask.getId());
+                    assertThat(boardEvent.getColumnId()).isEqualTo("column-id");
+                });
+    }
+
+    @Test
+    void givenChangeThatFailsToBeHandled_whenTaskIsInserted_thenChangeStreamIsResumedAndChangeIsDelivered()
+            throws InterruptedException {
+        CollectingBoardEventSink sink = new CollectingBoardEventSink();
+        subscription = boardEventBroadcaster.subscribe(PROJECT_ID, null, sink);
+        doThrow(new IllegalStateException("board cache is unavailable"))
+                .doCallRealMethod()
+                .when(boardCache).bumpVersion(any());
+
+        Task savedTask = taskRepository.save(buildTask("test", "column-id", "V"));
+
+        List<BoardEvent> receivedEvents = sink.awaitEvents(1, TIMEOUT);
+
+        assertThat(receivedEvents)
+                .extracting(BoardEvent::getDocumentId)
+                .containsExactly(savedTask.getId());
+        assertThat(boardChangeStreamListener.isWatching()).isTrue();
+    }
+
+}
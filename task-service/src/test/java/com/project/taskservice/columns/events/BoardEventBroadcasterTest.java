@@ -0,0 +1,117 @@
+package com.project.taskservice.columns.events;
+
+import com.project.taskservice.columns.data.dto.BoardEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class BoardEventBroadcasterTest {
+
+    private static final String PROJECT_ID = "project-id";
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private SimpleMeterRegistry meterRegistry;
+    private BoardEventBroadcaster boardEventBroadcaster;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        boardEventBroadcaster = new BoardEventBroadcaster(meterRegistry, 2, 3, Duration.ofMinutes(1), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        boardEventBroadcaster.shutdown();
+    }
+
+    @Test
+    void givenSubscribers_whenPublish_thenOnlySubscribersOfProjectReceiveEvent() throws InterruptedException {
+        CollectingBoardEventSink projectSink = new CollectingBoardEventSink();
+        CollectingBoardEventSink anotherProjectSink = new CollectingBoardEventSink();
+        boardEventBroadcaster.subscribe(PROJECT_ID, null, projectSink);
+        boardEventBroadcaster.subscribe("another-project-id", null, anotherProjectSink);
+
+        boardEventBroadcaster.publish(PROJECT_ID, "task.insert", "task-id", "column-id");
+
+        assertThat(projectSink.awaitEvents(1, TIMEOUT))
+                .extracting(BoardEvent::getType, BoardEvent::getDocumentId)
+                .containsExactly(tuple("task.insert", "task-id"));
+        assertThat(anotherProjectSink.awaitEvents(1, Duration.ofMillis(200))).isEmpty();
+        assertThat(meterRegistry.get("board.events.subscribers").tag("project", PROJECT_ID).gauge().value())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void givenReconnectWithLastEventId_whenSubscribe_thenMissedEventsAreReplayed() throws InterruptedException {
+        CollectingBoardEventSink firstSink = new CollectingBoardEventSink();
+        BoardEventSubscription subscription = boardEventBroadcaster.subscribe(PROJECT_ID, null, firstSink);
+        boardEventBroadcaster.publish(PROJECT_ID, "task.insert", "first-task-id", "column-id");
+        String lastEventId = firstSink.awaitEvents(1, TIMEOUT).get(0).getId();
+        subscription.cancel();
+
+        boardEventBroadcaster.publish(PROJECT_ID, "task.insert", "second-task-id", "column-id");
+        CollectingBoardEventSink secondSink = new CollectingBoardEventSink();
+        boardEventBroadcaster.subscribe(PROJECT_ID, lastEventId, secondSink);
+
+        assertThat(secondSink.awaitEvents(1, TIMEOUT))
+                .extracting(BoardEvent::getDocumentId)
+                .containsExactly("second-task-id");
+    }
+
+    @Test
+    void givenLastEventIdThatIsNotKeptAnymore_whenSubscribe_thenResetEventIsSent() throws InterruptedException {
+        CollectingBoardEventSink firstSink = new CollectingBoardEventSink();
+        boardEventBroadcaster.subscribe(PROJECT_ID, null, firstSink);
+        boardEventBroadcaster.publish(PROJECT_ID, "task.insert", "task-id", "column-id");
+        String lastEventId = firstSink.awaitEvents(1, TIMEOUT).get(0).getId();
+        for (int index = 0; index < 4; index++) {
+            boardEventBroadcaster.publish(PROJECT_ID, "task.update", "task-id", "column-id");
+            firstSink.awaitEvents(index + 2, TIMEOUT);
+        }
+
+        CollectingBoardEventSink secondSink = new CollectingBoardEventSink();
+        boardEventBroadcaster.subscribe(PROJECT_ID, lastEventId, secondSink);
+
+        assertThat(secondSink.awaitEvents(1, TIMEOUT))
+                .extracting(BoardEvent::getType)
+                .containsExactly(BoardEventBroadcaster.RESET_EVENT_TYPE);
+    }
+
+    @Test
+    void givenSlowSubscriber_whenItsQueueIsFull_thenItIsDisconnectedWithoutBlockingOthers() throws InterruptedException {
+        CountDownLatch releaseSlowSink = new CountDownLatch(1);
+        CollectingBoardEventSink slowSink = new CollectingBoardEventSink() {
+            @Override
+            public void send(BoardEvent boardEvent) {
+                try {
+                    releaseSlowSink.await();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(boardEvent);
+            }
+        };
+        CollectingBoardEventSink fastSink = new CollectingBoardEventSink();
+        boardEventBroadcaster.subscribe(PROJECT_ID, null, slowSink);
+        boardEventBroadcaster.subscribe(PROJECT_ID, null, fastSink);
+
+        for (int index = 0; index < 5; index++) {
+            boardEventBroadcaster.publish(PROJECT_ID, "task.update", "task-id", "column-id");
+            fastSink.awaitEvents(index + 1, TIMEOUT);
+        }
+        releaseSlowSink.countDown();
+
+        assertThat(fastSink.awaitEvents(5, TIMEOUT)).hasSize(5);
+        assertThat(slowSink.isClosed()).isTrue();
+        assertThat(meterRegistry.get("board.events.dropped-subscribers").counter().count()).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.project.taskservice.columns.events;
+
+import com.project.taskservice.exceptions.ForbiddenException;
+import com.project.taskservice.projects.services.ProjectAccessService;
+import com.project.taskservice.utils.UserIdResolver;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.project.taskservice.tasks.testUtils.TaskUtils.AUTHORIZATION_HEADER;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.PROJECT_ID;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BoardEventServiceTest {
+
+    private BoardEventBroadcaster boardEventBroadcaster;
+    private ProjectAccessService projectAccessService;
+    private BoardEventService boardEventService;
+
+    @BeforeEach
+    void setUp() {
+        boardEventBroadcaster = mock(BoardEventBroadcaster.class);
+        projectAccessService = mock(ProjectAccessService.class);
+        UserIdResolver userIdResolver = mock(UserIdResolver.class);
+        when(userIdResolver.resolveUserId(AUTHORIZATION_HEADER)).thenReturn(USER_ID);
+        boardEventService = new BoardEventService(boardEventBroadcaster, projectAccessService, userIdResolver,
+                Duration.ofMinutes(1));
+    }
+
+    @Test
+    void givenUserWithoutAccess_whenSubscribe_thenForbiddenIsThrownAndNothingIsSubscribed() {
+        when(projectAccessService.checkAccessToProject(PROJECT_ID, USER_ID))
+                .thenThrow(new ForbiddenException("You don't have access to this project"));
+
+        assertThatThrownBy(() -> boardEventService.subscribeToBoardEvents(PROJECT_ID, null, AUTHORIZATION_HEADER))
+                .isInstanceOf(ForbiddenException.class);
+        verify(boardEventBroadcaster, never()).subscribe(any(), any(), any());
+    }
+
+    @Test
+    void givenProjectMember_whenSubscribe_thenEmitterIsRegistered() {
+        when(boardEventBroadcaster.subscribe(any(), any(), any())).thenReturn(mock(BoardEventSubscription.class));
+
+        assertThat(boardEventService.subscribeToBoardEvents(PROJECT_ID, null, AUTHORIZATION_HEADER)).isNotNull();
+        verify(boardEventBroadcaster).subscribe(any(), any(), any());
+    }
+
+}
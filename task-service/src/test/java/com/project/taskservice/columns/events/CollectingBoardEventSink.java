@@ -0,0 +1,47 @@
+package com.project.taskservice.columns.events;
+
+import com.project.taskservice.columns.data.dto.BoardEvent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * sink that keeps received events, used instead of server-sent events emitter in tests
+ */
+public class CollectingBoardEventSink implements BoardEventSink {
+
+    private final List<BoardEvent> receivedEvents = new CopyOnWriteArrayList<>();
+    private volatile boolean closed;
+
+    @Override
+    public void send(BoardEvent boardEvent) {
+        receivedEvents.add(boardEvent);
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public List<BoardEvent> awaitEvents(int count, Duration timeout) throws InterruptedException {
+        return awaitEvent(events -> events.size() >= count, timeout);
+    }
+
+    public List<BoardEvent> awaitEvent(Predicate<List<BoardEvent>> condition, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+
+        while (!condition.test(receivedEvents) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+
+        return new ArrayList<>(receivedEvents);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.project.taskservice.columns.services;
+
+import com.project.taskservice.columns.data.dto.ColumnsTasksResponse;
+import com.project.taskservice.utils.ResponseFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoardCacheTest {
+
+    private static final String PROJECT_ID = "project-id";
+
+    private BoardCache boardCache;
+    private AtomicInteger loads;
+    private Supplier<List<ColumnsTasksResponse>> boardLoader;
+
+    @BeforeEach
+    void setUp() {
+        boardCache = new BoardCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+        loads = new AtomicInteger();
+        boardLoader = () -> {
+            loads.incrementAndGet();
+            return List.of(ColumnsTasksResponse.builder().projectId(PROJECT_ID).build());
+        };
+    }
+
+    @Test
+    void givenUnchangedBoard_whenGetBoardTwice_thenBoardIsLoadedOnceAndETagIsStable() {
+        String eTag = boardCache.getETag(PROJECT_ID, 20, ResponseFormat.JSON);
+
+        boardCache.getBoard(PROJECT_ID, 20, boardLoader);
+        boardCache.getBoard(PROJECT_ID, 20, boardLoader);
+
+        assertThat(loads).hasValue(1);
+        assertThat(boardCache.getETag(PROJECT_ID, 20, ResponseFormat.JSON)).isEqualTo(eTag);
+    }
+
+    @Test
+    void givenChangedBoard_whenGetBoard_thenBoardIsReloadedAndETagChanges() {
+        String eTag = boardCache.getETag(PROJECT_ID, 20, ResponseFormat.JSON);
+        boardCache.getBoard(PROJECT_ID, 20, boardLoader);
+
+        boardCache.bumpVersion(PROJECT_ID);
+        boardCache.getBoard(PROJECT_ID, 20, boardLoader);
+
+        assertThat(loads).hasValue(2);
+        assertThat(boardCache.getETag(PROJECT_ID, 20, ResponseFormat.JSON)).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void givenDifferentTaskLimits_whenGetBoard_thenSnapshotsAndETagsAreKeptApart() {
+        boardCache.getBoard(PROJECT_ID, 20, boardLoader);
+        boardCache.getBoard(PROJECT_ID, 5, boardLoader);
+
+        assertThat(loads).hasValue(2);
+        assertThat(boardCache.getETag(PROJECT_ID, 20, ResponseFormat.JSON))
+                .isNotEqualTo(boardCache.getETag(PROJECT_ID, 5, ResponseFormat.JSON));
+    }
+
+    @Test
+    void givenDifferentFormats_whenGetETag_thenETagsAreKeptApart() {
+        assertThat(boardCache.getETag(PROJECT_ID, 20, ResponseFormat.JSON))
+                .isNotEqualTo(boardCache.getETag(PROJECT_ID, 20, ResponseFormat.CBOR))
+                .isNotEqualTo(boardCache.getETag(PROJECT_ID, 20, ResponseFormat.SMILE));
+        assertThat(boardCache.getETag(PROJECT_ID, 20, ResponseFormat.CBOR))
+                .isNotEqualTo(boardCache.getETag(PROJECT_ID, 20, ResponseFormat.SMILE));
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.project.taskservice.columns.services;
+
+import com.project.taskservice.columns.data.BoardChange;
+import com.project.taskservice.columns.data.BoardChangeSequence;
+import com.project.taskservice.columns.data.Column;
+import com.project.taskservice.columns.data.dto.BoardChangesResponse;
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.exceptions.ForbiddenException;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.TaskCardResponse;
+import com.project.taskservice.tasks.services.TaskRepository;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.project.taskservice.tasks.testUtils.TaskUtils.AUTHORIZATION_HEADER;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.PROJECT_ID;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.USER_ID;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.buildTask;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.when;
+
+public class BoardChangeLogTest extends MongoDbContainerMock {
+
+    @Autowired
+    private BoardChangeLog boardChangeLog;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void givenNoToken_whenGetChanges_thenClientIsResetToCurrentToken() {
+        boardChangeLog.recordTasks(PROJECT_ID, List.of("task-1", "task-2"));
+
+        BoardChangesResponse changes = boardChangeLog.getChanges(PROJECT_ID, null, AUTHORIZATION_HEADER);
+
+        assertThat(changes.isReset()).isTrue();
+        assertThat(changes.getToken()).isEqualTo("2");
+    }
+
+    @Test
+    void givenChangesSinceToken_whenGetChanges_thenCurrentStateAndDeletedIdsAreReturned() {
+        Column column = saveColumn("todo");
+        Column deletedColumn = saveColumn("done");
+        Task task = saveTask(column.getId(), "first");
+        String token = boardChangeLog.getChanges(PROJECT_ID, null, AUTHORIZATION_HEADER).getToken();
+
+        boardChangeLog.recordColumns(PROJECT_ID, List.of(column.getId(), deletedColumn.getId()));
+        boardChangeLog.recordTasks(PROJECT_ID, List.of(task.getId(), task.getId(), "deleted-task"));
+        columnRepository.delete(deletedColumn);
+
+        BoardChangesResponse changes = boardChangeLog.getChanges(PROJECT_ID, token, AUTHORIZATION_HEADER);
+
+        assertThat(changes.isReset()).isFalse();
+        assertThat(changes.isHasMore()).isFalse();
+        assertThat(changes.getToken()).isEqualTo("5");
+        assertThat(changes.getColumns()).extracting(Column::getId).containsExactly(column.getId());
+        assertThat(changes.getTasksByColumn().get(column.getId()))
+                .extracting(TaskCardResponse::getId, TaskCardResponse::getTitle)
+                .containsExactly(tuple(task.getId(), "first"));
+        assertThat(changes.getDeletedColumnIds()).containsExactly(deletedColumn.getId());
+        assertThat(changes.getDeletedTaskIds()).containsExactly("deleted-task");
+
+        BoardChangesResponse noChanges = boardChangeLog.getChanges(PROJECT_ID, changes.getToken(), AUTHORIZATION_HEADER);
+
+        assertThat(noChanges.getToken()).isEqualTo("5");
+        assertThat(noChanges.getColumns()).isEmpty();
+        assertThat(noChanges.getTasksByColumn()).isEmpty();
+    }
+
+    @Test
+    void givenRecentGap_whenGetChanges_thenChangesAreServedUpToTheGap() {
+        boardChangeLog.recordTasks(PROJECT_ID, List.of("task-1"));
+        reserveWithoutEntry();
+        boardChangeLog.recordTasks(PROJECT_ID, List.of("task-3"));
+
+        BoardChangesResponse changes = boardChangeLog.getChanges(PROJECT_ID, "0", AUTHORIZATION_HEADER);
+
+        assertThat(changes.isReset()).isFalse();
+        assertThat(changes.isHasMore()).isTrue();
+        assertThat(changes.getToken()).isEqualTo("1");
+        assertThat(changes.getDeletedTaskIds()).containsExactly("task-1");
+    }
+
+    @Test
+    void givenStaleGap_whenGetChanges_thenClientIsReset() {
+        boardChangeLog.recordTasks(PROJECT_ID, List.of("task-1"));
+        reserveWithoutEntry();
+        boardChangeLog.recordTasks(PROJECT_ID, List.of("task-3"));
+        mongoTemplate.updateMulti(new Query(), new Update().set("changedAt", LocalDateTime.now().minusHours(1)),
+                BoardChange.class);
+
+        BoardChangesResponse changes = boardChangeLog.getChanges(PROJECT_ID, "1", AUTHORIZATION_HEADER);
+
+        assertThat(changes.isReset()).isTrue();
+        assertThat(changes.getToken()).isEqualTo("3");
+    }
+
+    @Test
+    void givenEntryThatFailsToBeInserted_whenRecordTasks_thenFailureIsSwallowedAndLeftAsGap() {
+        mongoTemplate.insert(BoardChange.builder()
+                .projectId(PROJECT_ID)
+                .seq(1)
+                .entityId("task-0")
+                .changedAt(LocalDateTime.now())
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build());
+
+        boardChangeLog.recordTasks(PROJECT_ID, List.of("task-1"));
+
+        assertThat(mongoTemplate.findById(PROJECT_ID, BoardChangeSequence.class).getSeq()).isEqualTo(1L);
+        assertThat(mongoTemplate.count(new Query(), BoardChange.class)).isEqualTo(1L);
+    }
+
+    @Test
+    void givenMalformedToken_whenGetChanges_thenBadRequestIsThrown() {
+        assertThatThrownBy(() -> boardChangeLog.getChanges(PROJECT_ID, "not-a-token", AUTHORIZATION_HEADER))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void givenUserWithoutAccess_whenGetChanges_thenForbiddenIsThrown() {
+        when(projectAccessService.checkAccessToProject(PROJECT_ID, USER_ID))
+                .thenThrow(new ForbiddenException("You don't have access to this project"));
+
+        assertThatThrownBy(() -> boardChangeLog.getChanges(PROJECT_ID, null, AUTHORIZATION_HEADER))
+                .isInstanceOf(ForbiddenException.class);
+    }
+
+    private void reserveWithoutEntry() {
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(PROJECT_ID)), new Update().inc("seq", 1),
+                BoardChangeSequence.class);
+    }
+
+    private Column saveColumn(String columnName) {
+        return columnRepository.save(Column.builder()
+                .columnName(columnName)
+                .position("V")
+                .projectId(PROJECT_ID)
+                .build());
+    }
+
+    private Task saveTask(String columnId, String title) {
+        return taskRepository.save(buildTask(title, columnId, "V"));
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.project.taskservice.columns.services;
+
+import com.project.taskservice.columns.data.Column;
+import com.project.taskservice.columns.data.dto.ColumnsTasksResponse;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.TaskCardResponse;
+import com.project.taskservice.tasks.data.dto.TaskFilterRequest;
+import com.project.taskservice.tasks.data.dto.TaskPageResponse;
+import com.project.taskservice.tasks.services.TaskQueryBuilder;
+import com.project.taskservice.tasks.services.TaskRepository;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.project.taskservice.tasks.testUtils.TaskUtils.PROJECT_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ColumnServiceTest extends MongoDbContainerMock {
+
+    @Autowired
+    private ColumnService columnService;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskQueryBuilder taskQueryBuilder;
+
+    @Test
+    void givenColumnWithMoreTasksThanLimit_whenGetBoard_thenTasksAreCappedAndCursorLoadsTheRest() {
+        Column column = columnRepository.save(Column.builder()
+                .columnName("test")
+                .position("V")
+                .projectId(PROJECT_ID)
+                .build());
+        taskRepository.saveAll(IntStream.range(0, 5)
+                .mapToObj(index -> Task.builder()
+                        .title("task " + index)
+                        .description("description")
+                        .position(String.valueOf(5 - index))
+                        .columnId(column.getId())
+                        .projectId(PROJECT_ID)
+                        .build())
+                .toList());
+
+        List<ColumnsTasksResponse> board = columnService.getColumnsAndTasksByProjectId(PROJECT_ID, 2);
+
+        assertThat(board).hasSize(1);
+        assertThat(board.get(0).getTasks())
+                .extracting(TaskCardResponse::getPosition)
+                .containsExactly("1", "2");
+        assertThat(board.get(0).getNextTasksCursor()).isNotNull();
+
+        TaskPageResponse nextPage = taskQueryBuilder.findPage(Criteria.where("columnId").is(column.getId()),
+                TaskFilterRequest.builder().cursor(board.get(0).getNextTasksCursor()).build());
+
+        assertThat(nextPage.getTasks())
+                .extracting(Task::getPosition)
+                .containsExactly("3", "4", "5");
+    }
+
+    @Test
+    void givenColumnWithFewTasks_whenGetBoard_thenNoCursorIsReturned() {
+        Column column = columnRepository.save(Column.builder()
+                .columnName("test")
+                .position("V")
+                .projectId(PROJECT_ID)
+                .build());
+        taskRepository.save(Task.builder()
+                .title("task")
+                .position("V")
+                .columnId(column.getId())
+                .projectId(PROJECT_ID)
+                .build());
+
+        List<ColumnsTasksResponse> board = columnService.getColumnsAndTasksByProjectId(PROJECT_ID, 2);
+
+        assertThat(board.get(0).getTasks()).hasSize(1);
+        assertThat(board.get(0).getNextTasksCursor()).isNull();
+    }
+
+}
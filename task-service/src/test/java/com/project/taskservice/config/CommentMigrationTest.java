@@ -0,0 +1,49 @@
+package com.project.taskservice.config;
+
+import com.project.taskservice.tasks.data.Comment;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.services.TaskRepository;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CommentMigrationTest extends MongoDbContainerMock {
+
+    @Autowired
+    private CommentMigration commentMigration;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void givenEmbeddedComments_whenMigrateCommentsTwice_thenCommentsAreMovedOnceInPreviousOrder() {
+        Document legacyTask = new Document("title", "task")
+                .append("createdById", "creator-id")
+                .append("createdAt", new Date())
+                .append("comments", List.of("first", "second", "third"));
+        mongoTemplate.insert(legacyTask, "tasks");
+
+        commentMigration.migrateComments();
+        commentMigration.migrateComments();
+        Task migratedTask = taskRepository.findAll().get(0);
+
+        assertThat(migratedTask.getCommentCount()).isEqualTo(3);
+        assertThat(mongoTemplate.findAll(Document.class, "tasks"))
+                .noneMatch(task -> task.containsKey("comments"));
+        assertThat(mongoTemplate.find(new Query()
+                .with(Sort.by("createdAt")), Comment.class))
+                .allMatch(comment -> comment.getTaskId().equals(migratedTask.getId()) &&
+                        comment.getAuthorId().equals("creator-id"))
+                .extracting(Comment::getText)
+                .containsExactly("first", "second", "third");
+    }
+
+}
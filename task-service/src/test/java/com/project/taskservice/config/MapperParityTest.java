@@ -0,0 +1,108 @@
+package com.project.taskservice.config;
+
+import com.project.taskservice.columns.data.Column;
+import com.project.taskservice.columns.data.dto.ColumnRequest;
+import com.project.taskservice.columns.mappers.ColumnMapper;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.TaskRequest;
+import com.project.taskservice.tasks.data.enums.SecurityLevel;
+import com.project.taskservice.tasks.data.enums.Status;
+import com.project.taskservice.tasks.mappers.TaskMapper;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * generated mappers replaced ModelMapper, they should produce the same objects. ModelMapper is configured here the
+ * same way it was configured in {@link BeanConfiguration} before
+ */
+public class MapperParityTest {
+
+    /**
+     * defaults like createdAt are taken at the moment object is created, so they differ by few millis
+     */
+    private static final Comparator<LocalDateTime> SAME_MOMENT = Comparator.nullsFirst((first, second) ->
+            Duration.between(first, second).abs().compareTo(Duration.ofMinutes(1)) < 0 ? 0 : first.compareTo(second));
+
+    private final ModelMapper modelMapper = buildModelMapper();
+    private final TaskMapper taskMapper = Mappers.getMapper(TaskMapper.class);
+    private final ColumnMapper columnMapper = Mappers.getMapper(ColumnMapper.class);
+
+    @Test
+    void givenFullTaskRequest_whenMapped_thenResultIsSameAsModelMapper() {
+        TaskRequest taskRequest = TaskRequest.builder()
+                .title("title")
+                .description("description")
+                .status(Status.STARTED)
+                .priority(3)
+                .position(2)
+                .assigneeId("assignee-id")
+                .dueDate(LocalDateTime.now().plusDays(2))
+                .tags(Set.of("tag"))
+                .attachments(List.of("attachment"))
+                .timeEstimated(5)
+                .gamificationPoints(20)
+                .securityLevel(SecurityLevel.PROTECTED)
+                .columnId("column-id")
+                .projectId("project-id")
+                .build();
+
+        assertSameTask(taskRequest);
+    }
+
+    @Test
+    void givenTaskRequestWithNulls_whenMapped_thenDefaultsOfTaskAreKeptAsWithModelMapper() {
+        TaskRequest taskRequest = new TaskRequest();
+        taskRequest.setTitle("title");
+        taskRequest.setStatus(null);
+        taskRequest.setDueDate(null);
+        taskRequest.setTags(null);
+        taskRequest.setSecurityLevel(null);
+
+        assertSameTask(taskRequest);
+    }
+
+    @Test
+    void givenColumnRequest_whenMapped_thenResultIsSameAsModelMapper() {
+        ColumnRequest columnRequest = new ColumnRequest("column", 3, "project-id");
+
+        assertThat(columnMapper.toColumn(columnRequest))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(columnRequest, Column.class));
+        assertThat(columnMapper.toColumn(new ColumnRequest()))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(new ColumnRequest(), Column.class));
+    }
+
+    private void assertSameTask(TaskRequest taskRequest) {
+        Task mappedTask = taskMapper.toTask(taskRequest);
+
+        assertThat(mappedTask.getId()).isNull();
+        assertThat(mappedTask.getPosition()).isNull();
+        assertThat(mappedTask)
+                .usingRecursiveComparison()
+                .withComparatorForType(SAME_MOMENT, LocalDateTime.class)
+                .isEqualTo(modelMapper.map(taskRequest, Task.class));
+    }
+
+    private static ModelMapper buildModelMapper() {
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.getConfiguration().setAmbiguityIgnored(true);
+        modelMapper.getConfiguration().setSkipNullEnabled(true);
+        modelMapper.typeMap(ColumnRequest.class, Column.class).addMappings(mapper -> {
+            mapper.skip(Column::setId);
+            mapper.skip(Column::setPosition);
+        });
+        modelMapper.typeMap(TaskRequest.class, Task.class).addMappings(mapper -> mapper.skip(Task::setPosition));
+        return modelMapper;
+    }
+
+}
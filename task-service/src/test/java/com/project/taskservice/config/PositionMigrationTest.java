@@ -0,0 +1,52 @@
+package com.project.taskservice.config;
+
+import com.project.taskservice.columns.data.Column;
+import com.project.taskservice.columns.services.ColumnRepository;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PositionMigrationTest extends MongoDbContainerMock {
+
+    @Autowired
+    private PositionMigration positionMigration;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Test
+    void givenIntegerPositions_whenMigratePositions_thenRankKeysKeepPreviousOrder() {
+        mongoTemplate.insert(List.of(legacyColumn("c", 10), legacyColumn("a", 2), legacyColumn("b", 3),
+                legacyColumn("other", 0).append("projectId", "other-project-id")), "columns");
+
+        positionMigration.migratePositions();
+        List<Column> migratedColumns = columnRepository.findAll(Sort.by("position"))
+                .stream()
+                .filter(column -> column.getProjectId().equals("project-id"))
+                .toList();
+        positionMigration.migratePositions();
+
+        assertThat(migratedColumns)
+                .extracting(Column::getColumnName)
+                .containsExactly("a", "b", "c");
+        assertThat(mongoTemplate.findAll(Document.class, "columns"))
+                .allMatch(column -> column.get("position") instanceof String);
+        assertThat(columnRepository.findAll(Sort.by("position")))
+                .filteredOn(column -> column.getProjectId().equals("project-id"))
+                .extracting(Column::getPosition)
+                .containsExactlyElementsOf(migratedColumns.stream().map(Column::getPosition).toList());
+    }
+
+    private Document legacyColumn(String columnName, int position) {
+        return new Document("columnName", columnName)
+                .append("position", position)
+                .append("projectId", "project-id");
+    }
+
+}
@@ -0,0 +1,302 @@
+package com.project.taskservice.config;
+
+import com.project.taskservice.columns.data.Column;
+import com.project.taskservice.columns.services.BoardChangeLog;
+import com.project.taskservice.columns.services.ColumnRepository;
+import com.project.taskservice.columns.services.ColumnService;
+import com.project.taskservice.projects.services.ProjectStatsService;
+import com.project.taskservice.reminders.services.DueReminderScheduler;
+import com.project.taskservice.tasks.data.Comment;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.TaskFilterRequest;
+import com.project.taskservice.tasks.data.dto.TaskPageResponse;
+import com.project.taskservice.tasks.data.enums.TaskSortKey;
+import com.project.taskservice.tasks.services.CommentService;
+import com.project.taskservice.tasks.services.TaskQueryBuilder;
+import com.project.taskservice.tasks.services.TaskRepository;
+import com.project.taskservice.tasks.services.UserTaskProjection;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import com.project.taskservice.tasks.testUtils.QueryPlanRecorder;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.project.taskservice.tasks.testUtils.TaskUtils.AUTHORIZATION_HEADER;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.PROJECT_ID;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.USER_ID;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.taskBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Import(QueryPlanRecorder.QueryPlanRecorderConfiguration.class)
+public class QueryPlanTest extends MongoDbContainerMock {
+
+    @Autowired
+    private QueryPlanRecorder queryPlanRecorder;
+
+    @Autowired
+    private MongoIndexInitializer mongoIndexInitializer;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Autowired
+    private ColumnService columnService;
+
+    @Autowired
+    private TaskQueryBuilder taskQueryBuilder;
+
+    @Autowired
+    private UserTaskProjection userTaskProjection;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private BoardChangeLog boardChangeLog;
+
+    @Autowired
+    private DueReminderScheduler dueReminderScheduler;
+
+    @Autowired
+    private ProjectStatsService projectStatsService;
+
+    private Column column;
+
+    private List<Task> tasks;
+
+    @BeforeEach
+    void setUp() {
+        mongoIndexInitializer.initializeIndexes();
+
+        column = columnRepository.save(Column.builder()
+                .columnName("test")
+                .position("V")
+                .projectId(PROJECT_ID)
+                .createdById(USER_ID)
+                .build());
+
+        tasks = taskRepository.saveAll(IntStream.range(0, 5)
+                .mapToObj(index -> taskBuilder("test")
+                        .position(String.valueOf(index + 1))
+                        .priority(index)
+                        .dueDate(LocalDateTime.now().plusDays(index))
+                        .assigneeId(USER_ID)
+                        .columnId(column.getId())
+                        .build())
+                .toList());
+        userTaskProjection.refresh(tasks.stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void givenColumnQueries_whenExplained_thenNoCollectionScanIsUsed() {
+        List<Document> commands = queryPlanRecorder.record(() -> {
+            columnRepository.findByProjectIdAndCreatedByIdOrderByPosition(PROJECT_ID, USER_ID);
+            columnRepository.findByIdAndCreatedById(column.getId(), USER_ID);
+            columnService.getColumnsAndTasksByProjectId(PROJECT_ID, 2);
+        });
+
+        assertNoCollectionScan(commands, 3);
+    }
+
+    @Test
+    void givenTaskListingQueries_whenExplained_thenNoCollectionScanIsUsed() {
+        Criteria columnTasks = Criteria.where("columnId").is(column.getId());
+        Criteria personalTasks = new Criteria().orOperator(Criteria.where("createdById").is(USER_ID),
+                Criteria.where("assigneeId").is(USER_ID));
+
+        List<Document> commands = queryPlanRecorder.record(() -> {
+            for (TaskSortKey sortKey : TaskSortKey.values()) {
+                for (int sortOrder : new int[]{1, -1}) {
+                    readTwoPages(columnTasks, sortKey, sortOrder);
+                    readTwoPages(personalTasks, sortKey, sortOrder);
+                }
+            }
+        });
+
+        assertNoCollectionScan(commands, TaskSortKey.values().length * 2 * 2 * 2);
+    }
+
+    @Test
+    void givenUserTaskPages_whenExplained_thenNoCollectionScanIsUsed() {
+        List<Document> commands = queryPlanRecorder.record(() -> {
+            for (TaskSortKey sortKey : TaskSortKey.values()) {
+                for (int sortOrder : new int[]{1, -1}) {
+                    readTwoUserTaskPages(sortKey, sortOrder);
+                }
+            }
+        });
+
+        assertThat(commands)
+                .extracting(this::getReadCollection)
+                .contains("user_tasks", "tasks");
+        assertNoCollectionScan(commands, commands.size());
+    }
+
+    @Test
+    void givenCommentPages_whenExplained_thenNoCollectionScanIsUsed() {
+        String taskId = tasks.get(0).getId();
+        mongoTemplate.insert(IntStream.range(0, 3)
+                .mapToObj(index -> Comment.builder()
+                        .taskId(taskId)
+                        .authorId(USER_ID)
+                        .text("comment " + index)
+                        .createdAt(LocalDateTime.now().plusSeconds(index))
+                        .build())
+                .toList(), Comment.class);
+
+        List<Document> commands = queryPlanRecorder.record(() -> {
+            String cursor = commentService.getComments(taskId, null, 2, AUTHORIZATION_HEADER).getNextCursor();
+            commentService.getComments(taskId, cursor, 2, AUTHORIZATION_HEADER);
+        });
+
+        assertThat(commands)
+                .extracting(this::getReadCollection)
+                .contains("comments");
+        assertNoCollectionScan(commands, commands.size());
+    }
+
+    @Test
+    void givenBoardChanges_whenExplained_thenNoCollectionScanIsUsed() {
+        boardChangeLog.recordColumns(PROJECT_ID, List.of(column.getId()));
+        boardChangeLog.recordTasks(PROJECT_ID, tasks.stream().map(Task::getId).toList());
+
+        List<Document> commands = queryPlanRecorder.record(() ->
+                boardChangeLog.getChanges(PROJECT_ID, "0", AUTHORIZATION_HEADER));
+
+        assertThat(commands)
+                .extracting(this::getReadCollection)
+                .contains("board_changes", "columns", "tasks");
+        assertNoCollectionScan(commands, commands.size());
+    }
+
+    @Test
+    void givenDueReminderScan_whenExplained_thenNoCollectionScanIsUsed() {
+        LocalDateTime now = LocalDateTime.now();
+        dueReminderScheduler.scan(now.minusMinutes(10));
+
+        List<Document> commands = queryPlanRecorder.record(() -> dueReminderScheduler.scan(now));
+
+        assertThat(commands)
+                .extracting(this::getReadCollection)
+                .contains("tasks");
+        assertNoCollectionScan(commands, commands.size());
+    }
+
+    @Test
+    void givenProjectStats_whenExplained_thenNoCollectionScanIsUsed() {
+        List<Document> commands = queryPlanRecorder.record(() ->
+                projectStatsService.getProjectStats(PROJECT_ID, AUTHORIZATION_HEADER));
+
+        assertThat(commands)
+                .extracting(this::getReadCollection)
+                .contains("tasks");
+        assertNoCollectionScan(commands, commands.size());
+    }
+
+    @Test
+    void givenColumnPagesSortedByAnyKey_whenExplained_thenOrderComesFromIndex() {
+        Criteria columnTasks = Criteria.where("columnId").is(column.getId());
+
+        List<Document> commands = queryPlanRecorder.record(() -> {
+            for (TaskSortKey sortKey : TaskSortKey.values()) {
+                for (int sortOrder : new int[]{1, -1}) {
+                    readTwoPages(columnTasks, sortKey, sortOrder);
+                }
+            }
+        });
+
+        assertThat(commands).hasSize(TaskSortKey.values().length * 2 * 2);
+        commands.forEach(command -> assertThat(queryPlanRecorder.explain(mongoTemplate, command)
+                .get("queryPlanner", Document.class)
+                .get("winningPlan", Document.class)
+                .toJson())
+                .as("plan of %s", command.toJson())
+                .doesNotContain("COLLSCAN")
+                .doesNotContain("\"stage\": \"SORT\""));
+    }
+
+    @Test
+    void givenChangedAndUndeclaredIndexes_whenInitializingIndexes_thenDeclaredDefinitionIsRestored() {
+        mongoTemplate.indexOps(Task.class).dropIndex("column_position");
+        mongoTemplate.indexOps(Task.class).ensureIndex(new Index("columnId", Sort.Direction.ASC).named("column_position"));
+        mongoTemplate.indexOps(Task.class).ensureIndex(new Index("title", Sort.Direction.ASC).named("undeclared_title"));
+
+        mongoIndexInitializer.initializeIndexes();
+
+        IndexInfo columnPositionIndex = mongoTemplate.indexOps(Task.class)
+                .getIndexInfo()
+                .stream()
+                .filter(indexInfo -> indexInfo.getName().equals("column_position"))
+                .findFirst()
+                .orElseThrow();
+
+        assertThat(columnPositionIndex.getIndexFields())
+                .extracting(IndexField::getKey)
+                .containsExactly("columnId", "position", "_id");
+        assertThat(mongoTemplate.indexOps(Task.class).getIndexInfo())
+                .extracting(IndexInfo::getName)
+                .contains("undeclared_title");
+
+        mongoTemplate.indexOps(Task.class).dropIndex("undeclared_title");
+    }
+
+    private void readTwoPages(Criteria scope, TaskSortKey sortKey, int sortOrder) {
+        TaskFilterRequest taskFilterRequest = TaskFilterRequest.builder()
+                .sortBy(sortKey.getField())
+                .sortOrder(sortOrder)
+                .limit(2)
+                .build();
+
+        TaskPageResponse firstPage = taskQueryBuilder.findPage(scope, taskFilterRequest);
+        taskFilterRequest.setCursor(firstPage.getNextCursor());
+        taskQueryBuilder.findPage(scope, taskFilterRequest);
+    }
+
+    private void readTwoUserTaskPages(TaskSortKey sortKey, int sortOrder) {
+        TaskFilterRequest taskFilterRequest = TaskFilterRequest.builder()
+                .sortBy(sortKey.getField())
+                .sortOrder(sortOrder)
+                .limit(2)
+                .build();
+
+        TaskPageResponse firstPage = taskQueryBuilder.findUserTasksPage(USER_ID, taskFilterRequest);
+        taskFilterRequest.setCursor(firstPage.getNextCursor());
+        taskQueryBuilder.findUserTasksPage(USER_ID, taskFilterRequest);
+    }
+
+    /**
+     * count of documents is sent as aggregation by the driver, so collection is looked up in every read command
+     */
+    private String getReadCollection(Document command) {
+        return Stream.of("find", "aggregate", "count")
+                .map(command::getString)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private void assertNoCollectionScan(List<Document> commands, int expectedCommands) {
+        assertThat(commands).hasSize(expectedCommands);
+
+        commands.forEach(command -> assertThat(queryPlanRecorder.explain(mongoTemplate, command).toJson())
+                .as("plan of %s", command.toJson())
+                .doesNotContain("COLLSCAN"));
+    }
+
+}
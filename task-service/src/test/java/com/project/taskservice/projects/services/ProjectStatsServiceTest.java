@@ -0,0 +1,117 @@
+package com.project.taskservice.projects.services;
+
+import com.project.taskservice.projects.data.ProjectStats;
+import com.project.taskservice.projects.data.dto.ProjectStatsResponse;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.enums.Status;
+import com.project.taskservice.tasks.services.TaskRepository;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import com.project.taskservice.utils.Lease;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.project.taskservice.tasks.testUtils.TaskUtils.AUTHORIZATION_HEADER;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.PROJECT_ID;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.taskBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ProjectStatsServiceTest extends MongoDbContainerMock {
+
+    @Autowired
+    private ProjectStatsService projectStatsService;
+
+    @Autowired
+    private ProjectStatsReconciler projectStatsReconciler;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void givenCreatedAndChangedTasks_whenGetProjectStats_thenCountersFollowChanges() {
+        List<Task> tasks = taskRepository.saveAll(List.of(
+                buildTask(Status.IDLE, LocalDateTime.now().minusDays(1), 3),
+                buildTask(Status.IDLE, LocalDateTime.now().plusDays(1), 5),
+                buildTask(Status.FINISHED, LocalDateTime.now().minusDays(1), 8)));
+        projectStatsService.recordCreated(tasks);
+
+        Task startedTask = buildTask(Status.STARTED, tasks.get(0).getDueDate(), 3);
+        mongoTemplate.updateFirst(new Query(Criteria.where("id").is(tasks.get(0).getId())),
+                new Update().set("status", Status.STARTED), Task.class);
+        projectStatsService.recordChanges(List.of(tasks.get(0)), List.of(startedTask));
+
+        ProjectStatsResponse projectStats = projectStatsService.getProjectStats(PROJECT_ID, AUTHORIZATION_HEADER);
+
+        assertThat(projectStats.getTaskCount()).isEqualTo(3);
+        assertThat(projectStats.getStatusCounts())
+                .containsEntry(Status.IDLE, 1L)
+                .containsEntry(Status.STARTED, 1L)
+                .containsEntry(Status.FINISHED, 1L)
+                .containsEntry(Status.IN_PROGRESS, 0L);
+        assertThat(projectStats.getOverdueCount()).isEqualTo(1);
+        assertThat(projectStats.getTimeSpent()).isEqualTo(16);
+        assertThat(projectStats.getGamificationPoints()).isEqualTo(30);
+    }
+
+    @Test
+    void givenDriftedCounters_whenReconcile_thenDriftIsReportedAndCountersAreRecomputed() {
+        List<Task> tasks = taskRepository.saveAll(List.of(
+                buildTask(Status.IDLE, LocalDateTime.now(), 3),
+                buildTask(Status.FINISHED, LocalDateTime.now(), 5)));
+        projectStatsService.recordCreated(tasks.subList(0, 1));
+
+        int drifted = projectStatsReconciler.reconcile();
+
+        assertThat(drifted).isEqualTo(1);
+        ProjectStats projectStats = mongoTemplate.findById(PROJECT_ID, ProjectStats.class);
+        assertThat(projectStats.getTaskCount()).isEqualTo(2);
+        assertThat(projectStats.getStatusCounts()).containsEntry("IDLE", 1L).containsEntry("FINISHED", 1L);
+        assertThat(projectStats.getTimeSpent()).isEqualTo(8);
+        assertThat(projectStats.getReconciledAt()).isNotNull();
+        assertThat(projectStatsReconciler.reconcile()).isZero();
+    }
+
+    @Test
+    void givenStaleStatusCounter_whenReconcile_thenDifferencesAreAppliedToStoredCounters() {
+        taskRepository.saveAll(List.of(buildTask(Status.IDLE, LocalDateTime.now(), 3)));
+        mongoTemplate.upsert(new Query(Criteria.where("id").is(PROJECT_ID)), new Update()
+                .set("taskCount", 2L)
+                .set("statusCounts.STARTED", 2L)
+                .set("timeSpent", 3L), ProjectStats.class);
+
+        assertThat(projectStatsReconciler.reconcile()).isEqualTo(1);
+
+        ProjectStats projectStats = mongoTemplate.findById(PROJECT_ID, ProjectStats.class);
+        assertThat(projectStats.getTaskCount()).isEqualTo(1);
+        assertThat(projectStats.getStatusCounts()).containsEntry("IDLE", 1L).containsEntry("STARTED", 0L);
+        assertThat(projectStats.getTimeSpent()).isEqualTo(3);
+        assertThat(projectStatsReconciler.reconcile()).isZero();
+    }
+
+    @Test
+    void givenLeaseHeldByAnotherInstance_whenReconcile_thenCountersAreLeftAsTheyAre() {
+        taskRepository.saveAll(List.of(buildTask(Status.IDLE, LocalDateTime.now(), 3)));
+        mongoTemplate.insert(Lease.builder()
+                .id("project-stats:reconcile")
+                .owner("another-instance")
+                .expiresAt(LocalDateTime.now().plusMinutes(5))
+                .build());
+
+        assertThat(projectStatsReconciler.reconcile()).isZero();
+        assertThat(mongoTemplate.findById(PROJECT_ID, ProjectStats.class)).isNull();
+    }
+
+    private Task buildTask(Status status, LocalDateTime dueDate, int timeSpent) {
+        return taskBuilder("task")
+                .status(status)
+                .dueDate(dueDate)
+                .timeSpent(timeSpent)
+                .build();
+    }
+
+}
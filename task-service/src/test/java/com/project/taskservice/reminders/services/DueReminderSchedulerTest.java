@@ -0,0 +1,100 @@
+package com.project.taskservice.reminders.services;
+
+import com.project.taskservice.reminders.data.dto.DueReminderEvent;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.enums.Status;
+import com.project.taskservice.tasks.services.TaskRepository;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import com.project.taskservice.utils.LeaseService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.project.taskservice.tasks.testUtils.TaskUtils.taskBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class DueReminderSchedulerTest extends MongoDbContainerMock {
+
+    @Autowired
+    private DueReminderScheduler dueReminderScheduler;
+
+    @Autowired
+    private LeaseService leaseService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void givenTasksDueWithinWindows_whenScanTwice_thenEveryReminderIsSentOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        Task soonTask = saveTask("soon", Status.STARTED, now.plusMinutes(30));
+        Task laterTask = saveTask("later", Status.IDLE, now.plusHours(5));
+        saveTask("finished", Status.FINISHED, now.plusMinutes(30));
+        saveTask("far", Status.IDLE, now.plusHours(30));
+
+        int firstScan = dueReminderScheduler.scan(now);
+        int secondScan = dueReminderScheduler.scan(now);
+
+        ArgumentCaptor<List<DueReminderEvent>> reminders = ArgumentCaptor.forClass(List.class);
+        verify(kafkaProducerService, atLeastOnce()).sendDueReminders(reminders.capture());
+        assertThat(firstScan).isEqualTo(3);
+        assertThat(secondScan).isZero();
+        assertThat(reminders.getAllValues().stream().flatMap(List::stream).toList())
+                .extracting(DueReminderEvent::getTaskId, DueReminderEvent::getWindow)
+                .containsExactlyInAnyOrder(
+                        tuple(soonTask.getId(), Duration.ofHours(24).toString()),
+                        tuple(laterTask.getId(), Duration.ofHours(24).toString()),
+                        tuple(soonTask.getId(), Duration.ofHours(1).toString()));
+    }
+
+    @Test
+    void givenCheckpointedWindows_whenTimePasses_thenOnlyNewBucketsAreScanned() {
+        LocalDateTime now = LocalDateTime.now();
+        dueReminderScheduler.scan(now);
+        Task newTask = saveTask("new", Status.IDLE, now.plusMinutes(70));
+        clearInvocations(kafkaProducerService);
+
+        int sentReminders = dueReminderScheduler.scan(now.plusMinutes(20));
+
+        ArgumentCaptor<List<DueReminderEvent>> reminders = ArgumentCaptor.forClass(List.class);
+        verify(kafkaProducerService).sendDueReminders(reminders.capture());
+        assertThat(sentReminders).isEqualTo(1);
+        assertThat(reminders.getValue())
+                .extracting(DueReminderEvent::getTaskId, DueReminderEvent::getWindow)
+                .containsExactly(tuple(newTask.getId(), Duration.ofHours(1).toString()));
+    }
+
+    @Test
+    void givenLeaseHeldByAnotherInstance_whenTryAcquire_thenLeaseIsNotGrantedUntilReleased() {
+        LeaseService anotherInstance = new LeaseService(mongoTemplate);
+
+        boolean acquired = leaseService.tryAcquire("lease-id", Duration.ofMinutes(2));
+        boolean acquiredByAnotherInstance = anotherInstance.tryAcquire("lease-id", Duration.ofMinutes(2));
+        boolean renewedByAnotherInstance = anotherInstance.renew("lease-id", Duration.ofMinutes(2));
+        leaseService.release("lease-id");
+
+        assertThat(acquired).isTrue();
+        assertThat(acquiredByAnotherInstance).isFalse();
+        assertThat(renewedByAnotherInstance).isFalse();
+        assertThat(anotherInstance.tryAcquire("lease-id", Duration.ofMinutes(2))).isTrue();
+        verify(kafkaProducerService, never()).sendDueReminders(anyList());
+    }
+
+    private Task saveTask(String title, Status status, LocalDateTime dueDate) {
+        return taskRepository.save(taskBuilder(title)
+                .status(status)
+                .dueDate(dueDate)
+                .build());
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.project.taskservice.tasks.codecs;
+
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.enums.SecurityLevel;
+import com.project.taskservice.tasks.data.enums.Status;
+import com.project.taskservice.tasks.services.TaskRepository;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TaskCodecTest extends MongoDbContainerMock {
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void givenTaskSavedByRepository_whenDecodingWithCodec_thenResultEqualsConverterResult() {
+        Task savedTask = taskRepository.save(Task.builder()
+                .title("title")
+                .description("description")
+                .status(Status.IN_PROGRESS)
+                .priority(3)
+                .position("a0")
+                .assigneeId("assignee-id")
+                .createdById("creator-id")
+                .dueDate(LocalDateTime.now().plusDays(2))
+                .tags(Set.of("backend", "mongo"))
+                .commentCount(2)
+                .attachments(List.of("attachment"))
+                .timeSpent(5)
+                .timeEstimated(8)
+                .securityLevel(SecurityLevel.PUBLIC)
+                .columnId("column-id")
+                .projectId("project-id")
+                .build());
+
+        Task convertedTask = mongoTemplate.findById(savedTask.getId(), Task.class);
+        Task decodedTask = mongoTemplate.getCollection("tasks")
+                .find(new Document(), Task.class)
+                .first();
+
+        assertThat(decodedTask).usingRecursiveComparison().isEqualTo(convertedTask);
+    }
+
+    @Test
+    void givenDocumentWithMissingFields_whenDecodingWithCodec_thenDefaultsOfTaskAreKept() {
+        mongoTemplate.getCollection("tasks").insertOne(new Document("title", "legacy").append("position", 7));
+
+        Task convertedTask = mongoTemplate.findAll(Task.class).get(0);
+        Task decodedTask = mongoTemplate.getCollection("tasks")
+                .find(new Document(), Task.class)
+                .first();
+
+        assertThat(decodedTask)
+                .usingRecursiveComparison()
+                .ignoringFields("createdAt", "updatedAt", "dueDate")
+                .isEqualTo(convertedTask);
+        assertThat(decodedTask.getPosition()).isEqualTo("7");
+    }
+
+    @Test
+    void givenTask_whenEncodingWithCodec_thenConverterReadsSameTask() {
+        Task task = Task.builder()
+                .title("encoded")
+                .status(Status.FINISHED)
+                .position("b")
+                .tags(Set.of("tag"))
+                .columnId("column-id")
+                .build();
+
+        mongoTemplate.getCollection("tasks").withDocumentClass(Task.class).insertOne(task);
+        Task convertedTask = mongoTemplate.findAll(Task.class).get(0);
+
+        assertThat(convertedTask)
+                .usingRecursiveComparison()
+                .ignoringFields("id", "createdAt", "updatedAt", "dueDate")
+                .isEqualTo(task);
+    }
+
+}
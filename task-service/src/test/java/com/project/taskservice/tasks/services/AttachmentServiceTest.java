@@ -0,0 +1,114 @@
+package com.project.taskservice.tasks.services;
+
+import com.mongodb.client.gridfs.GridFSBucket;
+import com.project.taskservice.columns.services.BoardCache;
+import com.project.taskservice.columns.services.BoardChangeLog;
+import com.project.taskservice.exceptions.EntityNotFoundException;
+import com.project.taskservice.exceptions.PayloadTooLargeException;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.AttachmentResponse;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import com.project.taskservice.utils.GridFsFileResource;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import static com.project.taskservice.tasks.testUtils.TaskUtils.AUTHORIZATION_HEADER;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.USER_ID;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.taskBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class AttachmentServiceTest extends MongoDbContainerMock {
+
+    @Autowired
+    private AttachmentService attachmentService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private BoardCache boardCache;
+
+    @Autowired
+    private BoardChangeLog boardChangeLog;
+
+    @Autowired
+    private GridFSBucket attachmentsBucket;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        task = taskRepository.save(taskBuilder("task").build());
+    }
+
+    @Test
+    void givenFileLargerThanChunk_whenUploadAndReadRange_thenRangeHasSameBytes() throws IOException {
+        byte[] content = content(1024 * 1024);
+
+        AttachmentResponse attachment = attachmentService.uploadAttachment(task.getId(), "report.bin", null, -1,
+                new ByteArrayInputStream(content), AUTHORIZATION_HEADER);
+        GridFsFileResource resource = attachmentService.getAttachment(task.getId(), attachment.getId(), AUTHORIZATION_HEADER);
+        ByteArrayOutputStream range = new ByteArrayOutputStream();
+        try (InputStream inputStream = resource.getInputStream()) {
+            StreamUtils.copyRange(inputStream, range, 700_000, 700_099);
+        }
+
+        assertThat(attachment.getLength()).isEqualTo(content.length);
+        assertThat(resource.contentLength()).isEqualTo(content.length);
+        assertThat(range.toByteArray()).isEqualTo(Arrays.copyOfRange(content, 700_000, 700_100));
+        assertThat(taskRepository.findById(task.getId()))
+                .get()
+                .extracting(Task::getAttachments)
+                .asList()
+                .containsExactly(attachment.getId());
+    }
+
+    @Test
+    void givenFileLargerThanLimit_whenUpload_thenItIsRejectedAndNoChunksAreLeft() {
+        AttachmentService limitedAttachmentService = new AttachmentService(attachmentsBucket, mongoTemplate, taskService,
+                userIdResolver, boardCache, boardChangeLog, DataSize.ofKilobytes(300));
+
+        assertThatThrownBy(() -> limitedAttachmentService.uploadAttachment(task.getId(), "large.bin", null, -1,
+                new ByteArrayInputStream(content(400 * 1024)), AUTHORIZATION_HEADER))
+                .isInstanceOf(PayloadTooLargeException.class);
+        assertThat(mongoTemplate.getCollection("attachments.files").countDocuments()).isZero();
+        assertThat(mongoTemplate.getCollection("attachments.chunks").countDocuments()).isZero();
+    }
+
+    @Test
+    void givenAttachmentOfAnotherTask_whenGetAttachment_thenEntityNotFoundExceptionIsThrown() {
+        AttachmentResponse attachment = attachmentService.uploadAttachment(task.getId(), "note.txt", "text/plain", 4,
+                new ByteArrayInputStream("note".getBytes()), AUTHORIZATION_HEADER);
+        Task anotherTask = taskRepository.save(taskBuilder("another task").build());
+
+        assertThatThrownBy(() -> attachmentService.getAttachment(anotherTask.getId(), attachment.getId(), AUTHORIZATION_HEADER))
+                .isInstanceOf(EntityNotFoundException.class);
+        Document metadata = mongoTemplate.getCollection("attachments.files").find().first()
+                .get("metadata", Document.class);
+        assertThat(metadata.getString("taskId")).isEqualTo(task.getId());
+    }
+
+    private byte[] content(int length) {
+        byte[] content = new byte[length];
+        for (int index = 0; index < length; index++) {
+            content[index] = (byte) (index * 31);
+        }
+
+        return content;
+    }
+
+}
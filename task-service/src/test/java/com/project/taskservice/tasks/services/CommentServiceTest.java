@@ -0,0 +1,78 @@
+package com.project.taskservice.tasks.services;
+
+import com.project.taskservice.columns.data.BoardChange;
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.tasks.data.Comment;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.CommentPageResponse;
+import com.project.taskservice.tasks.data.dto.CommentRequest;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.project.taskservice.tasks.testUtils.TaskUtils.AUTHORIZATION_HEADER;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.USER_ID;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.taskBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class CommentServiceTest extends MongoDbContainerMock {
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        task = taskRepository.save(taskBuilder("task").build());
+    }
+
+    @Test
+    void givenComments_whenAddComment_thenCommentCountOfTaskIsIncreased() {
+        Comment comment = commentService.addComment(task.getId(), new CommentRequest("first"), AUTHORIZATION_HEADER);
+        commentService.addComment(task.getId(), new CommentRequest("second"), AUTHORIZATION_HEADER);
+
+        assertThat(comment.getAuthorId()).isEqualTo(USER_ID);
+        assertThat(taskRepository.findById(task.getId()))
+                .get()
+                .extracting(Task::getCommentCount)
+                .isEqualTo(2);
+        assertThat(mongoTemplate.count(Query.query(Criteria.where("entityId").is(task.getId())), BoardChange.class))
+                .isEqualTo(2);
+    }
+
+    @Test
+    void givenMoreCommentsThanLimit_whenGetCommentsByCursor_thenAllCommentsAreReturnedOnceInOrder() {
+        for (int index = 0; index < 7; index++) {
+            commentService.addComment(task.getId(), new CommentRequest("comment-" + index), AUTHORIZATION_HEADER);
+        }
+
+        List<String> texts = new ArrayList<>();
+        String cursor = null;
+        do {
+            CommentPageResponse page = commentService.getComments(task.getId(), cursor, 3, AUTHORIZATION_HEADER);
+            page.getComments().forEach(comment -> texts.add(comment.getText()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(texts).containsExactly("comment-0", "comment-1", "comment-2", "comment-3", "comment-4",
+                "comment-5", "comment-6");
+    }
+
+    @Test
+    void givenBlankText_whenAddComment_thenBadRequestExceptionIsThrown() {
+        assertThatThrownBy(() -> commentService.addComment(task.getId(), new CommentRequest(" "), AUTHORIZATION_HEADER))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+}
@@ -0,0 +1,206 @@
+package com.project.taskservice.tasks.services;
+
+import com.project.taskservice.columns.data.Column;
+import com.project.taskservice.columns.services.ColumnRepository;
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.model.ProjectAccessDto;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.TaskBatchItemResult;
+import com.project.taskservice.tasks.data.dto.TaskBatchResponse;
+import com.project.taskservice.tasks.data.dto.TaskBatchUpdateRequest;
+import com.project.taskservice.tasks.data.dto.TaskBatchUpdateResponse;
+import com.project.taskservice.tasks.data.dto.TaskFilterRequest;
+import com.project.taskservice.tasks.data.dto.TaskRequest;
+import com.project.taskservice.tasks.data.enums.SecurityLevel;
+import com.project.taskservice.tasks.data.enums.Status;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.project.taskservice.tasks.testUtils.TaskUtils.AUTHORIZATION_HEADER;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.PROJECT_ID;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.USER_ID;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.buildTask;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.taskBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TaskBatchServiceTest extends MongoDbContainerMock {
+
+    private static final String FORBIDDEN_PROJECT_ID = "forbidden-project-id";
+
+    @Autowired
+    private TaskBatchService taskBatchService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    private Column column;
+
+    @BeforeEach
+    void setUp() {
+        when(projectAccessService.getAccessibleProjects(anyCollection(), eq(USER_ID)))
+                .thenReturn(Map.of(PROJECT_ID, new ProjectAccessDto(USER_ID, Set.of())));
+        column = columnRepository.save(Column.builder().columnName("column").position("V").projectId(PROJECT_ID).build());
+    }
+
+    @Test
+    void givenValidTasks_whenCreateTasks_thenTasksAreAppendedInRequestOrderAfterExistingOnes() {
+        taskRepository.save(buildTask("existing", column.getId(), "V"));
+        List<TaskRequest> taskRequests = IntStream.range(0, 20)
+                .mapToObj(index -> buildTaskRequest("task-" + index, PROJECT_ID, column.getId()))
+                .toList();
+
+        TaskBatchResponse taskBatchResponse = taskBatchService.createTasks(taskRequests, AUTHORIZATION_HEADER);
+
+        assertThat(taskBatchResponse.getSucceeded()).isEqualTo(20);
+        assertThat(taskBatchResponse.getFailed()).isZero();
+        assertThat(taskBatchResponse.getResults()).extracting(TaskBatchItemResult::getTaskId).doesNotContainNull();
+        List<String> expectedTitles = new ArrayList<>(List.of("existing"));
+        expectedTitles.addAll(taskRequests.stream().map(TaskRequest::getTitle).toList());
+        assertThat(taskRepository.findAll(Sort.by("position")))
+                .extracting(Task::getTitle)
+                .containsExactlyElementsOf(expectedTitles);
+        assertThat(taskRepository.findAll()).allMatch(task -> task.getTitle().equals("existing") ||
+                USER_ID.equals(task.getCreatedById()));
+        verify(projectAccessService, times(1)).getAccessibleProjects(anyCollection(), eq(USER_ID));
+    }
+
+    @Test
+    void givenInvalidItems_whenCreateTasks_thenOnlyValidTasksAreCreatedAndFailuresAreReported() {
+        List<TaskRequest> taskRequests = List.of(
+                buildTaskRequest("valid", PROJECT_ID, column.getId()),
+                buildTaskRequest("forbidden", FORBIDDEN_PROJECT_ID, column.getId()),
+                buildTaskRequest("unknown column", PROJECT_ID, "unknown-column-id"),
+                buildTaskRequest("without project", null, column.getId()));
+
+        TaskBatchResponse taskBatchResponse = taskBatchService.createTasks(taskRequests, AUTHORIZATION_HEADER);
+
+        assertThat(taskBatchResponse.getSucceeded()).isEqualTo(1);
+        assertThat(taskBatchResponse.getFailed()).isEqualTo(3);
+        assertThat(taskBatchResponse.getResults())
+                .extracting(TaskBatchItemResult::getStatus)
+                .containsExactly(201, 403, 400, 400);
+        assertThat(taskRepository.findAll()).extracting(Task::getTitle).containsExactly("valid");
+    }
+
+    @Test
+    void givenTaskIds_whenUpdateTasks_thenPermittedTasksAreChangedAndOthersAreRejected() {
+        Task publicTask = saveTask("public", SecurityLevel.PUBLIC, "another-user-id");
+        Task privateTask = saveTask("private", SecurityLevel.PRIVATE, "another-user-id");
+        when(projectAccessService.getAccessibleProjects(anyCollection(), eq("assignee-id")))
+                .thenReturn(Map.of(PROJECT_ID, new ProjectAccessDto(USER_ID, Set.of("assignee-id"))));
+
+        TaskBatchUpdateResponse taskBatchUpdateResponse = taskBatchService.updateTasks(TaskBatchUpdateRequest.builder()
+                .taskIds(List.of(publicTask.getId(), privateTask.getId(), "unknown-task-id"))
+                .status(Status.FINISHED)
+                .assigneeId("assignee-id")
+                .addTags(Set.of("sprint-1"))
+                .build(), AUTHORIZATION_HEADER);
+
+        assertThat(taskBatchUpdateResponse.getModifiedCount()).isEqualTo(1);
+        assertThat(taskBatchUpdateResponse.getRejected())
+                .extracting(TaskBatchItemResult::getIndex, TaskBatchItemResult::getStatus)
+                .containsExactly(tuple(1, 403), tuple(2, 404));
+        Task updatedTask = taskRepository.findById(publicTask.getId()).orElseThrow();
+        assertThat(updatedTask.getStatus()).isEqualTo(Status.FINISHED);
+        assertThat(updatedTask.getAssigneeId()).isEqualTo("assignee-id");
+        assertThat(updatedTask.getTags()).containsExactlyInAnyOrder("backend", "sprint-1");
+        assertThat(taskRepository.findById(privateTask.getId()).orElseThrow().getStatus()).isEqualTo(Status.IDLE);
+    }
+
+    @Test
+    void givenFilterAndTargetColumn_whenUpdateTasks_thenVisibleMatchingTasksAreMovedInTheirOrder() {
+        Column targetColumn = columnRepository.save(Column.builder().columnName("target").position("k").projectId(PROJECT_ID).build());
+        taskRepository.save(buildTask("existing", targetColumn.getId(), "V"));
+        saveTask("first", SecurityLevel.PUBLIC, USER_ID);
+        saveTask("second", SecurityLevel.PRIVATE, USER_ID);
+        saveTask("hidden", SecurityLevel.PRIVATE, "another-user-id");
+
+        TaskBatchUpdateResponse taskBatchUpdateResponse = taskBatchService.updateTasks(TaskBatchUpdateRequest.builder()
+                .projectId(PROJECT_ID)
+                .filter(TaskFilterRequest.builder().tags(Set.of("backend")).build())
+                .columnId(targetColumn.getId())
+                .removeTags(Set.of("backend"))
+                .build(), AUTHORIZATION_HEADER);
+
+        assertThat(taskBatchUpdateResponse.getModifiedCount()).isEqualTo(2);
+        assertThat(taskRepository.findAll(Sort.by("position")))
+                .filteredOn(task -> targetColumn.getId().equals(task.getColumnId()))
+                .extracting(Task::getTitle)
+                .containsExactly("existing", "first", "second");
+        assertThat(taskRepository.findAll())
+                .filteredOn(task -> task.getTitle().equals("first"))
+                .allMatch(task -> task.getTags().isEmpty());
+    }
+
+    @Test
+    void givenFilterSelectingMoreTasksThanBatch_whenUpdateTasks_thenBadRequestExceptionIsThrownAndNothingIsChanged() {
+        taskRepository.saveAll(IntStream.range(0, 501)
+                .mapToObj(index -> taskBuilder("task " + index)
+                        .status(Status.IDLE)
+                        .position("V")
+                        .columnId(column.getId())
+                        .build())
+                .toList());
+
+        assertThatThrownBy(() -> taskBatchService.updateTasks(TaskBatchUpdateRequest.builder()
+                .projectId(PROJECT_ID)
+                .status(Status.FINISHED)
+                .build(), AUTHORIZATION_HEADER))
+                .isInstanceOf(BadRequestException.class);
+        assertThat(taskRepository.findAll()).allMatch(task -> task.getStatus() == Status.IDLE);
+    }
+
+    @Test
+    void givenAddedAndRemovedTags_whenUpdateTasks_thenBadRequestExceptionIsThrown() {
+        assertThatThrownBy(() -> taskBatchService.updateTasks(TaskBatchUpdateRequest.builder()
+                .taskIds(List.of("task-id"))
+                .addTags(Set.of("added"))
+                .removeTags(Set.of("removed"))
+                .build(), AUTHORIZATION_HEADER))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void givenEmptyBatch_whenCreateTasks_thenBadRequestExceptionIsThrown() {
+        assertThatThrownBy(() -> taskBatchService.createTasks(List.of(), AUTHORIZATION_HEADER))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private Task saveTask(String title, SecurityLevel securityLevel, String createdById) {
+        return taskRepository.save(taskBuilder(title)
+                .securityLevel(securityLevel)
+                .createdById(createdById)
+                .tags(Set.of("backend"))
+                .position(title.equals("second") ? "b" : "a")
+                .columnId(column.getId())
+                .build());
+    }
+
+    private TaskRequest buildTaskRequest(String title, String projectId, String columnId) {
+        return TaskRequest.builder()
+                .title(title)
+                .projectId(projectId)
+                .columnId(columnId)
+                .build();
+    }
+
+}
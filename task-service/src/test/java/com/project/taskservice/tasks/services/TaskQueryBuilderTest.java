@@ -0,0 +1,120 @@
+package com.project.taskservice.tasks.services;
+
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.TaskFilterRequest;
+import com.project.taskservice.tasks.data.dto.TaskPageResponse;
+import com.project.taskservice.tasks.data.enums.Status;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static com.project.taskservice.tasks.testUtils.TaskUtils.taskBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TaskQueryBuilderTest extends MongoDbContainerMock {
+
+    private static final String COLUMN_ID = "column-id";
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskQueryBuilder taskQueryBuilder;
+
+    @Test
+    void givenTasksWithRepeatedPositions_whenReadingAllPages_thenEveryTaskIsReturnedOnceInOrder() {
+        List<Task> savedTasks = taskRepository.saveAll(IntStream.range(0, 7)
+                .mapToObj(index -> buildTask(String.valueOf(index % 3 + 1), LocalDateTime.now().plusDays(index), Status.IDLE))
+                .toList());
+
+        List<Task> readTasks = readAllPages(TaskFilterRequest.builder().limit(2).build());
+
+        assertThat(readTasks)
+                .extracting(Task::getId)
+                .containsExactlyElementsOf(savedTasks.stream()
+                        .sorted(Comparator.comparing(Task::getPosition).thenComparing(Task::getId))
+                        .map(Task::getId)
+                        .toList());
+    }
+
+    @Test
+    void givenTasksWithoutPosition_whenReadingDescendingPages_thenTasksWithoutPositionAreReturnedLast() {
+        taskRepository.saveAll(List.of(buildTask(null, LocalDateTime.now(), Status.IDLE),
+                buildTask("1", LocalDateTime.now(), Status.IDLE),
+                buildTask(null, LocalDateTime.now(), Status.IDLE),
+                buildTask("2", LocalDateTime.now(), Status.IDLE)));
+
+        List<Task> readTasks = readAllPages(TaskFilterRequest.builder().sortOrder(-1).limit(1).build());
+
+        assertThat(readTasks)
+                .extracting(Task::getPosition)
+                .containsExactly("2", "1", null, null);
+    }
+
+    @Test
+    void givenFilterByStatusAndDueDate_whenReadingPages_thenOnlyMatchingTasksAreReturned() {
+        LocalDateTime now = LocalDateTime.now();
+        taskRepository.saveAll(List.of(buildTask("1", now.plusDays(1), Status.STARTED),
+                buildTask("2", now.plusDays(2), Status.IDLE),
+                buildTask("3", now.plusDays(3), Status.STARTED),
+                buildTask("4", now.plusDays(10), Status.STARTED)));
+
+        List<Task> readTasks = readAllPages(TaskFilterRequest.builder()
+                .statuses(Set.of(Status.STARTED))
+                .dueTo(now.plusDays(5))
+                .sortBy("dueDate")
+                .limit(1)
+                .build());
+
+        assertThat(readTasks)
+                .extracting(Task::getPosition)
+                .containsExactly("1", "3");
+    }
+
+    @Test
+    void givenCursorOfDifferentSorting_whenReadingPage_thenBadRequestExceptionIsThrown() {
+        taskRepository.saveAll(List.of(buildTask("1", LocalDateTime.now(), Status.IDLE),
+                buildTask("2", LocalDateTime.now(), Status.IDLE)));
+
+        TaskPageResponse firstPage = taskQueryBuilder.findPage(Criteria.where("columnId").is(COLUMN_ID),
+                TaskFilterRequest.builder().limit(1).build());
+
+        assertThat(firstPage.getNextCursor()).isNotNull();
+        assertThatThrownBy(() -> taskQueryBuilder.findPage(Criteria.where("columnId").is(COLUMN_ID),
+                TaskFilterRequest.builder().sortBy("priority").cursor(firstPage.getNextCursor()).build()))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    private List<Task> readAllPages(TaskFilterRequest taskFilterRequest) {
+        List<Task> readTasks = new ArrayList<>();
+        TaskPageResponse page;
+
+        do {
+            page = taskQueryBuilder.findPage(Criteria.where("columnId").is(COLUMN_ID), taskFilterRequest);
+            readTasks.addAll(page.getTasks());
+            taskFilterRequest.setCursor(page.getNextCursor());
+        } while (page.getNextCursor() != null);
+
+        return readTasks;
+    }
+
+    private Task buildTask(String position, LocalDateTime dueDate, Status status) {
+        return taskBuilder("test")
+                .position(position)
+                .dueDate(dueDate)
+                .status(status)
+                .columnId(COLUMN_ID)
+                .build();
+    }
+
+}
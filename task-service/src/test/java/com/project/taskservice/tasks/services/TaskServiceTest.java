@@ -0,0 +1,152 @@
+package com.project.taskservice.tasks.services;
+
+import com.project.taskservice.columns.data.Column;
+import com.project.taskservice.columns.services.ColumnRepository;
+import com.project.taskservice.exceptions.BadRequestException;
+import com.project.taskservice.exceptions.VersionConflictException;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.dto.TaskMoveRequest;
+import com.project.taskservice.tasks.data.dto.TaskMoveResponse;
+import com.project.taskservice.tasks.data.dto.TaskPatchRequest;
+import com.project.taskservice.tasks.data.enums.Status;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static com.project.taskservice.tasks.testUtils.TaskUtils.AUTHORIZATION_HEADER;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.PROJECT_ID;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.USER_ID;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.buildTask;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TaskServiceTest extends MongoDbContainerMock {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    private Column sourceColumn;
+
+    private Column targetColumn;
+
+    @BeforeEach
+    void setUp() {
+        sourceColumn = columnRepository.save(Column.builder().columnName("source").position("F").projectId(PROJECT_ID).build());
+        targetColumn = columnRepository.save(Column.builder().columnName("target").position("V").projectId(PROJECT_ID).build());
+    }
+
+    @Test
+    void givenNeighboursInAnotherColumn_whenMoveTask_thenTaskIsPlacedBetweenThemAndSiblingsAreNotChanged() {
+        Task movedTask = saveTask("moved", sourceColumn, "V");
+        Task firstTask = saveTask("first", targetColumn, "F");
+        Task secondTask = saveTask("second", targetColumn, "V");
+
+        TaskMoveResponse taskMoveResponse = taskService.moveTask(movedTask.getId(), TaskMoveRequest.builder()
+                .targetColumnId(targetColumn.getId())
+                .beforeTaskId(firstTask.getId())
+                .afterTaskId(secondTask.getId())
+                .build(), AUTHORIZATION_HEADER);
+
+        assertThat(taskMoveResponse.getColumnId()).isEqualTo(targetColumn.getId());
+        assertThat(taskMoveResponse.getBoardVersion()).isNotNull();
+        assertThat(readTitles(targetColumn)).containsExactly("first", "moved", "second");
+        assertThat(taskRepository.findById(firstTask.getId()).orElseThrow().getPosition()).isEqualTo("F");
+        assertThat(taskRepository.findById(secondTask.getId()).orElseThrow().getPosition()).isEqualTo("V");
+    }
+
+    @Test
+    void givenEmptyTargetColumn_whenMoveTask_thenTaskBecomesItsOnlyTask() {
+        Task movedTask = saveTask("moved", sourceColumn, "V");
+
+        taskService.moveTask(movedTask.getId(), TaskMoveRequest.builder()
+                .targetColumnId(targetColumn.getId())
+                .build(), AUTHORIZATION_HEADER);
+
+        assertThat(readTitles(sourceColumn)).isEmpty();
+        assertThat(readTitles(targetColumn)).containsExactly("moved");
+    }
+
+    @Test
+    void givenNeighbourFromAnotherColumn_whenMoveTask_thenBadRequestExceptionIsThrown() {
+        Task movedTask = saveTask("moved", sourceColumn, "V");
+        Task otherTask = saveTask("other", sourceColumn, "k");
+
+        assertThatThrownBy(() -> taskService.moveTask(movedTask.getId(), TaskMoveRequest.builder()
+                .targetColumnId(targetColumn.getId())
+                .beforeTaskId(otherTask.getId())
+                .build(), AUTHORIZATION_HEADER))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void givenCurrentVersion_whenPatchTask_thenOnlySentFieldsAreChangedAndVersionIsIncreased() {
+        Task savedTask = saveTask("task", sourceColumn, "V");
+
+        Task patchedTask = taskService.patchTask(savedTask.getId(), TaskPatchRequest.builder()
+                .status(Status.IN_PROGRESS)
+                .priority(4)
+                .version(savedTask.getVersion())
+                .build(), AUTHORIZATION_HEADER);
+
+        assertThat(patchedTask.getVersion()).isEqualTo(savedTask.getVersion() + 1);
+        assertThat(taskRepository.findById(savedTask.getId()).orElseThrow())
+                .extracting(Task::getTitle, Task::getStatus, Task::getPriority, Task::getPosition)
+                .containsExactly("task", Status.IN_PROGRESS, 4, "V");
+    }
+
+    @Test
+    void givenOutdatedVersion_whenPatchTask_thenVersionConflictExceptionIsThrownAndTaskIsNotChanged() {
+        Task savedTask = saveTask("task", sourceColumn, "V");
+        taskService.patchTask(savedTask.getId(), TaskPatchRequest.builder()
+                .title("first edit")
+                .version(savedTask.getVersion())
+                .build(), AUTHORIZATION_HEADER);
+
+        assertThatThrownBy(() -> taskService.patchTask(savedTask.getId(), TaskPatchRequest.builder()
+                .title("second edit")
+                .version(savedTask.getVersion())
+                .build(), AUTHORIZATION_HEADER))
+                .isInstanceOf(VersionConflictException.class);
+        assertThat(taskRepository.findById(savedTask.getId()).orElseThrow().getTitle()).isEqualTo("first edit");
+    }
+
+    @Test
+    void givenTaskWithoutVersion_whenPatchTaskWithVersionZero_thenTaskIsChanged() {
+        mongoTemplate.insert(new Document("title", "legacy")
+                .append("createdById", USER_ID)
+                .append("projectId", PROJECT_ID), "tasks");
+        Task legacyTask = taskRepository.findAll().get(0);
+
+        Task patchedTask = taskService.patchTask(legacyTask.getId(), TaskPatchRequest.builder()
+                .title("changed")
+                .version(0L)
+                .build(), AUTHORIZATION_HEADER);
+
+        assertThat(patchedTask.getTitle()).isEqualTo("changed");
+        assertThat(patchedTask.getVersion()).isEqualTo(1L);
+    }
+
+    private Task saveTask(String title, Column column, String position) {
+        return taskRepository.save(buildTask(title, column.getId(), position));
+    }
+
+    private List<String> readTitles(Column column) {
+        return taskRepository.findAll(Sort.by("position"))
+                .stream()
+                .filter(task -> column.getId().equals(task.getColumnId()))
+                .map(Task::getTitle)
+                .toList();
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.project.taskservice.tasks.services;
+
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.data.UserTask;
+import com.project.taskservice.tasks.data.dto.TaskFilterRequest;
+import com.project.taskservice.tasks.data.dto.TaskPageResponse;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.project.taskservice.tasks.testUtils.TaskUtils.USER_ID;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.taskBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class UserTaskProjectionTest extends MongoDbContainerMock {
+
+    private static final String ANOTHER_USER_ID = "another-user-id";
+
+    @Autowired
+    private UserTaskProjection userTaskProjection;
+
+    @Autowired
+    private TaskQueryBuilder taskQueryBuilder;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void givenReassignedAndDeletedTasks_whenRefresh_thenEntriesFollowCreatorAndAssignee() {
+        Task reassignedTask = taskRepository.save(buildTask("reassigned", "a", USER_ID, ANOTHER_USER_ID));
+        Task deletedTask = taskRepository.save(buildTask("deleted", "b", USER_ID, null));
+        userTaskProjection.refresh(List.of(reassignedTask.getId(), deletedTask.getId()));
+
+        reassignedTask.setAssigneeId(USER_ID);
+        taskRepository.save(reassignedTask);
+        taskRepository.delete(deletedTask);
+        userTaskProjection.refresh(List.of(reassignedTask.getId(), deletedTask.getId()));
+
+        assertThat(mongoTemplate.findAll(UserTask.class))
+                .extracting(UserTask::getUserId, UserTask::getTaskId)
+                .containsExactly(tuple(USER_ID, reassignedTask.getId()));
+    }
+
+    @Test
+    void givenTasks_whenRebuild_thenEntriesAreTheSameAsRefreshedOnes() {
+        List<Task> tasks = taskRepository.saveAll(List.of(
+                buildTask("first", "a", USER_ID, ANOTHER_USER_ID),
+                buildTask("second", "b", USER_ID, USER_ID),
+                buildTask("third", "c", ANOTHER_USER_ID, null)));
+        userTaskProjection.refresh(tasks.stream().map(Task::getId).toList());
+        List<UserTask> refreshedEntries = mongoTemplate.findAll(UserTask.class);
+
+        long entries = userTaskProjection.rebuild();
+
+        assertThat(entries).isEqualTo(4);
+        assertThat(mongoTemplate.findAll(UserTask.class))
+                .usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(refreshedEntries);
+    }
+
+    @Test
+    void givenCreatedAndAssignedTasks_whenReadingAllUserTaskPages_thenEveryTaskIsReturnedOnceInOrder() {
+        List<Task> tasks = taskRepository.saveAll(IntStream.range(0, 9)
+                .mapToObj(index -> buildTask("task-" + index, String.valueOf(index % 3 + 1),
+                        index % 2 == 0 ? USER_ID : ANOTHER_USER_ID, index % 3 == 0 ? USER_ID : null))
+                .toList());
+        userTaskProjection.refresh(tasks.stream().map(Task::getId).toList());
+
+        List<Task> readTasks = new ArrayList<>();
+        String cursor = null;
+        do {
+            TaskPageResponse page = taskQueryBuilder.findUserTasksPage(USER_ID, TaskFilterRequest.builder()
+                    .limit(2)
+                    .cursor(cursor)
+                    .build());
+            readTasks.addAll(page.getTasks());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(readTasks)
+                .extracting(Task::getTitle)
+                .containsExactly("task-0", "task-3", "task-6", "task-4", "task-2", "task-8");
+    }
+
+    private Task buildTask(String title, String position, String createdById, String assigneeId) {
+        return taskBuilder(title)
+                .position(position)
+                .createdById(createdById)
+                .assigneeId(assigneeId)
+                .columnId("column-id")
+                .build();
+    }
+
+}
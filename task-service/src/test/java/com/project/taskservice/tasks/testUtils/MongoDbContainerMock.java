@@ -1,14 +1,31 @@
 package com.project.taskservice.tasks.testUtils;
 
 import com.project.taskservice.TaskServiceApplication;
+import com.project.taskservice.kafka.KafkaProducerService;
+import com.project.taskservice.projects.services.ProjectAccessService;
+import com.project.taskservice.utils.UserIdResolver;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
-@SpringBootTest(classes = {TaskServiceApplication.class})
+import static com.project.taskservice.tasks.testUtils.TaskUtils.AUTHORIZATION_HEADER;
+import static com.project.taskservice.tasks.testUtils.TaskUtils.USER_ID;
+import static org.mockito.Mockito.when;
+
+/**
+ * base of tests that run against Mongo. Calls to other services are mocked the same way in every test, so all of them
+ * share one application context, and test user is resolved from {@link TaskUtils#AUTHORIZATION_HEADER}
+ */
+@SpringBootTest(classes = {TaskServiceApplication.class}, properties = "due-reminders.enabled=false")
 @Testcontainers
 public class MongoDbContainerMock {
 
@@ -16,6 +33,18 @@ public class MongoDbContainerMock {
     static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:7-jammy")
             .withExposedPorts(27017);
 
+    @MockBean
+    protected UserIdResolver userIdResolver;
+
+    @MockBean
+    protected ProjectAccessService projectAccessService;
+
+    @MockBean
+    protected KafkaProducerService kafkaProducerService;
+
+    @Autowired
+    protected MongoTemplate mongoTemplate;
+
     @DynamicPropertySource
     static void containerProperties(DynamicPropertyRegistry propertyRegistry) {
         mongoDBContainer.start();
@@ -23,4 +52,21 @@ public class MongoDbContainerMock {
         propertyRegistry.add("spring.data.mongodb.port", mongoDBContainer::getFirstMappedPort);
     }
 
+    @BeforeEach
+    void resolveTestUser() {
+        when(userIdResolver.resolveUserId(AUTHORIZATION_HEADER)).thenReturn(USER_ID);
+    }
+
+    /**
+     * documents are removed but collections are kept, so indexes created on startup stay in place
+     */
+    @AfterEach
+    void removeDocuments() {
+        for (String collectionName : mongoTemplate.getCollectionNames()) {
+            if (!collectionName.startsWith("system.")) {
+                mongoTemplate.getCollection(collectionName).deleteMany(new Document());
+            }
+        }
+    }
+
 }
@@ -6,18 +6,46 @@ import java.util.UUID;
 
 public class TaskUtils {
 
+    public static final String PROJECT_ID = "project-id";
+    public static final String USER_ID = "user-id";
+    public static final String AUTHORIZATION_HEADER = "Bearer token";
+
     public static Task buildPersistedTask(String taskId, String createdById) {
         return Task.builder()
                 .id(taskId)
                 .title("test")
                 .description("test task description")
-                .position(0)
+                .position("V")
                 .createdById(createdById)
                 .columnId(generateRandomId())
                 .projectId(generateRandomId())
                 .build();
     }
 
+    /**
+     * @param title represents title of task
+     * @return builder of task created by test user in test project, the rest is set by the test
+     */
+    public static Task.TaskBuilder taskBuilder(String title) {
+        return Task.builder()
+                .title(title)
+                .createdById(USER_ID)
+                .projectId(PROJECT_ID);
+    }
+
+    /**
+     * @param title    represents title of task
+     * @param columnId represents column task is placed in
+     * @param position represents rank key of task in the column
+     * @return task created by test user in test project
+     */
+    public static Task buildTask(String title, String columnId, String position) {
+        return taskBuilder(title)
+                .columnId(columnId)
+                .position(position)
+                .build();
+    }
+
     private static String generateRandomId() {
         return UUID.randomUUID().toString();
     }
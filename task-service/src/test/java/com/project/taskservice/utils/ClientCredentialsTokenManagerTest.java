@@ -0,0 +1,177 @@
+package com.project.taskservice.utils;
+
+import com.project.taskservice.exceptions.TokenInvalidException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.keycloak.admin.client.Keycloak;
+import org.keycloak.admin.client.token.TokenManager;
+import org.keycloak.representations.AccessTokenResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ClientCredentialsTokenManagerTest {
+
+    private static final int CALLERS = 8;
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(Instant.parse("2024-01-01T10:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private Clock clock;
+    private TokenManager keycloakTokenManager;
+    private ClientCredentialsTokenManager tokenManager;
+
+    @BeforeEach
+    void setUp() {
+        Keycloak keycloak = mock(Keycloak.class);
+        keycloakTokenManager = mock(TokenManager.class);
+        when(keycloak.tokenManager()).thenReturn(keycloakTokenManager);
+
+        clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+
+        tokenManager = new ClientCredentialsTokenManager(keycloak, clock, Duration.ofSeconds(30), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenManager.shutdown();
+    }
+
+    @Test
+    void givenConcurrentCallersAndEmptyCache_whenGetAccessToken_thenSingleTokenRequestIsShared() throws Exception {
+        CountDownLatch callersMissedCache = new CountDownLatch(1);
+        when(keycloakTokenManager.grantToken()).thenAnswer(invocation -> {
+            callersMissedCache.await(5, TimeUnit.SECONDS);
+            return buildToken("token", 300);
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<CompletableFuture<String>> tokens = IntStream.range(0, CALLERS)
+                    .mapToObj(index -> CompletableFuture.supplyAsync(tokenManager::getAccessToken, callers))
+                    .toList();
+            waitUntil(() -> meterRegistry.get("feign.client-token.requests")
+                    .tag("result", "miss")
+                    .counter()
+                    .count() == CALLERS);
+            callersMissedCache.countDown();
+
+            assertThat(tokens).allSatisfy(token -> assertThat(token.get(5, TimeUnit.SECONDS)).isEqualTo("token"));
+        } finally {
+            callers.shutdownNow();
+        }
+
+        verify(keycloakTokenManager, times(1)).grantToken();
+    }
+
+    @Test
+    void givenFailingTokenRequest_whenGetAccessToken_thenErrorIsThrownAndNextCallRetries() {
+        when(keycloakTokenManager.grantToken())
+                .thenThrow(new IllegalStateException("keycloak is unavailable"))
+                .thenReturn(buildToken(null, 300))
+                .thenReturn(buildToken("token", 300));
+
+        assertThatThrownBy(() -> tokenManager.getAccessToken())
+                .isInstanceOf(TokenInvalidException.class)
+                .hasMessageContaining("keycloak is unavailable");
+        assertThatThrownBy(() -> tokenManager.getAccessToken())
+                .isInstanceOf(TokenInvalidException.class);
+        assertThat(tokenManager.getAccessToken()).isEqualTo("token");
+        verify(keycloakTokenManager, times(3)).grantToken();
+    }
+
+    @Test
+    void givenCachedToken_whenItApproachesExpiry_thenNewTokenIsRequested() {
+        when(keycloakTokenManager.grantToken())
+                .thenReturn(buildToken("first", 300))
+                .thenReturn(buildToken("second", 300));
+
+        assertThat(tokenManager.getAccessToken()).isEqualTo("first");
+        now.set(now.get().plusSeconds(294));
+        assertThat(tokenManager.getAccessToken()).isEqualTo("first");
+        now.set(now.get().plusSeconds(2));
+        assertThat(tokenManager.getAccessToken()).isEqualTo("second");
+
+        verify(keycloakTokenManager, times(2)).grantToken();
+    }
+
+    @Test
+    void givenTokenCloseToRefreshSkew_whenRefreshIsDue_thenTokenIsRefreshedInBackground() {
+        when(keycloakTokenManager.grantToken())
+                .thenReturn(buildToken("first", 31))
+                .thenReturn(buildToken("second", 300));
+
+        assertThat(tokenManager.getAccessToken()).isEqualTo("first");
+
+        verify(keycloakTokenManager, timeout(5000).times(2)).grantToken();
+        waitUntil(() -> "second".equals(tokenManager.getAccessToken()));
+        assertThat(tokenManager.getAccessToken()).isEqualTo("second");
+    }
+
+    @Test
+    void givenCallerThatMissedCacheWhileTokenWasRefreshed_whenItStartsRefresh_thenRefreshedTokenIsUsed() throws Exception {
+        when(keycloakTokenManager.grantToken())
+                .thenReturn(buildToken("first", 300))
+                .thenReturn(buildToken("second", 300))
+                .thenReturn(buildToken("third", 300));
+        assertThat(tokenManager.getAccessToken()).isEqualTo("first");
+        now.set(now.get().plusSeconds(296));
+
+        CountDownLatch lateCallerReadCache = new CountDownLatch(1);
+        CountDownLatch tokenRefreshed = new CountDownLatch(1);
+        when(clock.instant()).thenAnswer(invocation -> {
+            if (Thread.currentThread().getName().equals("late-caller") && lateCallerReadCache.getCount() > 0) {
+                lateCallerReadCache.countDown();
+                tokenRefreshed.await(5, TimeUnit.SECONDS);
+            }
+            return now.get();
+        });
+
+        CompletableFuture<String> lateCallerToken = new CompletableFuture<>();
+        Thread lateCaller = new Thread(() -> lateCallerToken.complete(tokenManager.getAccessToken()), "late-caller");
+        lateCaller.start();
+        assertThat(lateCallerReadCache.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(tokenManager.getAccessToken()).isEqualTo("second");
+        tokenRefreshed.countDown();
+
+        assertThat(lateCallerToken.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+        verify(keycloakTokenManager, times(2)).grantToken();
+    }
+
+    private void waitUntil(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    private AccessTokenResponse buildToken(String value, long expiresIn) {
+        AccessTokenResponse accessTokenResponse = new AccessTokenResponse();
+        accessTokenResponse.setToken(value);
+        accessTokenResponse.setExpiresIn(expiresIn);
+        return accessTokenResponse;
+    }
+
+}
@@ -0,0 +1,40 @@
+package com.project.taskservice.utils;
+
+import com.mongodb.WriteConcern;
+import com.project.taskservice.tasks.data.Task;
+import com.project.taskservice.tasks.services.TaskRepository;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static com.project.taskservice.tasks.testUtils.TaskUtils.buildTask;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MongoBulkWriterTest extends MongoDbContainerMock {
+
+    @Autowired
+    private MongoBulkWriter mongoBulkWriter;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void givenFieldUpdateOfVersionedDocument_whenWrittenTwice_thenVersionIsIncreasedOnceEachTimeAndUpdateIsLeftAsItIs() {
+        Task task = taskRepository.save(buildTask("task", "column-id", "V"));
+        FieldUpdate fieldUpdate = FieldUpdate.byId(task.getId()).set("title", "renamed").inc("commentCount", 1);
+        Document updateObject = Document.parse(fieldUpdate.getUpdate().getUpdateObject().toJson());
+
+        mongoBulkWriter.write(Task.class, List.of(fieldUpdate), WriteConcern.ACKNOWLEDGED);
+        mongoBulkWriter.write(Task.class, List.of(fieldUpdate), WriteConcern.ACKNOWLEDGED);
+
+        assertThat(fieldUpdate.getUpdate().getUpdateObject()).isEqualTo(updateObject);
+        Task updatedTask = taskRepository.findById(task.getId()).orElseThrow();
+        assertThat(updatedTask.getTitle()).isEqualTo("renamed");
+        assertThat(updatedTask.getCommentCount()).isEqualTo(2);
+        assertThat(updatedTask.getVersion()).isEqualTo(task.getVersion() + 2);
+    }
+
+}
@@ -0,0 +1,158 @@
+package com.project.taskservice.utils;
+
+import com.project.taskservice.columns.data.Column;
+import com.project.taskservice.columns.services.ColumnRepository;
+import com.project.taskservice.exceptions.ConflictException;
+import com.project.taskservice.tasks.testUtils.MongoDbContainerMock;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static com.project.taskservice.tasks.testUtils.TaskUtils.PROJECT_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RankKeyServiceTest extends MongoDbContainerMock {
+
+    @Autowired
+    private RankKeyService rankKeyService;
+
+    @Autowired
+    private ColumnRepository columnRepository;
+
+    @Test
+    void givenColumnsPlacedAtIndexes_whenReadingByPosition_thenRequestedOrderIsKept() {
+        saveColumn("b", null);
+        saveColumn("d", null);
+        saveColumn("a", 0);
+        saveColumn("c", 2);
+        saveColumn("e", 10);
+
+        assertThat(readColumnNames()).containsExactly("a", "b", "c", "d", "e");
+    }
+
+    @Test
+    void givenMovedColumn_whenReadingByPosition_thenOnlyMovedColumnChangesPlace() {
+        List<Column> columns = List.of(saveColumn("a", null), saveColumn("b", null), saveColumn("c", null));
+        Column movedColumn = columns.get(2);
+
+        movedColumn.setPosition(rankKeyService.rankForIndex("columns", projectColumns(), movedColumn.getId(), 1));
+        columnRepository.save(movedColumn);
+
+        assertThat(readColumnNames()).containsExactly("a", "c", "b");
+        assertThat(columnRepository.findById(columns.get(0).getId()).orElseThrow().getPosition())
+                .isEqualTo(columns.get(0).getPosition());
+    }
+
+    @Test
+    void givenLongRankKeys_whenRebalance_thenKeysAreShortenedAndOrderIsKept() {
+        saveColumn("z", null);
+        for (int index = 0; index < 30; index++) {
+            saveColumn(String.valueOf((char) ('y' - index)), 0);
+        }
+        List<String> namesBeforeRebalance = readColumnNames();
+
+        rankKeyService.rebalance("columns", projectColumns());
+
+        assertThat(readColumnNames()).containsExactlyElementsOf(namesBeforeRebalance);
+        assertThat(columnRepository.findAll()).allMatch(column -> column.getPosition().length() <= 1);
+    }
+
+    @Test
+    void givenNeighboursWithTiedKeys_whenPlacingBetweenThem_thenTiedSiblingsAreUntiedAndColumnIsPlaced() {
+        Column first = saveColumnWithKey("first", "F");
+        List<Column> tiedColumns = List.of(saveColumnWithKey("a", "V"), saveColumnWithKey("b", "V"));
+        Column last = saveColumnWithKey("last", "k");
+
+        saveColumn("between a and b", 2);
+
+        assertThat(readColumnNames()).containsExactly("first", "a", "between a and b", "b", "last");
+        assertThat(columnRepository.findById(tiedColumns.get(0).getId()).orElseThrow().getPosition())
+                .isNotEqualTo(columnRepository.findById(tiedColumns.get(1).getId()).orElseThrow().getPosition());
+        assertThat(columnRepository.findById(first.getId()).orElseThrow().getPosition()).isEqualTo("F");
+        assertThat(columnRepository.findById(last.getId()).orElseThrow().getPosition()).isEqualTo("k");
+    }
+
+    @Test
+    void givenColumnPlacedWithOldKeysDuringRebalance_whenRebalanceSettles_thenColumnIsPutBetweenItsNeighbours()
+            throws InterruptedException {
+        List<Column> columns = List.of(saveColumn("a", null), saveColumn("b", null), saveColumn("c", null));
+        String keyBetweenAAndB = RankKeys.between(columns.get(0).getPosition(), columns.get(1).getPosition());
+
+        CompletableFuture<Void> rebalance = CompletableFuture.runAsync(() -> rankKeyService.rebalance("columns", projectColumns()));
+        Thread.sleep(500);
+
+        assertThatThrownBy(() -> rankKeyService.rankForIndex("columns", projectColumns(), null, 1))
+                .isInstanceOf(ConflictException.class);
+        columnRepository.save(Column.builder()
+                .columnName("between a and b")
+                .position(keyBetweenAAndB)
+                .projectId(PROJECT_ID)
+                .build());
+        rebalance.join();
+
+        assertThat(readColumnNames()).containsExactly("a", "between a and b", "b", "c");
+    }
+
+    @Test
+    void givenColumnsWithIntegerPositions_whenPlacingAtIndex_thenGroupIsMigratedAndOrderIsKept() {
+        mongoTemplate.insert(List.of(legacyColumn("a", 9), legacyColumn("b", 10), legacyColumn("c", 20)), "columns");
+
+        saveColumn("between a and b", 1);
+
+        assertThat(readColumnNames()).containsExactly("a", "between a and b", "b", "c");
+        assertThat(mongoTemplate.findAll(Document.class, "columns"))
+                .allMatch(column -> column.get("position") instanceof String);
+    }
+
+    @Test
+    void givenNeighboursWithIntegerPositions_whenRankBetween_thenGroupIsMigratedBeforeRetry() {
+        mongoTemplate.insert(List.of(legacyColumn("a", 0), legacyColumn("b", 10)), "columns");
+
+        assertThatThrownBy(() -> rankKeyService.rankBetween("columns", projectColumns(), "0", "10"))
+                .isInstanceOf(RankKeysReassignedException.class);
+
+        assertThat(readColumnNames()).containsExactly("a", "b");
+        assertThat(mongoTemplate.findAll(Document.class, "columns"))
+                .allMatch(column -> column.get("position") instanceof String);
+    }
+
+    private Column saveColumn(String columnName, Integer index) {
+        return columnRepository.save(Column.builder()
+                .columnName(columnName)
+                .position(rankKeyService.rankForIndex("columns", projectColumns(), null, index))
+                .projectId(PROJECT_ID)
+                .build());
+    }
+
+    private Column saveColumnWithKey(String columnName, String rankKey) {
+        return columnRepository.save(Column.builder()
+                .columnName(columnName)
+                .position(rankKey)
+                .projectId(PROJECT_ID)
+                .build());
+    }
+
+    private Document legacyColumn(String columnName, int position) {
+        return new Document("columnName", columnName)
+                .append("position", position)
+                .append("projectId", PROJECT_ID);
+    }
+
+    private List<String> readColumnNames() {
+        return columnRepository.findAll(Sort.by("position", "id"))
+                .stream()
+                .map(Column::getColumnName)
+                .toList();
+    }
+
+    private Criteria projectColumns() {
+        return Criteria.where("projectId").is(PROJECT_ID);
+    }
+
+}
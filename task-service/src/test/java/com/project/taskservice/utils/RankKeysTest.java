@@ -0,0 +1,62 @@
+package com.project.taskservice.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class RankKeysTest {
+
+    @Test
+    void givenRepeatedInsertsBeforeFirstKey_whenBetween_thenKeysStayOrdered() {
+        List<String> keys = new ArrayList<>(List.of(RankKeys.between(null, null)));
+
+        for (int index = 0; index < 200; index++) {
+            keys.add(0, RankKeys.between(null, keys.get(0)));
+        }
+
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).allMatch(key -> !key.endsWith("0"));
+    }
+
+    @Test
+    void givenRepeatedInsertsBetweenSameNeighbours_whenBetween_thenKeysStayOrdered() {
+        String lower = RankKeys.between(null, null), upper = RankKeys.between(lower, null);
+        List<String> keys = new ArrayList<>(List.of(lower, upper));
+
+        for (int index = 0; index < 200; index++) {
+            upper = RankKeys.between(lower, upper);
+            keys.add(1, upper);
+        }
+
+        assertThat(keys).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void givenCount_whenEvenlySpaced_thenShortOrderedKeysAreReturned() {
+        List<String> keys = RankKeys.evenlySpaced(1000);
+
+        assertThat(keys).hasSize(1000).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).allMatch(key -> key.length() <= 2 && !key.endsWith("0"));
+    }
+
+    @Test
+    void givenLastKey_whenBetweenWithCount_thenShortOrderedKeysAfterItAreReturned() {
+        List<String> keys = RankKeys.between("zz", null, 500);
+
+        assertThat(keys).hasSize(500).isSorted().doesNotHaveDuplicates();
+        assertThat(keys).allMatch(key -> key.compareTo("zz") > 0 && key.length() <= 4 && !key.endsWith("0"));
+    }
+
+    @Test
+    void givenKeysInWrongOrder_whenBetween_thenIllegalArgumentExceptionIsThrown() {
+        assertThatThrownBy(() -> RankKeys.between("b", "a"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> RankKeys.between("a0", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
@@ -0,0 +1,15 @@
+package com.project.userservice.config;
+
+import org.mapstruct.Builder;
+import org.mapstruct.MapperConfig;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * shared settings of generated mappers. Target is created by no-args constructor and null source properties are
+ * copied as null, the same way plain ModelMapper used before did it
+ */
+@MapperConfig(componentModel = "spring",
+        builder = @Builder(disableBuilder = true),
+        unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface MapStructConfig {
+}
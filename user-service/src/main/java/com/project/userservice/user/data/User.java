@@ -6,6 +6,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDate;
@@ -22,11 +23,13 @@ public class User {
 
     private String id;
 
+    @Indexed(name = "username", unique = true)
     private String username;
 
     @JsonIgnore
     private String password;
 
+    @Indexed(name = "email", unique = true, sparse = true)
     private String email;
 
     private boolean emailVerified;
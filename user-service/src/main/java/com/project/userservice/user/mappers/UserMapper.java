@@ -0,0 +1,13 @@
+package com.project.userservice.user.mappers;
+
+import com.project.userservice.config.MapStructConfig;
+import com.project.userservice.user.data.User;
+import com.project.userservice.user.data.dto.response.UserResponse;
+import org.mapstruct.Mapper;
+
+@Mapper(config = MapStructConfig.class)
+public interface UserMapper {
+
+    UserResponse toUserResponse(User user);
+
+}
@@ -2,14 +2,13 @@ package com.project.userservice.utils;
 
 import com.project.userservice.model.TokenResponse;
 import com.project.userservice.user.data.User;
-import com.project.userservice.user.data.dto.response.UserResponse;
+import com.project.userservice.user.mappers.UserMapper;
 import com.project.userservice.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.keycloak.admin.client.Keycloak;
 import org.keycloak.admin.client.KeycloakBuilder;
 import org.keycloak.representations.idm.UserRepresentation;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
@@ -31,7 +30,7 @@ public class KeycloakUtils {
     private final RestTemplate restTemplate;
     private final UserService userService;
     private final JwtUtils jwtUtils;
-    private final ModelMapper modelMapper;
+    private final UserMapper userMapper;
 
     @Value("${keycloak.token.request}")
     private String urlTokenRequest;
@@ -154,7 +153,7 @@ public class KeycloakUtils {
 
         return new TokenResponse(body.get(ACCESS_TOKEN).toString(),
                 body.get(REFRESH_TOKEN).toString(), Long.valueOf(body.get(EXPIRES_IN).toString()),
-                modelMapper.map(obtainedUser, UserResponse.class));
+                userMapper.toUserResponse(obtainedUser));
     }
 
     /**
@@ -0,0 +1,67 @@
+package com.project.userservice.config;
+
+import com.project.userservice.user.data.User;
+import com.project.userservice.user.data.dto.response.UserResponse;
+import com.project.userservice.user.mappers.UserMapper;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.modelmapper.ModelMapper;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * generated mapper replaced plain ModelMapper that {@link BeanConfig} used to provide, it should produce the same
+ * objects, null properties included
+ */
+public class MapperParityTest {
+
+    private final ModelMapper modelMapper = new ModelMapper();
+    private final UserMapper userMapper = Mappers.getMapper(UserMapper.class);
+
+    @Test
+    void givenUser_whenMappedToResponse_thenResultIsSameAsModelMapper() {
+        User user = User.builder()
+                .id("user-id")
+                .username("username")
+                .password("password")
+                .email("user@mail.com")
+                .roles(List.of("ROLE_USER", "ROLE_ADMIN"))
+                .build();
+
+        assertThat(userMapper.toUserResponse(user))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(user, UserResponse.class));
+    }
+
+    @Test
+    void givenUserWithoutEmail_whenMappedToResponse_thenResultIsSameAsModelMapper() {
+        User user = User.builder()
+                .username("username")
+                .email(null)
+                .build();
+
+        assertThat(userMapper.toUserResponse(user))
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(user, UserResponse.class));
+    }
+
+    @Test
+    void givenUserWithoutRoles_whenMappedToResponse_thenNullsAreCopiedAsWithModelMapper() {
+        User user = User.builder()
+                .username(null)
+                .email("user@mail.com")
+                .roles(null)
+                .build();
+
+        UserResponse userResponse = userMapper.toUserResponse(user);
+
+        assertThat(userResponse.getUsername()).isNull();
+        assertThat(userResponse.getRoles()).isNull();
+        assertThat(userResponse)
+                .usingRecursiveComparison()
+                .isEqualTo(modelMapper.map(user, UserResponse.class));
+    }
+
+}
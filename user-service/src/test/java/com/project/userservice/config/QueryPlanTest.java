@@ -0,0 +1,70 @@
+package com.project.userservice.config;
+
+import com.project.userservice.user.data.User;
+import com.project.userservice.user.service.UserRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Import(QueryPlanRecorder.QueryPlanRecorderConfiguration.class)
+public class QueryPlanTest extends MongoDBBaseIntegrationTest {
+
+    @Autowired
+    private QueryPlanRecorder queryPlanRecorder;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private MongoIndexInitializer mongoIndexInitializer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        mongoIndexInitializer.initializeIndexes();
+
+        userRepository.save(User.builder()
+                .username("username")
+                .email("email@email.com")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void givenUserQueries_whenExplained_thenNoCollectionScanIsUsed() {
+        List<Document> commands = queryPlanRecorder.record(() -> {
+            userRepository.findByUsername("username");
+            userRepository.findByEmail("email@email.com");
+        });
+
+        assertThat(commands).hasSize(2);
+        commands.forEach(command -> assertThat(queryPlanRecorder.explain(mongoTemplate, command).toJson())
+                .as("plan of %s", command.toJson())
+                .doesNotContain("COLLSCAN"));
+    }
+
+    @Test
+    void givenUserWithTakenUsername_whenSaveUser_thenDuplicateKeyExceptionIsThrown() {
+        assertThrows(DuplicateKeyException.class, () -> userRepository.save(User.builder()
+                .username("username")
+                .email("another@email.com")
+                .build()));
+    }
+
+}